@@ -15,6 +15,8 @@
  ******************************************************************************/
 package org.raspinloop.fmi;
 
+import java.util.Collections;
+
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -23,13 +25,14 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.raspinloop.fmi.launcher.fmi.FmiProxyServer;
+import org.raspinloop.ipc.IpcSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class FmiMain {
 
 	private static final String ERR_INTERNAL_ERROR = "internal error";
-	
+
 	private static Logger logger = LoggerFactory.getLogger(FmiMain.class);
 
 	public static void main(String[] args) {
@@ -45,11 +48,24 @@ public class FmiMain {
 
 		Option programArgumentOptions = Option.builder("p").hasArg().argName("pargs").desc("arguments for the application to run (quoted)").build();
 
+		Option ipcProtocolOption = Option.builder("r").hasArg().argName("protocol").desc("launcher/runner protocol: binary (default) or compact").build();
+
+		Option ipcFramedOption = Option.builder("f").desc("framed transport between launcher and runner").build();
+
+		Option directOption = Option.builder("d").desc("direct mode: the application serves the simulation tool itself (not with -r, -f)").build();
+
+		Option fmiPortOption = Option.builder("o").hasArg().argName("port")
+				.desc("port the simulation tool connects to, one per simulation instance on the host (default " + FmiProxyServer.DEFAULT_PORT + ", 0 for a free port)").build();
+
 		options.addOption(jSonConfigNameOption);
 		options.addOption(classPathsOption);
 		options.addOption(classNameOption);
 		options.addOption(programArgumentOptions);
 		options.addOption(vMArgumentsOption);
+		options.addOption(directOption);
+		options.addOption(fmiPortOption);
+		options.addOption(ipcProtocolOption);
+		options.addOption(ipcFramedOption);
 
 		CommandLineParser parser = new DefaultParser();
 		HelpFormatter formatter = new HelpFormatter();
@@ -71,10 +87,57 @@ public class FmiMain {
 		String[] classpaths = classPath.split(";");
 		String className = cmd.getOptionValue("m");
 		String programArguments = cmd.getOptionValue("p");
+		int fmiPort;
+		try {
+			fmiPort = Integer.parseInt(cmd.getOptionValue("o", Integer.toString(FmiProxyServer.DEFAULT_PORT)));
+			if (fmiPort < 0 || fmiPort > 0xFFFF)
+				throw new NumberFormatException();
+		} catch (NumberFormatException e) {
+			System.out.println("invalid port: " + cmd.getOptionValue("o"));
+			formatter.printHelp("FmiProxyMain", options);
+
+			System.exit(1);
+			return;
+		}
+
+		if (cmd.hasOption("d") && (cmd.hasOption("r") || cmd.hasOption("f"))) {
+			// the simulation tool (ril_fmi) speaks the default protocol: there is no launcher/runner link to configure
+			System.out.println("-r and -f configure the launcher/runner link, which direct mode (-d) does not use");
+			formatter.printHelp("FmiProxyMain", options);
+
+			System.exit(1);
+			return;
+		}
+
+		if (cmd.hasOption("d")) {
+			// FMI calls go directly to the runner: we only launch it and wait for its end.
+			VMRunner processunderDebug = new VMRunner(jSonConfigName, Collections.singletonMap("fmiPort", Integer.toString(fmiPort)), vMArguments,
+					classpaths, className, programArguments);
+			try {
+				processunderDebug.run();
+				processunderDebug.waitFor();
+			} catch (Exception e) {
+				logger.error("Application interrupted.", e, ERR_INTERNAL_ERROR);
+			}
+			return;
+		}
+
+		IpcSettings ipcSettings;
+		try {
+			ipcSettings = IpcSettings.fromOptions(cmd.getOptionValue("r"), Boolean.toString(cmd.hasOption("f")));
+		} catch (IllegalArgumentException e) {
+			System.out.println(e.getMessage());
+			formatter.printHelp("FmiProxyMain", options);
+
+			System.exit(1);
+			return;
+		}
 
 		FmiProxyMonitor monitor = new FmiProxyMonitor();
 		VMRunner processunderDebug = new VMRunner(jSonConfigName, vMArguments, classpaths, className, programArguments);
+		processunderDebug.setIpcSettings(ipcSettings);
 		FmiProxyServer server = new FmiProxyServer(processunderDebug, monitor);
+		server.setPort(fmiPort);
 		try {
 			server.start();
 		} catch (Exception e) {
@@ -16,13 +16,16 @@
 package org.raspinloop.fmi;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.raspinloop.fmi.launcher.Runner;
+import org.raspinloop.ipc.IpcSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +43,8 @@ public class VMRunner implements Runner {
 	private String programArguments;
 	private String className;
 	private String jSonConfigName;
+	private Map<String, String> agentOptions = new HashMap<>();
+	private IpcSettings ipcSettings = IpcSettings.DEFAULT;
 
 	private Process process;
 
@@ -53,6 +58,32 @@ public class VMRunner implements Runner {
 		this.programArguments = StringUtils.isBlank(programArguments) ? "" : programArguments;
 	}
 
+	public VMRunner(String jSonConfigName, Map<String, String> agentOptions, String vMArguments, String[] classPath, String className, String programArguments) {
+		this(jSonConfigName, vMArguments, classPath, className, programArguments);
+		this.agentOptions.putAll(agentOptions);
+	}
+
+	public void setIpcSettings(IpcSettings ipcSettings) {
+		this.ipcSettings = ipcSettings;
+		agentOptions.putAll(ipcSettings.toAgentOptions());
+	}
+
+	@Override
+	public IpcSettings getIpcSettings() {
+		return ipcSettings;
+	}
+
+	@Override
+	public int getLauncherPort() {
+		// free port chosen by the system: several simulations may run on the same host
+		return 0;
+	}
+
+	@Override
+	public void setLauncherPort(int port) {
+		agentOptions.put("launcherPort", Integer.toString(port));
+	}
+
 	@Override
 	public void run() {
 		String separator = System.getProperty("file.separator");
@@ -60,7 +91,7 @@ public class VMRunner implements Runner {
 
 		ProcessBuilder processBuilder;
 		try {
-			processBuilder = new ProcessBuilder(path, VMRunnerUtils.getRunnerAgentArgument(".", jSonConfigName, false), VMRunnerUtils.getWeaverAgentArgument(".",false), vMArguments, "-cp",
+			processBuilder = new ProcessBuilder(path, VMRunnerUtils.getRunnerAgentArgument(".", jSonConfigName, agentOptions, false), VMRunnerUtils.getWeaverAgentArgument(".",false), vMArguments, "-cp",
 				classPath.stream().collect(Collectors.joining(":")), className, programArguments);
 		}catch (Exception e) {
 			logger.error("Cannot configure process: " + e.getMessage());
@@ -97,6 +128,15 @@ public class VMRunner implements Runner {
 		}
 	}
 
+	/**
+	 * wait for the end of the started JVM.
+	 * @return exit code of the JVM
+	 * @throws InterruptedException
+	 */
+	public int waitFor() throws InterruptedException {
+		return process.waitFor();
+	}
+
 	@Override
 	public void terminate() {
 		process.destroy();
@@ -22,7 +22,7 @@
 package org.raspinloop.fmi;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.10.0)", date = "2017-03-01")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.10.0)", date = "2026-10-17")
 public class CoSimulation {
 
   public interface Iface {
@@ -41,12 +41,18 @@ public class CoSimulation {
 
     public Status terminate(Instance c) throws org.apache.thrift.TException;
 
+    public Changes getChanges(Instance c) throws org.apache.thrift.TException;
+
     public Status reset(Instance c) throws org.apache.thrift.TException;
 
     public void freeInstance(Instance c) throws org.apache.thrift.TException;
 
     public java.util.List<java.lang.Double> getReal(Instance c, java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException;
 
+    public java.util.List<Edge> getEdges(Instance c, java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException;
+
+    public StepResponse stepAndExchange(Instance c, StepRequest request) throws org.apache.thrift.TException;
+
     public java.util.List<java.lang.Integer> getInteger(Instance c, java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException;
 
     public java.util.List<java.lang.Boolean> getBoolean(Instance c, java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException;
@@ -97,12 +103,18 @@ public class CoSimulation {
 
     public void terminate(Instance c, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException;
 
+    public void getChanges(Instance c, org.apache.thrift.async.AsyncMethodCallback<Changes> resultHandler) throws org.apache.thrift.TException;
+
     public void reset(Instance c, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException;
 
     public void freeInstance(Instance c, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void getReal(Instance c, java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>> resultHandler) throws org.apache.thrift.TException;
 
+    public void getEdges(Instance c, java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Edge>> resultHandler) throws org.apache.thrift.TException;
+
+    public void stepAndExchange(Instance c, StepRequest request, org.apache.thrift.async.AsyncMethodCallback<StepResponse> resultHandler) throws org.apache.thrift.TException;
+
     public void getInteger(Instance c, java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> resultHandler) throws org.apache.thrift.TException;
 
     public void getBoolean(Instance c, java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> resultHandler) throws org.apache.thrift.TException;
@@ -326,6 +338,29 @@ public class CoSimulation {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "terminate failed: unknown result");
     }
 
+    public Changes getChanges(Instance c) throws org.apache.thrift.TException
+    {
+      send_getChanges(c);
+      return recv_getChanges();
+    }
+
+    public void send_getChanges(Instance c) throws org.apache.thrift.TException
+    {
+      getChanges_args args = new getChanges_args();
+      args.setC(c);
+      sendBase("getChanges", args);
+    }
+
+    public Changes recv_getChanges() throws org.apache.thrift.TException
+    {
+      getChanges_result result = new getChanges_result();
+      receiveBase(result, "getChanges");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getChanges failed: unknown result");
+    }
+
     public Status reset(Instance c) throws org.apache.thrift.TException
     {
       send_reset(c);
@@ -393,6 +428,54 @@ public class CoSimulation {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getReal failed: unknown result");
     }
 
+    public java.util.List<Edge> getEdges(Instance c, java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException
+    {
+      send_getEdges(c, refs);
+      return recv_getEdges();
+    }
+
+    public void send_getEdges(Instance c, java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException
+    {
+      getEdges_args args = new getEdges_args();
+      args.setC(c);
+      args.setRefs(refs);
+      sendBase("getEdges", args);
+    }
+
+    public java.util.List<Edge> recv_getEdges() throws org.apache.thrift.TException
+    {
+      getEdges_result result = new getEdges_result();
+      receiveBase(result, "getEdges");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getEdges failed: unknown result");
+    }
+
+    public StepResponse stepAndExchange(Instance c, StepRequest request) throws org.apache.thrift.TException
+    {
+      send_stepAndExchange(c, request);
+      return recv_stepAndExchange();
+    }
+
+    public void send_stepAndExchange(Instance c, StepRequest request) throws org.apache.thrift.TException
+    {
+      stepAndExchange_args args = new stepAndExchange_args();
+      args.setC(c);
+      args.setRequest(request);
+      sendBase("stepAndExchange", args);
+    }
+
+    public StepResponse recv_stepAndExchange() throws org.apache.thrift.TException
+    {
+      stepAndExchange_result result = new stepAndExchange_result();
+      receiveBase(result, "stepAndExchange");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "stepAndExchange failed: unknown result");
+    }
+
     public java.util.List<java.lang.Integer> getInteger(Instance c, java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException
     {
       send_getInteger(c, refs);
@@ -1046,6 +1129,38 @@ public class CoSimulation {
       }
     }
 
+    public void getChanges(Instance c, org.apache.thrift.async.AsyncMethodCallback<Changes> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getChanges_call method_call = new getChanges_call(c, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getChanges_call extends org.apache.thrift.async.TAsyncMethodCall<Changes> {
+      private Instance c;
+      public getChanges_call(Instance c, org.apache.thrift.async.AsyncMethodCallback<Changes> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.c = c;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getChanges", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getChanges_args args = new getChanges_args();
+        args.setC(c);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Changes getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getChanges();
+      }
+    }
+
     public void reset(Instance c, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       reset_call method_call = new reset_call(c, resultHandler, this, ___protocolFactory, ___transport);
@@ -1145,6 +1260,76 @@ public class CoSimulation {
       }
     }
 
+    public void getEdges(Instance c, java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Edge>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getEdges_call method_call = new getEdges_call(c, refs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getEdges_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<Edge>> {
+      private Instance c;
+      private java.util.List<java.lang.Integer> refs;
+      public getEdges_call(Instance c, java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Edge>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.c = c;
+        this.refs = refs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getEdges", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getEdges_args args = new getEdges_args();
+        args.setC(c);
+        args.setRefs(refs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<Edge> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getEdges();
+      }
+    }
+
+    public void stepAndExchange(Instance c, StepRequest request, org.apache.thrift.async.AsyncMethodCallback<StepResponse> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      stepAndExchange_call method_call = new stepAndExchange_call(c, request, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class stepAndExchange_call extends org.apache.thrift.async.TAsyncMethodCall<StepResponse> {
+      private Instance c;
+      private StepRequest request;
+      public stepAndExchange_call(Instance c, StepRequest request, org.apache.thrift.async.AsyncMethodCallback<StepResponse> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.c = c;
+        this.request = request;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("stepAndExchange", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        stepAndExchange_args args = new stepAndExchange_args();
+        args.setC(c);
+        args.setRequest(request);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public StepResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_stepAndExchange();
+      }
+    }
+
     public void getInteger(Instance c, java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getInteger_call method_call = new getInteger_call(c, refs, resultHandler, this, ___protocolFactory, ___transport);
@@ -1734,9 +1919,12 @@ public class CoSimulation {
       processMap.put("enterInitializationMode", new enterInitializationMode());
       processMap.put("exitInitializationMode", new exitInitializationMode());
       processMap.put("terminate", new terminate());
+      processMap.put("getChanges", new getChanges());
       processMap.put("reset", new reset());
       processMap.put("freeInstance", new freeInstance());
       processMap.put("getReal", new getReal());
+      processMap.put("getEdges", new getEdges());
+      processMap.put("stepAndExchange", new stepAndExchange());
       processMap.put("getInteger", new getInteger());
       processMap.put("getBoolean", new getBoolean());
       processMap.put("getString", new getString());
@@ -1896,6 +2084,26 @@ public class CoSimulation {
       }
     }
 
+    public static class getChanges<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getChanges_args> {
+      public getChanges() {
+        super("getChanges");
+      }
+
+      public getChanges_args getEmptyArgsInstance() {
+        return new getChanges_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getChanges_result getResult(I iface, getChanges_args args) throws org.apache.thrift.TException {
+        getChanges_result result = new getChanges_result();
+        result.success = iface.getChanges(args.c);
+        return result;
+      }
+    }
+
     public static class reset<I extends Iface> extends org.apache.thrift.ProcessFunction<I, reset_args> {
       public reset() {
         super("reset");
@@ -1956,6 +2164,46 @@ public class CoSimulation {
       }
     }
 
+    public static class getEdges<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getEdges_args> {
+      public getEdges() {
+        super("getEdges");
+      }
+
+      public getEdges_args getEmptyArgsInstance() {
+        return new getEdges_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getEdges_result getResult(I iface, getEdges_args args) throws org.apache.thrift.TException {
+        getEdges_result result = new getEdges_result();
+        result.success = iface.getEdges(args.c, args.refs);
+        return result;
+      }
+    }
+
+    public static class stepAndExchange<I extends Iface> extends org.apache.thrift.ProcessFunction<I, stepAndExchange_args> {
+      public stepAndExchange() {
+        super("stepAndExchange");
+      }
+
+      public stepAndExchange_args getEmptyArgsInstance() {
+        return new stepAndExchange_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public stepAndExchange_result getResult(I iface, stepAndExchange_args args) throws org.apache.thrift.TException {
+        stepAndExchange_result result = new stepAndExchange_result();
+        result.success = iface.stepAndExchange(args.c, args.request);
+        return result;
+      }
+    }
+
     public static class getInteger<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getInteger_args> {
       public getInteger() {
         super("getInteger");
@@ -2299,9 +2547,12 @@ public class CoSimulation {
       processMap.put("enterInitializationMode", new enterInitializationMode());
       processMap.put("exitInitializationMode", new exitInitializationMode());
       processMap.put("terminate", new terminate());
+      processMap.put("getChanges", new getChanges());
       processMap.put("reset", new reset());
       processMap.put("freeInstance", new freeInstance());
       processMap.put("getReal", new getReal());
+      processMap.put("getEdges", new getEdges());
+      processMap.put("stepAndExchange", new stepAndExchange());
       processMap.put("getInteger", new getInteger());
       processMap.put("getBoolean", new getBoolean());
       processMap.put("getString", new getString());
@@ -2748,6 +2999,67 @@ public class CoSimulation {
       }
     }
 
+    public static class getChanges<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getChanges_args, Changes> {
+      public getChanges() {
+        super("getChanges");
+      }
+
+      public getChanges_args getEmptyArgsInstance() {
+        return new getChanges_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Changes> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Changes>() { 
+          public void onComplete(Changes o) {
+            getChanges_result result = new getChanges_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getChanges_result result = new getChanges_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getChanges_args args, org.apache.thrift.async.AsyncMethodCallback<Changes> resultHandler) throws org.apache.thrift.TException {
+        iface.getChanges(args.c,resultHandler);
+      }
+    }
+
     public static class reset<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, reset_args, Status> {
       public reset() {
         super("reset");
@@ -2930,20 +3242,20 @@ public class CoSimulation {
       }
     }
 
-    public static class getInteger<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getInteger_args, java.util.List<java.lang.Integer>> {
-      public getInteger() {
-        super("getInteger");
+    public static class getEdges<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEdges_args, java.util.List<Edge>> {
+      public getEdges() {
+        super("getEdges");
       }
 
-      public getInteger_args getEmptyArgsInstance() {
-        return new getInteger_args();
+      public getEdges_args getEmptyArgsInstance() {
+        return new getEdges_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<Edge>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>>() { 
-          public void onComplete(java.util.List<java.lang.Integer> o) {
-            getInteger_result result = new getInteger_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<Edge>>() { 
+          public void onComplete(java.util.List<Edge> o) {
+            getEdges_result result = new getEdges_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2958,7 +3270,7 @@ public class CoSimulation {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getInteger_result result = new getInteger_result();
+            getEdges_result result = new getEdges_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -2986,25 +3298,25 @@ public class CoSimulation {
         return false;
       }
 
-      public void start(I iface, getInteger_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> resultHandler) throws org.apache.thrift.TException {
-        iface.getInteger(args.c, args.refs,resultHandler);
+      public void start(I iface, getEdges_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<Edge>> resultHandler) throws org.apache.thrift.TException {
+        iface.getEdges(args.c, args.refs,resultHandler);
       }
     }
 
-    public static class getBoolean<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBoolean_args, java.util.List<java.lang.Boolean>> {
-      public getBoolean() {
-        super("getBoolean");
+    public static class stepAndExchange<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, stepAndExchange_args, StepResponse> {
+      public stepAndExchange() {
+        super("stepAndExchange");
       }
 
-      public getBoolean_args getEmptyArgsInstance() {
-        return new getBoolean_args();
+      public stepAndExchange_args getEmptyArgsInstance() {
+        return new stepAndExchange_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<StepResponse> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>>() { 
-          public void onComplete(java.util.List<java.lang.Boolean> o) {
-            getBoolean_result result = new getBoolean_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<StepResponse>() { 
+          public void onComplete(StepResponse o) {
+            stepAndExchange_result result = new stepAndExchange_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -3019,7 +3331,7 @@ public class CoSimulation {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getBoolean_result result = new getBoolean_result();
+            stepAndExchange_result result = new stepAndExchange_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -3047,25 +3359,25 @@ public class CoSimulation {
         return false;
       }
 
-      public void start(I iface, getBoolean_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> resultHandler) throws org.apache.thrift.TException {
-        iface.getBoolean(args.c, args.refs,resultHandler);
+      public void start(I iface, stepAndExchange_args args, org.apache.thrift.async.AsyncMethodCallback<StepResponse> resultHandler) throws org.apache.thrift.TException {
+        iface.stepAndExchange(args.c, args.request,resultHandler);
       }
     }
 
-    public static class getString<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getString_args, java.util.List<java.lang.String>> {
-      public getString() {
-        super("getString");
+    public static class getInteger<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getInteger_args, java.util.List<java.lang.Integer>> {
+      public getInteger() {
+        super("getInteger");
       }
 
-      public getString_args getEmptyArgsInstance() {
-        return new getString_args();
+      public getInteger_args getEmptyArgsInstance() {
+        return new getInteger_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
-          public void onComplete(java.util.List<java.lang.String> o) {
-            getString_result result = new getString_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>>() { 
+          public void onComplete(java.util.List<java.lang.Integer> o) {
+            getInteger_result result = new getInteger_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -3080,7 +3392,7 @@ public class CoSimulation {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getString_result result = new getString_result();
+            getInteger_result result = new getInteger_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -3108,13 +3420,135 @@ public class CoSimulation {
         return false;
       }
 
-      public void start(I iface, getString_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
-        iface.getString(args.c, args.refs,resultHandler);
+      public void start(I iface, getInteger_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> resultHandler) throws org.apache.thrift.TException {
+        iface.getInteger(args.c, args.refs,resultHandler);
       }
     }
 
-    public static class setReal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setReal_args, Status> {
-      public setReal() {
+    public static class getBoolean<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBoolean_args, java.util.List<java.lang.Boolean>> {
+      public getBoolean() {
+        super("getBoolean");
+      }
+
+      public getBoolean_args getEmptyArgsInstance() {
+        return new getBoolean_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>>() { 
+          public void onComplete(java.util.List<java.lang.Boolean> o) {
+            getBoolean_result result = new getBoolean_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getBoolean_result result = new getBoolean_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getBoolean_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> resultHandler) throws org.apache.thrift.TException {
+        iface.getBoolean(args.c, args.refs,resultHandler);
+      }
+    }
+
+    public static class getString<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getString_args, java.util.List<java.lang.String>> {
+      public getString() {
+        super("getString");
+      }
+
+      public getString_args getEmptyArgsInstance() {
+        return new getString_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
+          public void onComplete(java.util.List<java.lang.String> o) {
+            getString_result result = new getString_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getString_result result = new getString_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getString_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+        iface.getString(args.c, args.refs,resultHandler);
+      }
+    }
+
+    public static class setReal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setReal_args, Status> {
+      public setReal() {
         super("setReal");
       }
 
@@ -9474,27 +9908,19 @@ public class CoSimulation {
     }
   }
 
-  public static class terminate_result implements org.apache.thrift.TBase<terminate_result, terminate_result._Fields>, java.io.Serializable, Cloneable, Comparable<terminate_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("terminate_result");
+  public static class getChanges_args implements org.apache.thrift.TBase<getChanges_args, getChanges_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChanges_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChanges_args");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+    private static final org.apache.thrift.protocol.TField C_FIELD_DESC = new org.apache.thrift.protocol.TField("c", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new terminate_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new terminate_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChanges_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChanges_argsTupleSchemeFactory();
 
-    /**
-     * 
-     * @see Status
-     */
-    public Status success; // required
+    public Instance c; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      /**
-       * 
-       * @see Status
-       */
-      SUCCESS((short)0, "success");
+      C((short)1, "c");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9509,8 +9935,8 @@ public class CoSimulation {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
+          case 1: // C
+            return C;
           default:
             return null;
         }
@@ -9554,79 +9980,71 @@ public class CoSimulation {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Status.class)));
+      tmpMap.put(_Fields.C, new org.apache.thrift.meta_data.FieldMetaData("c", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Instance.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(terminate_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChanges_args.class, metaDataMap);
     }
 
-    public terminate_result() {
+    public getChanges_args() {
     }
 
-    public terminate_result(
-      Status success)
+    public getChanges_args(
+      Instance c)
     {
       this();
-      this.success = success;
+      this.c = c;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public terminate_result(terminate_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
+    public getChanges_args(getChanges_args other) {
+      if (other.isSetC()) {
+        this.c = new Instance(other.c);
       }
     }
 
-    public terminate_result deepCopy() {
-      return new terminate_result(this);
+    public getChanges_args deepCopy() {
+      return new getChanges_args(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      this.c = null;
     }
 
-    /**
-     * 
-     * @see Status
-     */
-    public Status getSuccess() {
-      return this.success;
+    public Instance getC() {
+      return this.c;
     }
 
-    /**
-     * 
-     * @see Status
-     */
-    public terminate_result setSuccess(Status success) {
-      this.success = success;
+    public getChanges_args setC(Instance c) {
+      this.c = c;
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetC() {
+      this.c = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field c is set (has been assigned a value) and false otherwise */
+    public boolean isSetC() {
+      return this.c != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
+    public void setCIsSet(boolean value) {
       if (!value) {
-        this.success = null;
+        this.c = null;
       }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
+      case C:
         if (value == null) {
-          unsetSuccess();
+          unsetC();
         } else {
-          setSuccess((Status)value);
+          setC((Instance)value);
         }
         break;
 
@@ -9635,8 +10053,8 @@ public class CoSimulation {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
+      case C:
+        return getC();
 
       }
       throw new java.lang.IllegalStateException();
@@ -9649,8 +10067,8 @@ public class CoSimulation {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
+      case C:
+        return isSetC();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9659,23 +10077,23 @@ public class CoSimulation {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof terminate_result)
-        return this.equals((terminate_result)that);
+      if (that instanceof getChanges_args)
+        return this.equals((getChanges_args)that);
       return false;
     }
 
-    public boolean equals(terminate_result that) {
+    public boolean equals(getChanges_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
+      boolean this_present_c = true && this.isSetC();
+      boolean that_present_c = true && that.isSetC();
+      if (this_present_c || that_present_c) {
+        if (!(this_present_c && that_present_c))
           return false;
-        if (!this.success.equals(that.success))
+        if (!this.c.equals(that.c))
           return false;
       }
 
@@ -9686,27 +10104,27 @@ public class CoSimulation {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.getValue();
+      hashCode = hashCode * 8191 + ((isSetC()) ? 131071 : 524287);
+      if (isSetC())
+        hashCode = hashCode * 8191 + c.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(terminate_result other) {
+    public int compareTo(getChanges_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      lastComparison = java.lang.Boolean.valueOf(isSetC()).compareTo(other.isSetC());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.c, other.c);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9724,18 +10142,18 @@ public class CoSimulation {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("terminate_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChanges_args(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
+      sb.append("c:");
+      if (this.c == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        sb.append(this.c);
       }
       first = false;
       sb.append(")");
@@ -9745,6 +10163,9 @@ public class CoSimulation {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (c != null) {
+        c.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -9763,15 +10184,15 @@ public class CoSimulation {
       }
     }
 
-    private static class terminate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public terminate_resultStandardScheme getScheme() {
-        return new terminate_resultStandardScheme();
+    private static class getChanges_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChanges_argsStandardScheme getScheme() {
+        return new getChanges_argsStandardScheme();
       }
     }
 
-    private static class terminate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<terminate_result> {
+    private static class getChanges_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChanges_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, terminate_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChanges_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9781,10 +10202,11 @@ public class CoSimulation {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = org.raspinloop.fmi.Status.findByValue(iprot.readI32());
-                struct.setSuccessIsSet(true);
+            case 1: // C
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.c = new Instance();
+                struct.c.read(iprot);
+                struct.setCIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -9800,13 +10222,13 @@ public class CoSimulation {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, terminate_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChanges_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success.getValue());
+        if (struct.c != null) {
+          oprot.writeFieldBegin(C_FIELD_DESC);
+          struct.c.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -9815,34 +10237,35 @@ public class CoSimulation {
 
     }
 
-    private static class terminate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public terminate_resultTupleScheme getScheme() {
-        return new terminate_resultTupleScheme();
+    private static class getChanges_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChanges_argsTupleScheme getScheme() {
+        return new getChanges_argsTupleScheme();
       }
     }
 
-    private static class terminate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<terminate_result> {
+    private static class getChanges_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChanges_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, terminate_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChanges_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetC()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success.getValue());
+        if (struct.isSetC()) {
+          struct.c.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, terminate_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChanges_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = org.raspinloop.fmi.Status.findByValue(iprot.readI32());
-          struct.setSuccessIsSet(true);
+          struct.c = new Instance();
+          struct.c.read(iprot);
+          struct.setCIsSet(true);
         }
       }
     }
@@ -9852,19 +10275,27 @@ public class CoSimulation {
     }
   }
 
-  public static class reset_args implements org.apache.thrift.TBase<reset_args, reset_args._Fields>, java.io.Serializable, Cloneable, Comparable<reset_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reset_args");
+  public static class terminate_result implements org.apache.thrift.TBase<terminate_result, terminate_result._Fields>, java.io.Serializable, Cloneable, Comparable<terminate_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("terminate_result");
 
-    private static final org.apache.thrift.protocol.TField C_FIELD_DESC = new org.apache.thrift.protocol.TField("c", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new reset_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new reset_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new terminate_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new terminate_resultTupleSchemeFactory();
 
-    public Instance c; // required
+    /**
+     * 
+     * @see Status
+     */
+    public Status success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      C((short)1, "c");
+      /**
+       * 
+       * @see Status
+       */
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9879,8 +10310,8 @@ public class CoSimulation {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // C
-            return C;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -9924,71 +10355,79 @@ public class CoSimulation {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.C, new org.apache.thrift.meta_data.FieldMetaData("c", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Instance.class)));
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Status.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reset_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(terminate_result.class, metaDataMap);
     }
 
-    public reset_args() {
+    public terminate_result() {
     }
 
-    public reset_args(
-      Instance c)
+    public terminate_result(
+      Status success)
     {
       this();
-      this.c = c;
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public reset_args(reset_args other) {
-      if (other.isSetC()) {
-        this.c = new Instance(other.c);
+    public terminate_result(terminate_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
       }
     }
 
-    public reset_args deepCopy() {
-      return new reset_args(this);
+    public terminate_result deepCopy() {
+      return new terminate_result(this);
     }
 
     @Override
     public void clear() {
-      this.c = null;
+      this.success = null;
     }
 
-    public Instance getC() {
-      return this.c;
+    /**
+     * 
+     * @see Status
+     */
+    public Status getSuccess() {
+      return this.success;
     }
 
-    public reset_args setC(Instance c) {
-      this.c = c;
+    /**
+     * 
+     * @see Status
+     */
+    public terminate_result setSuccess(Status success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetC() {
-      this.c = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field c is set (has been assigned a value) and false otherwise */
-    public boolean isSetC() {
-      return this.c != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setCIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.c = null;
+        this.success = null;
       }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case C:
+      case SUCCESS:
         if (value == null) {
-          unsetC();
+          unsetSuccess();
         } else {
-          setC((Instance)value);
+          setSuccess((Status)value);
         }
         break;
 
@@ -9997,8 +10436,8 @@ public class CoSimulation {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case C:
-        return getC();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -10011,8 +10450,8 @@ public class CoSimulation {
       }
 
       switch (field) {
-      case C:
-        return isSetC();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10021,23 +10460,23 @@ public class CoSimulation {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof reset_args)
-        return this.equals((reset_args)that);
+      if (that instanceof terminate_result)
+        return this.equals((terminate_result)that);
       return false;
     }
 
-    public boolean equals(reset_args that) {
+    public boolean equals(terminate_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_c = true && this.isSetC();
-      boolean that_present_c = true && that.isSetC();
-      if (this_present_c || that_present_c) {
-        if (!(this_present_c && that_present_c))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.c.equals(that.c))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -10048,27 +10487,27 @@ public class CoSimulation {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetC()) ? 131071 : 524287);
-      if (isSetC())
-        hashCode = hashCode * 8191 + c.hashCode();
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.getValue();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(reset_args other) {
+    public int compareTo(terminate_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetC()).compareTo(other.isSetC());
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetC()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.c, other.c);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10086,18 +10525,18 @@ public class CoSimulation {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("reset_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("terminate_result(");
       boolean first = true;
 
-      sb.append("c:");
-      if (this.c == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.c);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -10107,9 +10546,6 @@ public class CoSimulation {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (c != null) {
-        c.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -10128,15 +10564,15 @@ public class CoSimulation {
       }
     }
 
-    private static class reset_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public reset_argsStandardScheme getScheme() {
-        return new reset_argsStandardScheme();
+    private static class terminate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public terminate_resultStandardScheme getScheme() {
+        return new terminate_resultStandardScheme();
       }
     }
 
-    private static class reset_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<reset_args> {
+    private static class terminate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<terminate_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, reset_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, terminate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10146,11 +10582,10 @@ public class CoSimulation {
             break;
           }
           switch (schemeField.id) {
-            case 1: // C
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.c = new Instance();
-                struct.c.read(iprot);
-                struct.setCIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = org.raspinloop.fmi.Status.findByValue(iprot.readI32());
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10166,13 +10601,13 @@ public class CoSimulation {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, reset_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, terminate_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.c != null) {
-          oprot.writeFieldBegin(C_FIELD_DESC);
-          struct.c.write(oprot);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI32(struct.success.getValue());
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10181,35 +10616,34 @@ public class CoSimulation {
 
     }
 
-    private static class reset_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public reset_argsTupleScheme getScheme() {
-        return new reset_argsTupleScheme();
+    private static class terminate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public terminate_resultTupleScheme getScheme() {
+        return new terminate_resultTupleScheme();
       }
     }
 
-    private static class reset_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<reset_args> {
+    private static class terminate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<terminate_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, reset_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, terminate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetC()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetC()) {
-          struct.c.write(oprot);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success.getValue());
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, reset_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, terminate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.c = new Instance();
-          struct.c.read(iprot);
-          struct.setCIsSet(true);
+          struct.success = org.raspinloop.fmi.Status.findByValue(iprot.readI32());
+          struct.setSuccessIsSet(true);
         }
       }
     }
@@ -10219,26 +10653,18 @@ public class CoSimulation {
     }
   }
 
-  public static class reset_result implements org.apache.thrift.TBase<reset_result, reset_result._Fields>, java.io.Serializable, Cloneable, Comparable<reset_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reset_result");
+  public static class getChanges_result implements org.apache.thrift.TBase<getChanges_result, getChanges_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChanges_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChanges_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new reset_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new reset_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChanges_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChanges_resultTupleSchemeFactory();
 
-    /**
-     * 
-     * @see Status
-     */
-    public Status success; // required
+    public Changes success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      /**
-       * 
-       * @see Status
-       */
       SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
@@ -10300,16 +10726,16 @@ public class CoSimulation {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Status.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Changes.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reset_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChanges_result.class, metaDataMap);
     }
 
-    public reset_result() {
+    public getChanges_result() {
     }
 
-    public reset_result(
-      Status success)
+    public getChanges_result(
+      Changes success)
     {
       this();
       this.success = success;
@@ -10318,14 +10744,14 @@ public class CoSimulation {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public reset_result(reset_result other) {
+    public getChanges_result(getChanges_result other) {
       if (other.isSetSuccess()) {
-        this.success = other.success;
+        this.success = new Changes(other.success);
       }
     }
 
-    public reset_result deepCopy() {
-      return new reset_result(this);
+    public getChanges_result deepCopy() {
+      return new getChanges_result(this);
     }
 
     @Override
@@ -10333,19 +10759,11 @@ public class CoSimulation {
       this.success = null;
     }
 
-    /**
-     * 
-     * @see Status
-     */
-    public Status getSuccess() {
+    public Changes getSuccess() {
       return this.success;
     }
 
-    /**
-     * 
-     * @see Status
-     */
-    public reset_result setSuccess(Status success) {
+    public getChanges_result setSuccess(Changes success) {
       this.success = success;
       return this;
     }
@@ -10371,7 +10789,7 @@ public class CoSimulation {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Status)value);
+          setSuccess((Changes)value);
         }
         break;
 
@@ -10404,12 +10822,12 @@ public class CoSimulation {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof reset_result)
-        return this.equals((reset_result)that);
+      if (that instanceof getChanges_result)
+        return this.equals((getChanges_result)that);
       return false;
     }
 
-    public boolean equals(reset_result that) {
+    public boolean equals(getChanges_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -10433,13 +10851,13 @@ public class CoSimulation {
 
       hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
       if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.getValue();
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(reset_result other) {
+    public int compareTo(getChanges_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10473,7 +10891,7 @@ public class CoSimulation {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("reset_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChanges_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -10490,6 +10908,9 @@ public class CoSimulation {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -10508,15 +10929,15 @@ public class CoSimulation {
       }
     }
 
-    private static class reset_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public reset_resultStandardScheme getScheme() {
-        return new reset_resultStandardScheme();
+    private static class getChanges_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChanges_resultStandardScheme getScheme() {
+        return new getChanges_resultStandardScheme();
       }
     }
 
-    private static class reset_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<reset_result> {
+    private static class getChanges_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChanges_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, reset_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChanges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10527,8 +10948,9 @@ public class CoSimulation {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = org.raspinloop.fmi.Status.findByValue(iprot.readI32());
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new Changes();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -10545,13 +10967,13 @@ public class CoSimulation {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, reset_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChanges_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success.getValue());
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10560,16 +10982,16 @@ public class CoSimulation {
 
     }
 
-    private static class reset_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public reset_resultTupleScheme getScheme() {
-        return new reset_resultTupleScheme();
+    private static class getChanges_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChanges_resultTupleScheme getScheme() {
+        return new getChanges_resultTupleScheme();
       }
     }
 
-    private static class reset_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<reset_result> {
+    private static class getChanges_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChanges_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, reset_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChanges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -10577,16 +10999,17 @@ public class CoSimulation {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success.getValue());
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, reset_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChanges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = org.raspinloop.fmi.Status.findByValue(iprot.readI32());
+          struct.success = new Changes();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
@@ -10597,13 +11020,13 @@ public class CoSimulation {
     }
   }
 
-  public static class freeInstance_args implements org.apache.thrift.TBase<freeInstance_args, freeInstance_args._Fields>, java.io.Serializable, Cloneable, Comparable<freeInstance_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("freeInstance_args");
+  public static class reset_args implements org.apache.thrift.TBase<reset_args, reset_args._Fields>, java.io.Serializable, Cloneable, Comparable<reset_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reset_args");
 
     private static final org.apache.thrift.protocol.TField C_FIELD_DESC = new org.apache.thrift.protocol.TField("c", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new freeInstance_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new freeInstance_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new reset_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new reset_argsTupleSchemeFactory();
 
     public Instance c; // required
 
@@ -10672,13 +11095,13 @@ public class CoSimulation {
       tmpMap.put(_Fields.C, new org.apache.thrift.meta_data.FieldMetaData("c", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Instance.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(freeInstance_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reset_args.class, metaDataMap);
     }
 
-    public freeInstance_args() {
+    public reset_args() {
     }
 
-    public freeInstance_args(
+    public reset_args(
       Instance c)
     {
       this();
@@ -10688,14 +11111,14 @@ public class CoSimulation {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public freeInstance_args(freeInstance_args other) {
+    public reset_args(reset_args other) {
       if (other.isSetC()) {
         this.c = new Instance(other.c);
       }
     }
 
-    public freeInstance_args deepCopy() {
-      return new freeInstance_args(this);
+    public reset_args deepCopy() {
+      return new reset_args(this);
     }
 
     @Override
@@ -10707,7 +11130,7 @@ public class CoSimulation {
       return this.c;
     }
 
-    public freeInstance_args setC(Instance c) {
+    public reset_args setC(Instance c) {
       this.c = c;
       return this;
     }
@@ -10766,12 +11189,12 @@ public class CoSimulation {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof freeInstance_args)
-        return this.equals((freeInstance_args)that);
+      if (that instanceof reset_args)
+        return this.equals((reset_args)that);
       return false;
     }
 
-    public boolean equals(freeInstance_args that) {
+    public boolean equals(reset_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -10801,7 +11224,7 @@ public class CoSimulation {
     }
 
     @Override
-    public int compareTo(freeInstance_args other) {
+    public int compareTo(reset_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10835,7 +11258,7 @@ public class CoSimulation {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("freeInstance_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("reset_args(");
       boolean first = true;
 
       sb.append("c:");
@@ -10873,15 +11296,15 @@ public class CoSimulation {
       }
     }
 
-    private static class freeInstance_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public freeInstance_argsStandardScheme getScheme() {
-        return new freeInstance_argsStandardScheme();
+    private static class reset_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public reset_argsStandardScheme getScheme() {
+        return new reset_argsStandardScheme();
       }
     }
 
-    private static class freeInstance_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<freeInstance_args> {
+    private static class reset_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<reset_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, freeInstance_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, reset_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10911,7 +11334,7 @@ public class CoSimulation {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, freeInstance_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, reset_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10926,16 +11349,16 @@ public class CoSimulation {
 
     }
 
-    private static class freeInstance_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public freeInstance_argsTupleScheme getScheme() {
-        return new freeInstance_argsTupleScheme();
+    private static class reset_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public reset_argsTupleScheme getScheme() {
+        return new reset_argsTupleScheme();
       }
     }
 
-    private static class freeInstance_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<freeInstance_args> {
+    private static class reset_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<reset_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, freeInstance_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, reset_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetC()) {
@@ -10948,7 +11371,7 @@ public class CoSimulation {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, freeInstance_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, reset_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -10964,17 +11387,27 @@ public class CoSimulation {
     }
   }
 
-  public static class freeInstance_result implements org.apache.thrift.TBase<freeInstance_result, freeInstance_result._Fields>, java.io.Serializable, Cloneable, Comparable<freeInstance_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("freeInstance_result");
+  public static class reset_result implements org.apache.thrift.TBase<reset_result, reset_result._Fields>, java.io.Serializable, Cloneable, Comparable<reset_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reset_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new freeInstance_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new freeInstance_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new reset_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new reset_resultTupleSchemeFactory();
 
+    /**
+     * 
+     * @see Status
+     */
+    public Status success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      /**
+       * 
+       * @see Status
+       */
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10989,6 +11422,8 @@ public class CoSimulation {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -11027,37 +11462,95 @@ public class CoSimulation {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Status.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(freeInstance_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reset_result.class, metaDataMap);
     }
 
-    public freeInstance_result() {
+    public reset_result() {
+    }
+
+    public reset_result(
+      Status success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public freeInstance_result(freeInstance_result other) {
+    public reset_result(reset_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
     }
 
-    public freeInstance_result deepCopy() {
-      return new freeInstance_result(this);
+    public reset_result deepCopy() {
+      return new reset_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    /**
+     * 
+     * @see Status
+     */
+    public Status getSuccess() {
+      return this.success;
+    }
+
+    /**
+     * 
+     * @see Status
+     */
+    public reset_result setSuccess(Status success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Status)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11069,6 +11562,8 @@ public class CoSimulation {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11077,17 +11572,26 @@ public class CoSimulation {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof freeInstance_result)
-        return this.equals((freeInstance_result)that);
+      if (that instanceof reset_result)
+        return this.equals((reset_result)that);
       return false;
     }
 
-    public boolean equals(freeInstance_result that) {
+    public boolean equals(reset_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -11095,17 +11599,31 @@ public class CoSimulation {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.getValue();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(freeInstance_result other) {
+    public int compareTo(reset_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -11123,9 +11641,16 @@ public class CoSimulation {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("freeInstance_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("reset_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11151,15 +11676,15 @@ public class CoSimulation {
       }
     }
 
-    private static class freeInstance_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public freeInstance_resultStandardScheme getScheme() {
-        return new freeInstance_resultStandardScheme();
+    private static class reset_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public reset_resultStandardScheme getScheme() {
+        return new reset_resultStandardScheme();
       }
     }
 
-    private static class freeInstance_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<freeInstance_result> {
+    private static class reset_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<reset_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, freeInstance_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, reset_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11169,6 +11694,14 @@ public class CoSimulation {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = org.raspinloop.fmi.Status.findByValue(iprot.readI32());
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11180,32 +11713,50 @@ public class CoSimulation {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, freeInstance_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, reset_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI32(struct.success.getValue());
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class freeInstance_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public freeInstance_resultTupleScheme getScheme() {
-        return new freeInstance_resultTupleScheme();
+    private static class reset_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public reset_resultTupleScheme getScheme() {
+        return new reset_resultTupleScheme();
       }
     }
 
-    private static class freeInstance_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<freeInstance_result> {
+    private static class reset_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<reset_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, freeInstance_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, reset_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      }
-
-      @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, freeInstance_result struct) throws org.apache.thrift.TException {
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success.getValue());
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, reset_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = org.raspinloop.fmi.Status.findByValue(iprot.readI32());
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -11214,22 +11765,19 @@ public class CoSimulation {
     }
   }
 
-  public static class getReal_args implements org.apache.thrift.TBase<getReal_args, getReal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getReal_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getReal_args");
+  public static class freeInstance_args implements org.apache.thrift.TBase<freeInstance_args, freeInstance_args._Fields>, java.io.Serializable, Cloneable, Comparable<freeInstance_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("freeInstance_args");
 
     private static final org.apache.thrift.protocol.TField C_FIELD_DESC = new org.apache.thrift.protocol.TField("c", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField REFS_FIELD_DESC = new org.apache.thrift.protocol.TField("refs", org.apache.thrift.protocol.TType.LIST, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getReal_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getReal_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new freeInstance_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new freeInstance_argsTupleSchemeFactory();
 
     public Instance c; // required
-    public java.util.List<java.lang.Integer> refs; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      C((short)1, "c"),
-      REFS((short)2, "refs");
+      C((short)1, "c");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11246,8 +11794,6 @@ public class CoSimulation {
         switch(fieldId) {
           case 1: // C
             return C;
-          case 2: // REFS
-            return REFS;
           default:
             return null;
         }
@@ -11293,53 +11839,43 @@ public class CoSimulation {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.C, new org.apache.thrift.meta_data.FieldMetaData("c", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Instance.class)));
-      tmpMap.put(_Fields.REFS, new org.apache.thrift.meta_data.FieldMetaData("refs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getReal_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(freeInstance_args.class, metaDataMap);
     }
 
-    public getReal_args() {
+    public freeInstance_args() {
     }
 
-    public getReal_args(
-      Instance c,
-      java.util.List<java.lang.Integer> refs)
+    public freeInstance_args(
+      Instance c)
     {
       this();
       this.c = c;
-      this.refs = refs;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getReal_args(getReal_args other) {
+    public freeInstance_args(freeInstance_args other) {
       if (other.isSetC()) {
         this.c = new Instance(other.c);
       }
-      if (other.isSetRefs()) {
-        java.util.List<java.lang.Integer> __this__refs = new java.util.ArrayList<java.lang.Integer>(other.refs);
-        this.refs = __this__refs;
-      }
     }
 
-    public getReal_args deepCopy() {
-      return new getReal_args(this);
+    public freeInstance_args deepCopy() {
+      return new freeInstance_args(this);
     }
 
     @Override
     public void clear() {
       this.c = null;
-      this.refs = null;
     }
 
     public Instance getC() {
       return this.c;
     }
 
-    public getReal_args setC(Instance c) {
+    public freeInstance_args setC(Instance c) {
       this.c = c;
       return this;
     }
@@ -11359,60 +11895,2577 @@ public class CoSimulation {
       }
     }
 
-    public int getRefsSize() {
-      return (this.refs == null) ? 0 : this.refs.size();
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case C:
+        if (value == null) {
+          unsetC();
+        } else {
+          setC((Instance)value);
+        }
+        break;
+
+      }
     }
 
-    public java.util.Iterator<java.lang.Integer> getRefsIterator() {
-      return (this.refs == null) ? null : this.refs.iterator();
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case C:
+        return getC();
+
+      }
+      throw new java.lang.IllegalStateException();
     }
 
-    public void addToRefs(int elem) {
-      if (this.refs == null) {
-        this.refs = new java.util.ArrayList<java.lang.Integer>();
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
       }
-      this.refs.add(elem);
+
+      switch (field) {
+      case C:
+        return isSetC();
+      }
+      throw new java.lang.IllegalStateException();
     }
 
-    public java.util.List<java.lang.Integer> getRefs() {
-      return this.refs;
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof freeInstance_args)
+        return this.equals((freeInstance_args)that);
+      return false;
     }
 
-    public getReal_args setRefs(java.util.List<java.lang.Integer> refs) {
-      this.refs = refs;
-      return this;
+    public boolean equals(freeInstance_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_c = true && this.isSetC();
+      boolean that_present_c = true && that.isSetC();
+      if (this_present_c || that_present_c) {
+        if (!(this_present_c && that_present_c))
+          return false;
+        if (!this.c.equals(that.c))
+          return false;
+      }
+
+      return true;
     }
 
-    public void unsetRefs() {
-      this.refs = null;
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetC()) ? 131071 : 524287);
+      if (isSetC())
+        hashCode = hashCode * 8191 + c.hashCode();
+
+      return hashCode;
     }
 
-    /** Returns true if field refs is set (has been assigned a value) and false otherwise */
-    public boolean isSetRefs() {
-      return this.refs != null;
+    @Override
+    public int compareTo(freeInstance_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetC()).compareTo(other.isSetC());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.c, other.c);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
     }
 
-    public void setRefsIsSet(boolean value) {
-      if (!value) {
-        this.refs = null;
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("freeInstance_args(");
+      boolean first = true;
+
+      sb.append("c:");
+      if (this.c == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.c);
       }
+      first = false;
+      sb.append(")");
+      return sb.toString();
     }
 
-    public void setFieldValue(_Fields field, java.lang.Object value) {
-      switch (field) {
-      case C:
-        if (value == null) {
-          unsetC();
-        } else {
-          setC((Instance)value);
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (c != null) {
+        c.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class freeInstance_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public freeInstance_argsStandardScheme getScheme() {
+        return new freeInstance_argsStandardScheme();
+      }
+    }
+
+    private static class freeInstance_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<freeInstance_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, freeInstance_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // C
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.c = new Instance();
+                struct.c.read(iprot);
+                struct.setCIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
         }
-        break;
+        iprot.readStructEnd();
 
-      case REFS:
-        if (value == null) {
-          unsetRefs();
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, freeInstance_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.c != null) {
+          oprot.writeFieldBegin(C_FIELD_DESC);
+          struct.c.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class freeInstance_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public freeInstance_argsTupleScheme getScheme() {
+        return new freeInstance_argsTupleScheme();
+      }
+    }
+
+    private static class freeInstance_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<freeInstance_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, freeInstance_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetC()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetC()) {
+          struct.c.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, freeInstance_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.c = new Instance();
+          struct.c.read(iprot);
+          struct.setCIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class freeInstance_result implements org.apache.thrift.TBase<freeInstance_result, freeInstance_result._Fields>, java.io.Serializable, Cloneable, Comparable<freeInstance_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("freeInstance_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new freeInstance_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new freeInstance_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(freeInstance_result.class, metaDataMap);
+    }
+
+    public freeInstance_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public freeInstance_result(freeInstance_result other) {
+    }
+
+    public freeInstance_result deepCopy() {
+      return new freeInstance_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof freeInstance_result)
+        return this.equals((freeInstance_result)that);
+      return false;
+    }
+
+    public boolean equals(freeInstance_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(freeInstance_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("freeInstance_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class freeInstance_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public freeInstance_resultStandardScheme getScheme() {
+        return new freeInstance_resultStandardScheme();
+      }
+    }
+
+    private static class freeInstance_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<freeInstance_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, freeInstance_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, freeInstance_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class freeInstance_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public freeInstance_resultTupleScheme getScheme() {
+        return new freeInstance_resultTupleScheme();
+      }
+    }
+
+    private static class freeInstance_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<freeInstance_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, freeInstance_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, freeInstance_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getReal_args implements org.apache.thrift.TBase<getReal_args, getReal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getReal_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getReal_args");
+
+    private static final org.apache.thrift.protocol.TField C_FIELD_DESC = new org.apache.thrift.protocol.TField("c", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField REFS_FIELD_DESC = new org.apache.thrift.protocol.TField("refs", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getReal_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getReal_argsTupleSchemeFactory();
+
+    public Instance c; // required
+    public java.util.List<java.lang.Integer> refs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      C((short)1, "c"),
+      REFS((short)2, "refs");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // C
+            return C;
+          case 2: // REFS
+            return REFS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.C, new org.apache.thrift.meta_data.FieldMetaData("c", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Instance.class)));
+      tmpMap.put(_Fields.REFS, new org.apache.thrift.meta_data.FieldMetaData("refs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getReal_args.class, metaDataMap);
+    }
+
+    public getReal_args() {
+    }
+
+    public getReal_args(
+      Instance c,
+      java.util.List<java.lang.Integer> refs)
+    {
+      this();
+      this.c = c;
+      this.refs = refs;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getReal_args(getReal_args other) {
+      if (other.isSetC()) {
+        this.c = new Instance(other.c);
+      }
+      if (other.isSetRefs()) {
+        java.util.List<java.lang.Integer> __this__refs = new java.util.ArrayList<java.lang.Integer>(other.refs);
+        this.refs = __this__refs;
+      }
+    }
+
+    public getReal_args deepCopy() {
+      return new getReal_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.c = null;
+      this.refs = null;
+    }
+
+    public Instance getC() {
+      return this.c;
+    }
+
+    public getReal_args setC(Instance c) {
+      this.c = c;
+      return this;
+    }
+
+    public void unsetC() {
+      this.c = null;
+    }
+
+    /** Returns true if field c is set (has been assigned a value) and false otherwise */
+    public boolean isSetC() {
+      return this.c != null;
+    }
+
+    public void setCIsSet(boolean value) {
+      if (!value) {
+        this.c = null;
+      }
+    }
+
+    public int getRefsSize() {
+      return (this.refs == null) ? 0 : this.refs.size();
+    }
+
+    public java.util.Iterator<java.lang.Integer> getRefsIterator() {
+      return (this.refs == null) ? null : this.refs.iterator();
+    }
+
+    public void addToRefs(int elem) {
+      if (this.refs == null) {
+        this.refs = new java.util.ArrayList<java.lang.Integer>();
+      }
+      this.refs.add(elem);
+    }
+
+    public java.util.List<java.lang.Integer> getRefs() {
+      return this.refs;
+    }
+
+    public getReal_args setRefs(java.util.List<java.lang.Integer> refs) {
+      this.refs = refs;
+      return this;
+    }
+
+    public void unsetRefs() {
+      this.refs = null;
+    }
+
+    /** Returns true if field refs is set (has been assigned a value) and false otherwise */
+    public boolean isSetRefs() {
+      return this.refs != null;
+    }
+
+    public void setRefsIsSet(boolean value) {
+      if (!value) {
+        this.refs = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case C:
+        if (value == null) {
+          unsetC();
+        } else {
+          setC((Instance)value);
+        }
+        break;
+
+      case REFS:
+        if (value == null) {
+          unsetRefs();
+        } else {
+          setRefs((java.util.List<java.lang.Integer>)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case C:
+        return getC();
+
+      case REFS:
+        return getRefs();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case C:
+        return isSetC();
+      case REFS:
+        return isSetRefs();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getReal_args)
+        return this.equals((getReal_args)that);
+      return false;
+    }
+
+    public boolean equals(getReal_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_c = true && this.isSetC();
+      boolean that_present_c = true && that.isSetC();
+      if (this_present_c || that_present_c) {
+        if (!(this_present_c && that_present_c))
+          return false;
+        if (!this.c.equals(that.c))
+          return false;
+      }
+
+      boolean this_present_refs = true && this.isSetRefs();
+      boolean that_present_refs = true && that.isSetRefs();
+      if (this_present_refs || that_present_refs) {
+        if (!(this_present_refs && that_present_refs))
+          return false;
+        if (!this.refs.equals(that.refs))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetC()) ? 131071 : 524287);
+      if (isSetC())
+        hashCode = hashCode * 8191 + c.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetRefs()) ? 131071 : 524287);
+      if (isSetRefs())
+        hashCode = hashCode * 8191 + refs.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getReal_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetC()).compareTo(other.isSetC());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.c, other.c);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetRefs()).compareTo(other.isSetRefs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRefs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.refs, other.refs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getReal_args(");
+      boolean first = true;
+
+      sb.append("c:");
+      if (this.c == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.c);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("refs:");
+      if (this.refs == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.refs);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (c != null) {
+        c.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getReal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getReal_argsStandardScheme getScheme() {
+        return new getReal_argsStandardScheme();
+      }
+    }
+
+    private static class getReal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getReal_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getReal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // C
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.c = new Instance();
+                struct.c.read(iprot);
+                struct.setCIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // REFS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.refs = new java.util.ArrayList<java.lang.Integer>(_list0.size);
+                  int _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = iprot.readI32();
+                    struct.refs.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRefsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getReal_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.c != null) {
+          oprot.writeFieldBegin(C_FIELD_DESC);
+          struct.c.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.refs != null) {
+          oprot.writeFieldBegin(REFS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.refs.size()));
+            for (int _iter3 : struct.refs)
+            {
+              oprot.writeI32(_iter3);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getReal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getReal_argsTupleScheme getScheme() {
+        return new getReal_argsTupleScheme();
+      }
+    }
+
+    private static class getReal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getReal_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getReal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetC()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRefs()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetC()) {
+          struct.c.write(oprot);
+        }
+        if (struct.isSetRefs()) {
+          {
+            oprot.writeI32(struct.refs.size());
+            for (int _iter4 : struct.refs)
+            {
+              oprot.writeI32(_iter4);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getReal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.c = new Instance();
+          struct.c.read(iprot);
+          struct.setCIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.refs = new java.util.ArrayList<java.lang.Integer>(_list5.size);
+            int _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = iprot.readI32();
+              struct.refs.add(_elem6);
+            }
+          }
+          struct.setRefsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getEdges_args implements org.apache.thrift.TBase<getEdges_args, getEdges_args._Fields>, java.io.Serializable, Cloneable, Comparable<getEdges_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEdges_args");
+
+    private static final org.apache.thrift.protocol.TField C_FIELD_DESC = new org.apache.thrift.protocol.TField("c", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField REFS_FIELD_DESC = new org.apache.thrift.protocol.TField("refs", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getEdges_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getEdges_argsTupleSchemeFactory();
+
+    public Instance c; // required
+    public java.util.List<java.lang.Integer> refs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      C((short)1, "c"),
+      REFS((short)2, "refs");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // C
+            return C;
+          case 2: // REFS
+            return REFS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.C, new org.apache.thrift.meta_data.FieldMetaData("c", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Instance.class)));
+      tmpMap.put(_Fields.REFS, new org.apache.thrift.meta_data.FieldMetaData("refs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEdges_args.class, metaDataMap);
+    }
+
+    public getEdges_args() {
+    }
+
+    public getEdges_args(
+      Instance c,
+      java.util.List<java.lang.Integer> refs)
+    {
+      this();
+      this.c = c;
+      this.refs = refs;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getEdges_args(getEdges_args other) {
+      if (other.isSetC()) {
+        this.c = new Instance(other.c);
+      }
+      if (other.isSetRefs()) {
+        java.util.List<java.lang.Integer> __this__refs = new java.util.ArrayList<java.lang.Integer>(other.refs);
+        this.refs = __this__refs;
+      }
+    }
+
+    public getEdges_args deepCopy() {
+      return new getEdges_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.c = null;
+      this.refs = null;
+    }
+
+    public Instance getC() {
+      return this.c;
+    }
+
+    public getEdges_args setC(Instance c) {
+      this.c = c;
+      return this;
+    }
+
+    public void unsetC() {
+      this.c = null;
+    }
+
+    /** Returns true if field c is set (has been assigned a value) and false otherwise */
+    public boolean isSetC() {
+      return this.c != null;
+    }
+
+    public void setCIsSet(boolean value) {
+      if (!value) {
+        this.c = null;
+      }
+    }
+
+    public int getRefsSize() {
+      return (this.refs == null) ? 0 : this.refs.size();
+    }
+
+    public java.util.Iterator<java.lang.Integer> getRefsIterator() {
+      return (this.refs == null) ? null : this.refs.iterator();
+    }
+
+    public void addToRefs(int elem) {
+      if (this.refs == null) {
+        this.refs = new java.util.ArrayList<java.lang.Integer>();
+      }
+      this.refs.add(elem);
+    }
+
+    public java.util.List<java.lang.Integer> getRefs() {
+      return this.refs;
+    }
+
+    public getEdges_args setRefs(java.util.List<java.lang.Integer> refs) {
+      this.refs = refs;
+      return this;
+    }
+
+    public void unsetRefs() {
+      this.refs = null;
+    }
+
+    /** Returns true if field refs is set (has been assigned a value) and false otherwise */
+    public boolean isSetRefs() {
+      return this.refs != null;
+    }
+
+    public void setRefsIsSet(boolean value) {
+      if (!value) {
+        this.refs = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case C:
+        if (value == null) {
+          unsetC();
+        } else {
+          setC((Instance)value);
+        }
+        break;
+
+      case REFS:
+        if (value == null) {
+          unsetRefs();
+        } else {
+          setRefs((java.util.List<java.lang.Integer>)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case C:
+        return getC();
+
+      case REFS:
+        return getRefs();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case C:
+        return isSetC();
+      case REFS:
+        return isSetRefs();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getEdges_args)
+        return this.equals((getEdges_args)that);
+      return false;
+    }
+
+    public boolean equals(getEdges_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_c = true && this.isSetC();
+      boolean that_present_c = true && that.isSetC();
+      if (this_present_c || that_present_c) {
+        if (!(this_present_c && that_present_c))
+          return false;
+        if (!this.c.equals(that.c))
+          return false;
+      }
+
+      boolean this_present_refs = true && this.isSetRefs();
+      boolean that_present_refs = true && that.isSetRefs();
+      if (this_present_refs || that_present_refs) {
+        if (!(this_present_refs && that_present_refs))
+          return false;
+        if (!this.refs.equals(that.refs))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetC()) ? 131071 : 524287);
+      if (isSetC())
+        hashCode = hashCode * 8191 + c.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetRefs()) ? 131071 : 524287);
+      if (isSetRefs())
+        hashCode = hashCode * 8191 + refs.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getEdges_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetC()).compareTo(other.isSetC());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.c, other.c);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetRefs()).compareTo(other.isSetRefs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRefs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.refs, other.refs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getEdges_args(");
+      boolean first = true;
+
+      sb.append("c:");
+      if (this.c == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.c);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("refs:");
+      if (this.refs == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.refs);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (c != null) {
+        c.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getEdges_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEdges_argsStandardScheme getScheme() {
+        return new getEdges_argsStandardScheme();
+      }
+    }
+
+    private static class getEdges_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getEdges_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEdges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // C
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.c = new Instance();
+                struct.c.read(iprot);
+                struct.setCIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // REFS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.refs = new java.util.ArrayList<java.lang.Integer>(_list0.size);
+                  int _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = iprot.readI32();
+                    struct.refs.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRefsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEdges_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.c != null) {
+          oprot.writeFieldBegin(C_FIELD_DESC);
+          struct.c.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.refs != null) {
+          oprot.writeFieldBegin(REFS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.refs.size()));
+            for (int _iter3 : struct.refs)
+            {
+              oprot.writeI32(_iter3);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getEdges_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEdges_argsTupleScheme getScheme() {
+        return new getEdges_argsTupleScheme();
+      }
+    }
+
+    private static class getEdges_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getEdges_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEdges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetC()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRefs()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetC()) {
+          struct.c.write(oprot);
+        }
+        if (struct.isSetRefs()) {
+          {
+            oprot.writeI32(struct.refs.size());
+            for (int _iter4 : struct.refs)
+            {
+              oprot.writeI32(_iter4);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEdges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.c = new Instance();
+          struct.c.read(iprot);
+          struct.setCIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.refs = new java.util.ArrayList<java.lang.Integer>(_list5.size);
+            int _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = iprot.readI32();
+              struct.refs.add(_elem6);
+            }
+          }
+          struct.setRefsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class stepAndExchange_args implements org.apache.thrift.TBase<stepAndExchange_args, stepAndExchange_args._Fields>, java.io.Serializable, Cloneable, Comparable<stepAndExchange_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("stepAndExchange_args");
+
+    private static final org.apache.thrift.protocol.TField C_FIELD_DESC = new org.apache.thrift.protocol.TField("c", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new stepAndExchange_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new stepAndExchange_argsTupleSchemeFactory();
+
+    public Instance c; // required
+    public StepRequest request; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      C((short)1, "c"),
+      REQUEST((short)2, "request");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // C
+            return C;
+          case 2: // REQUEST
+            return REQUEST;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.C, new org.apache.thrift.meta_data.FieldMetaData("c", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Instance.class)));
+      tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StepRequest.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(stepAndExchange_args.class, metaDataMap);
+    }
+
+    public stepAndExchange_args() {
+    }
+
+    public stepAndExchange_args(
+      Instance c,
+      StepRequest request)
+    {
+      this();
+      this.c = c;
+      this.request = request;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public stepAndExchange_args(stepAndExchange_args other) {
+      if (other.isSetC()) {
+        this.c = new Instance(other.c);
+      }
+      if (other.isSetRequest()) {
+        this.request = new StepRequest(other.request);
+      }
+    }
+
+    public stepAndExchange_args deepCopy() {
+      return new stepAndExchange_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.c = null;
+      this.request = null;
+    }
+
+    public Instance getC() {
+      return this.c;
+    }
+
+    public stepAndExchange_args setC(Instance c) {
+      this.c = c;
+      return this;
+    }
+
+    public void unsetC() {
+      this.c = null;
+    }
+
+    /** Returns true if field c is set (has been assigned a value) and false otherwise */
+    public boolean isSetC() {
+      return this.c != null;
+    }
+
+    public void setCIsSet(boolean value) {
+      if (!value) {
+        this.c = null;
+      }
+    }
+
+    public StepRequest getRequest() {
+      return this.request;
+    }
+
+    public stepAndExchange_args setRequest(StepRequest request) {
+      this.request = request;
+      return this;
+    }
+
+    public void unsetRequest() {
+      this.request = null;
+    }
+
+    /** Returns true if field request is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequest() {
+      return this.request != null;
+    }
+
+    public void setRequestIsSet(boolean value) {
+      if (!value) {
+        this.request = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case C:
+        if (value == null) {
+          unsetC();
+        } else {
+          setC((Instance)value);
+        }
+        break;
+
+      case REQUEST:
+        if (value == null) {
+          unsetRequest();
+        } else {
+          setRequest((StepRequest)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case C:
+        return getC();
+
+      case REQUEST:
+        return getRequest();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case C:
+        return isSetC();
+      case REQUEST:
+        return isSetRequest();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof stepAndExchange_args)
+        return this.equals((stepAndExchange_args)that);
+      return false;
+    }
+
+    public boolean equals(stepAndExchange_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_c = true && this.isSetC();
+      boolean that_present_c = true && that.isSetC();
+      if (this_present_c || that_present_c) {
+        if (!(this_present_c && that_present_c))
+          return false;
+        if (!this.c.equals(that.c))
+          return false;
+      }
+
+      boolean this_present_request = true && this.isSetRequest();
+      boolean that_present_request = true && that.isSetRequest();
+      if (this_present_request || that_present_request) {
+        if (!(this_present_request && that_present_request))
+          return false;
+        if (!this.request.equals(that.request))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetC()) ? 131071 : 524287);
+      if (isSetC())
+        hashCode = hashCode * 8191 + c.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetRequest()) ? 131071 : 524287);
+      if (isSetRequest())
+        hashCode = hashCode * 8191 + request.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(stepAndExchange_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetC()).compareTo(other.isSetC());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.c, other.c);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetRequest()).compareTo(other.isSetRequest());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequest()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.request, other.request);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("stepAndExchange_args(");
+      boolean first = true;
+
+      sb.append("c:");
+      if (this.c == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.c);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("request:");
+      if (this.request == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.request);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (c != null) {
+        c.validate();
+      }
+      if (request != null) {
+        request.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class stepAndExchange_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public stepAndExchange_argsStandardScheme getScheme() {
+        return new stepAndExchange_argsStandardScheme();
+      }
+    }
+
+    private static class stepAndExchange_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<stepAndExchange_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, stepAndExchange_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // C
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.c = new Instance();
+                struct.c.read(iprot);
+                struct.setCIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // REQUEST
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.request = new StepRequest();
+                struct.request.read(iprot);
+                struct.setRequestIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, stepAndExchange_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.c != null) {
+          oprot.writeFieldBegin(C_FIELD_DESC);
+          struct.c.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.request != null) {
+          oprot.writeFieldBegin(REQUEST_FIELD_DESC);
+          struct.request.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class stepAndExchange_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public stepAndExchange_argsTupleScheme getScheme() {
+        return new stepAndExchange_argsTupleScheme();
+      }
+    }
+
+    private static class stepAndExchange_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<stepAndExchange_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, stepAndExchange_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetC()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRequest()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetC()) {
+          struct.c.write(oprot);
+        }
+        if (struct.isSetRequest()) {
+          struct.request.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, stepAndExchange_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.c = new Instance();
+          struct.c.read(iprot);
+          struct.setCIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.request = new StepRequest();
+          struct.request.read(iprot);
+          struct.setRequestIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getReal_result implements org.apache.thrift.TBase<getReal_result, getReal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getReal_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getReal_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getReal_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getReal_resultTupleSchemeFactory();
+
+    public java.util.List<java.lang.Double> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getReal_result.class, metaDataMap);
+    }
+
+    public getReal_result() {
+    }
+
+    public getReal_result(
+      java.util.List<java.lang.Double> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getReal_result(getReal_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.Double> __this__success = new java.util.ArrayList<java.lang.Double>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public getReal_result deepCopy() {
+      return new getReal_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<java.lang.Double> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(double elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.Double>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<java.lang.Double> getSuccess() {
+      return this.success;
+    }
+
+    public getReal_result setSuccess(java.util.List<java.lang.Double> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.Double>)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getReal_result)
+        return this.equals((getReal_result)that);
+      return false;
+    }
+
+    public boolean equals(getReal_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getReal_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getReal_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getReal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getReal_resultStandardScheme getScheme() {
+        return new getReal_resultStandardScheme();
+      }
+    }
+
+    private static class getReal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getReal_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getReal_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.Double>(_list8.size);
+                  double _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = iprot.readDouble();
+                    struct.success.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getReal_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.DOUBLE, struct.success.size()));
+            for (double _iter11 : struct.success)
+            {
+              oprot.writeDouble(_iter11);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getReal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getReal_resultTupleScheme getScheme() {
+        return new getReal_resultTupleScheme();
+      }
+    }
+
+    private static class getReal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getReal_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getReal_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (double _iter12 : struct.success)
+            {
+              oprot.writeDouble(_iter12);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getReal_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.Double>(_list13.size);
+            double _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = iprot.readDouble();
+              struct.success.add(_elem14);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getEdges_result implements org.apache.thrift.TBase<getEdges_result, getEdges_result._Fields>, java.io.Serializable, Cloneable, Comparable<getEdges_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEdges_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getEdges_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getEdges_resultTupleSchemeFactory();
+
+    public java.util.List<Edge> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Edge.class))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEdges_result.class, metaDataMap);
+    }
+
+    public getEdges_result() {
+    }
+
+    public getEdges_result(
+      java.util.List<Edge> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getEdges_result(getEdges_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<Edge> __this__success = new java.util.ArrayList<Edge>(other.success.size());
+        for (Edge other_element : other.success) {
+          __this__success.add(new Edge(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public getEdges_result deepCopy() {
+      return new getEdges_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Edge> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(Edge elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<Edge>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<Edge> getSuccess() {
+      return this.success;
+    }
+
+    public getEdges_result setSuccess(java.util.List<Edge> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
         } else {
-          setRefs((java.util.List<java.lang.Integer>)value);
+          setSuccess((java.util.List<Edge>)value);
         }
         break;
 
@@ -11421,11 +14474,8 @@ public class CoSimulation {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case C:
-        return getC();
-
-      case REFS:
-        return getRefs();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -11438,10 +14488,8 @@ public class CoSimulation {
       }
 
       switch (field) {
-      case C:
-        return isSetC();
-      case REFS:
-        return isSetRefs();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11450,32 +14498,23 @@ public class CoSimulation {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getReal_args)
-        return this.equals((getReal_args)that);
+      if (that instanceof getEdges_result)
+        return this.equals((getEdges_result)that);
       return false;
     }
 
-    public boolean equals(getReal_args that) {
+    public boolean equals(getEdges_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_c = true && this.isSetC();
-      boolean that_present_c = true && that.isSetC();
-      if (this_present_c || that_present_c) {
-        if (!(this_present_c && that_present_c))
-          return false;
-        if (!this.c.equals(that.c))
-          return false;
-      }
-
-      boolean this_present_refs = true && this.isSetRefs();
-      boolean that_present_refs = true && that.isSetRefs();
-      if (this_present_refs || that_present_refs) {
-        if (!(this_present_refs && that_present_refs))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.refs.equals(that.refs))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -11486,41 +14525,27 @@ public class CoSimulation {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetC()) ? 131071 : 524287);
-      if (isSetC())
-        hashCode = hashCode * 8191 + c.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetRefs()) ? 131071 : 524287);
-      if (isSetRefs())
-        hashCode = hashCode * 8191 + refs.hashCode();
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getReal_args other) {
+    public int compareTo(getEdges_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetC()).compareTo(other.isSetC());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetC()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.c, other.c);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetRefs()).compareTo(other.isSetRefs());
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRefs()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.refs, other.refs);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11538,26 +14563,18 @@ public class CoSimulation {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getReal_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getEdges_result(");
       boolean first = true;
 
-      sb.append("c:");
-      if (this.c == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.c);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("refs:");
-      if (this.refs == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.refs);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -11567,9 +14584,6 @@ public class CoSimulation {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (c != null) {
-        c.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -11588,15 +14602,15 @@ public class CoSimulation {
       }
     }
 
-    private static class getReal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getReal_argsStandardScheme getScheme() {
-        return new getReal_argsStandardScheme();
+    private static class getEdges_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEdges_resultStandardScheme getScheme() {
+        return new getEdges_resultStandardScheme();
       }
     }
 
-    private static class getReal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getReal_args> {
+    private static class getEdges_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getEdges_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getReal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEdges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11606,29 +14620,21 @@ public class CoSimulation {
             break;
           }
           switch (schemeField.id) {
-            case 1: // C
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.c = new Instance();
-                struct.c.read(iprot);
-                struct.setCIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // REFS
+            case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.refs = new java.util.ArrayList<java.lang.Integer>(_list0.size);
-                  int _elem1;
-                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  org.apache.thrift.protocol.TList _list144 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<Edge>(_list144.size);
+                  Edge _elem145;
+                  for (int _i146 = 0; _i146 < _list144.size; ++_i146)
                   {
-                    _elem1 = iprot.readI32();
-                    struct.refs.add(_elem1);
+                    _elem145 = new Edge();
+                    _elem145.read(iprot);
+                    struct.success.add(_elem145);
                   }
                   iprot.readListEnd();
                 }
-                struct.setRefsIsSet(true);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -11644,22 +14650,17 @@ public class CoSimulation {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getReal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEdges_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.c != null) {
-          oprot.writeFieldBegin(C_FIELD_DESC);
-          struct.c.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.refs != null) {
-          oprot.writeFieldBegin(REFS_FIELD_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.refs.size()));
-            for (int _iter3 : struct.refs)
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (Edge _iter147 : struct.success)
             {
-              oprot.writeI32(_iter3);
+              _iter147.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -11671,60 +14672,50 @@ public class CoSimulation {
 
     }
 
-    private static class getReal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getReal_argsTupleScheme getScheme() {
-        return new getReal_argsTupleScheme();
+    private static class getEdges_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEdges_resultTupleScheme getScheme() {
+        return new getEdges_resultTupleScheme();
       }
     }
 
-    private static class getReal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getReal_args> {
+    private static class getEdges_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getEdges_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getReal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEdges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetC()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetRefs()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetC()) {
-          struct.c.write(oprot);
-        }
-        if (struct.isSetRefs()) {
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
           {
-            oprot.writeI32(struct.refs.size());
-            for (int _iter4 : struct.refs)
+            oprot.writeI32(struct.success.size());
+            for (Edge _iter148 : struct.success)
             {
-              oprot.writeI32(_iter4);
+              _iter148.write(oprot);
             }
           }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getReal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEdges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.c = new Instance();
-          struct.c.read(iprot);
-          struct.setCIsSet(true);
-        }
-        if (incoming.get(1)) {
           {
-            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
-            struct.refs = new java.util.ArrayList<java.lang.Integer>(_list5.size);
-            int _elem6;
-            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            org.apache.thrift.protocol.TList _list149 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<Edge>(_list149.size);
+            Edge _elem150;
+            for (int _i151 = 0; _i151 < _list149.size; ++_i151)
             {
-              _elem6 = iprot.readI32();
-              struct.refs.add(_elem6);
+              _elem150 = new Edge();
+              _elem150.read(iprot);
+              struct.success.add(_elem150);
             }
           }
-          struct.setRefsIsSet(true);
+          struct.setSuccessIsSet(true);
         }
       }
     }
@@ -11734,15 +14725,15 @@ public class CoSimulation {
     }
   }
 
-  public static class getReal_result implements org.apache.thrift.TBase<getReal_result, getReal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getReal_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getReal_result");
+  public static class stepAndExchange_result implements org.apache.thrift.TBase<stepAndExchange_result, stepAndExchange_result._Fields>, java.io.Serializable, Cloneable, Comparable<stepAndExchange_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("stepAndExchange_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getReal_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getReal_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new stepAndExchange_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new stepAndExchange_resultTupleSchemeFactory();
 
-    public java.util.List<java.lang.Double> success; // required
+    public StepResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -11807,17 +14798,16 @@ public class CoSimulation {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE))));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StepResponse.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getReal_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(stepAndExchange_result.class, metaDataMap);
     }
 
-    public getReal_result() {
+    public stepAndExchange_result() {
     }
 
-    public getReal_result(
-      java.util.List<java.lang.Double> success)
+    public stepAndExchange_result(
+      StepResponse success)
     {
       this();
       this.success = success;
@@ -11826,15 +14816,14 @@ public class CoSimulation {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getReal_result(getReal_result other) {
+    public stepAndExchange_result(stepAndExchange_result other) {
       if (other.isSetSuccess()) {
-        java.util.List<java.lang.Double> __this__success = new java.util.ArrayList<java.lang.Double>(other.success);
-        this.success = __this__success;
+        this.success = new StepResponse(other.success);
       }
     }
 
-    public getReal_result deepCopy() {
-      return new getReal_result(this);
+    public stepAndExchange_result deepCopy() {
+      return new stepAndExchange_result(this);
     }
 
     @Override
@@ -11842,26 +14831,11 @@ public class CoSimulation {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<java.lang.Double> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(double elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<java.lang.Double>();
-      }
-      this.success.add(elem);
-    }
-
-    public java.util.List<java.lang.Double> getSuccess() {
+    public StepResponse getSuccess() {
       return this.success;
     }
 
-    public getReal_result setSuccess(java.util.List<java.lang.Double> success) {
+    public stepAndExchange_result setSuccess(StepResponse success) {
       this.success = success;
       return this;
     }
@@ -11887,7 +14861,7 @@ public class CoSimulation {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.util.List<java.lang.Double>)value);
+          setSuccess((StepResponse)value);
         }
         break;
 
@@ -11920,12 +14894,12 @@ public class CoSimulation {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getReal_result)
-        return this.equals((getReal_result)that);
+      if (that instanceof stepAndExchange_result)
+        return this.equals((stepAndExchange_result)that);
       return false;
     }
 
-    public boolean equals(getReal_result that) {
+    public boolean equals(stepAndExchange_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -11955,7 +14929,7 @@ public class CoSimulation {
     }
 
     @Override
-    public int compareTo(getReal_result other) {
+    public int compareTo(stepAndExchange_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11989,7 +14963,7 @@ public class CoSimulation {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getReal_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("stepAndExchange_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -12006,6 +14980,9 @@ public class CoSimulation {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -12024,15 +15001,15 @@ public class CoSimulation {
       }
     }
 
-    private static class getReal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getReal_resultStandardScheme getScheme() {
-        return new getReal_resultStandardScheme();
+    private static class stepAndExchange_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public stepAndExchange_resultStandardScheme getScheme() {
+        return new stepAndExchange_resultStandardScheme();
       }
     }
 
-    private static class getReal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getReal_result> {
+    private static class stepAndExchange_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<stepAndExchange_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getReal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, stepAndExchange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12043,18 +15020,9 @@ public class CoSimulation {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<java.lang.Double>(_list8.size);
-                  double _elem9;
-                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
-                  {
-                    _elem9 = iprot.readDouble();
-                    struct.success.add(_elem9);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StepResponse();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -12071,20 +15039,13 @@ public class CoSimulation {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getReal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, stepAndExchange_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.DOUBLE, struct.success.size()));
-            for (double _iter11 : struct.success)
-            {
-              oprot.writeDouble(_iter11);
-            }
-            oprot.writeListEnd();
-          }
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12093,16 +15054,16 @@ public class CoSimulation {
 
     }
 
-    private static class getReal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getReal_resultTupleScheme getScheme() {
-        return new getReal_resultTupleScheme();
+    private static class stepAndExchange_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public stepAndExchange_resultTupleScheme getScheme() {
+        return new stepAndExchange_resultTupleScheme();
       }
     }
 
-    private static class getReal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getReal_result> {
+    private static class stepAndExchange_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<stepAndExchange_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getReal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, stepAndExchange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -12110,31 +15071,17 @@ public class CoSimulation {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (double _iter12 : struct.success)
-            {
-              oprot.writeDouble(_iter12);
-            }
-          }
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getReal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, stepAndExchange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
-            struct.success = new java.util.ArrayList<java.lang.Double>(_list13.size);
-            double _elem14;
-            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
-            {
-              _elem14 = iprot.readDouble();
-              struct.success.add(_elem14);
-            }
-          }
+          struct.success = new StepResponse();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
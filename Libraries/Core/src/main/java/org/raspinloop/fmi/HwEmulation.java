@@ -15,6 +15,8 @@
  ******************************************************************************/
 package org.raspinloop.fmi;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -118,8 +120,94 @@ public interface HwEmulation {
 	 */
 	boolean  setBoolean(Map<Integer, Boolean> ref_values);
 
+	/**
+	 * Primitive counterpart of {@link #getReal(List)}, as fmi2GetReal: values of the first count refs are written
+	 * in values, in the same order. Buffers may be larger than count so that callers can reuse them.
+	 * <br>The default implementation adapts the boxed method; components on the exchange path should override it.
+	 */
+	default void getReal(int[] refs, int count, double[] values) {
+		List<Double> result = getReal(HwEmulationAdapters.refList(refs, count));
+		for (int i = 0; i < count; i++)
+			values[i] = result != null && i < result.size() ? result.get(i) : 0.0;
+	}
+
+	/**
+	 * Primitive counterpart of {@link #getInteger(List)}, see {@link #getReal(int[], int, double[])}
+	 */
+	default void getInteger(int[] refs, int count, int[] values) {
+		List<Integer> result = getInteger(HwEmulationAdapters.refList(refs, count));
+		for (int i = 0; i < count; i++)
+			values[i] = result != null && i < result.size() ? result.get(i) : 0;
+	}
+
+	/**
+	 * Primitive counterpart of {@link #getBoolean(List)}, see {@link #getReal(int[], int, double[])}
+	 */
+	default void getBoolean(int[] refs, int count, boolean[] values) {
+		List<Boolean> result = getBoolean(HwEmulationAdapters.refList(refs, count));
+		for (int i = 0; i < count; i++)
+			values[i] = result != null && i < result.size() ? result.get(i) : false;
+	}
+
+	/**
+	 * Primitive counterpart of {@link #setReal(Map)}: sets the first count refs to the value at the same index.
+	 * @return succeed or not
+	 */
+	default boolean setReal(int[] refs, int count, double[] values) {
+		Map<Integer, Double> ref_values = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++)
+			ref_values.put(refs[i], values[i]);
+		return setReal(ref_values);
+	}
 
+	/**
+	 * Primitive counterpart of {@link #setInteger(Map)}, see {@link #setReal(int[], int, double[])}
+	 */
+	default boolean setInteger(int[] refs, int count, int[] values) {
+		Map<Integer, Integer> ref_values = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++)
+			ref_values.put(refs[i], values[i]);
+		return setInteger(ref_values);
+	}
+
+	/**
+	 * Primitive counterpart of {@link #setBoolean(Map)}, see {@link #setReal(int[], int, double[])}
+	 */
+	default boolean setBoolean(int[] refs, int count, boolean[] values) {
+		Map<Integer, Boolean> ref_values = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++)
+			ref_values.put(refs[i], values[i]);
+		return setBoolean(ref_values);
+	}
+	
 	
+	/**
+	 * Adds to changed the references of output variables whose value may have changed since the previous call,
+	 * so that the simulation tool only reads what changed.
+	 * <br>The default implementation reports every output variable; components tracking their changes should override it.
+	 * @param changed set of value references to complete
+	 */
+	default void collectChanges(BitSet changed) {
+		for (Fmi2ScalarVariable variable : getModelVariables()) {
+			if ("output".equals(variable.getCausality()))
+				changed.set((int) variable.getValueReference());
+		}
+	}
+
+	/**
+	 * Moves to the given arrays the transitions of a boolean output recorded since the previous call, oldest first,
+	 * so that the simulation tool can rebuild what happened between two communication points.
+	 * <br>The default implementation records nothing.
+	 * @param ref value reference of the boolean output
+	 * @param timesNano simulated time of each transition, as seen by the thread changing the output: 
+	 * it may be ahead of the current communication point (see SimulatedTime.threadNanotime)
+	 * @param states state after each transition
+	 * @return number of transitions copied; when it equals the arrays length, more may remain
+	 */
+	default int drainTransitions(int ref, long[] timesNano, boolean[] states) {
+		return 0;
+	}
+
 	/**
 	 * Returns true, if the slave wants to terminate the simulation. 
 	 * Can be called after doStep(...) returned Discard. 
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.fmi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers of the default primitive methods of {@link HwEmulation}
+ */
+final class HwEmulationAdapters {
+
+	private HwEmulationAdapters() {
+	}
+
+	static List<Integer> refList(int[] refs, int count) {
+		List<Integer> list = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			list.add(refs[i]);
+		return list;
+	}
+}
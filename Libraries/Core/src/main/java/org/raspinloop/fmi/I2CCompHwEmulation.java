@@ -15,7 +15,7 @@
  ******************************************************************************/
 package org.raspinloop.fmi;
 
-
+import java.util.Arrays;
 
 public interface I2CCompHwEmulation extends HwEmulation {
 	
@@ -24,4 +24,53 @@ public interface I2CCompHwEmulation extends HwEmulation {
 	byte[] read(int size);
 	byte[] read(int address, int size);
 	Integer getAddress();
+
+	/**
+	 * Writes size bytes of buffer starting at offset.
+	 * <br>The default implementation copies the slice; components on the polling path should override it.
+	 */
+	default boolean write(byte[] buffer, int offset, int size) {
+		return write(Arrays.copyOfRange(buffer, offset, offset + size));
+	}
+
+	/**
+	 * Writes size bytes of buffer starting at offset, to the register at address.
+	 * <br>The default implementation copies the slice; components on the polling path should override it.
+	 */
+	default boolean write(int address, byte[] buffer, int offset, int size) {
+		return write(address, Arrays.copyOfRange(buffer, offset, offset + size));
+	}
+
+	/**
+	 * Tells the bus that reading size bytes from address only involves read-only registers,
+	 * and may run concurrently with other transactions on this component.
+	 * <br>The default implementation returns false: every transaction is serialized.
+	 */
+	default boolean isLockFreeRead(int address, int size) {
+		return false;
+	}
+
+	/**
+	 * Reads at most size bytes into buffer starting at offset.
+	 * <br>The default implementation copies the array returned by {@link #read(int)}; components on the polling path should override it.
+	 * @return number of bytes read
+	 */
+	default int read(byte[] buffer, int offset, int size) {
+		byte[] result = read(size);
+		int count = Math.min(size, result.length);
+		System.arraycopy(result, 0, buffer, offset, count);
+		return count;
+	}
+
+	/**
+	 * Reads at most size bytes from the register at address into buffer starting at offset.
+	 * <br>The default implementation copies the array returned by {@link #read(int, int)}; components on the polling path should override it.
+	 * @return number of bytes read
+	 */
+	default int read(int address, byte[] buffer, int offset, int size) {
+		byte[] result = read(address, size);
+		int count = Math.min(size, result.length);
+		System.arraycopy(result, 0, buffer, offset, count);
+		return count;
+	}
 }
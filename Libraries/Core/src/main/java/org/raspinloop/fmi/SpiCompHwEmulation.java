@@ -15,10 +15,26 @@
  ******************************************************************************/
 package org.raspinloop.fmi;
 
-
+import java.nio.ByteBuffer;
 
 public interface SpiCompHwEmulation extends HwEmulation {
 	
 	int spiDataRW(short[] buffer);
 	int spiDataRW(byte[] buffer);
+
+	/**
+	 * Exchanges in place the bytes between position and limit of buffer, which may be a direct buffer.
+	 * Position and limit are left unchanged.
+	 * <br>The default implementation copies the bytes to an array; components sampled at high rate should override it.
+	 * @return number of bytes exchanged
+	 */
+	default int spiDataRW(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		ByteBuffer view = buffer.duplicate();
+		view.get(bytes);
+		int count = spiDataRW(bytes);
+		view.position(buffer.position());
+		view.put(bytes);
+		return count;
+	}
 }
@@ -16,13 +16,21 @@
 package org.raspinloop.hwemulation;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.raspinloop.fmi.I2CCompHwEmulation;
 
 
+/**
+ * Routes transactions to the emulated components registered on the bus.
+ * <p>
+ * Routing is copied on registration (done at enterInitialize), so lookups do
+ * not lock. Transactions to a device are serialized on a lock of its own, so
+ * threads polling different devices do not wait for each other. Reads the
+ * component declares lock free (see
+ * {@link I2CCompHwEmulation#isLockFreeRead(int, int)}) take no lock at all.
+ */
 public class I2CBusEmulation implements I2CBus {
 
     /** Used to identify the i2c bus within Pi4J **/
@@ -33,11 +41,18 @@ public class I2CBusEmulation implements I2CBus {
     protected TimeUnit lockAquireTimeoutUnit;
 
 	
-	Map<Integer, I2CDeviceEmulation> devices = new HashMap<>();
-	Map<Integer, I2CCompHwEmulation> EmulatedDevicesOnBus = new HashMap<>();
+	// indexed by 7 bits device address
+	static final int NB_ADDRESSES = 128;
+	
+	final AtomicReferenceArray<I2CDeviceEmulation> devices = new AtomicReferenceArray<>(NB_ADDRESSES);
+	// replaced, never modified, on registration
+	volatile I2CCompHwEmulation[] EmulatedDevicesOnBus = new I2CCompHwEmulation[NB_ADDRESSES];
+	private final Object[] deviceLocks = new Object[NB_ADDRESSES];
 
 	public I2CBusEmulation(int busNumber) {
 	        this.busNumber = busNumber;
+	        for (int i = 0; i < deviceLocks.length; i++)
+	        	deviceLocks[i] = new Object();
 	}
 
 	public void setLockAquireTimeout(long lockAquireTimeout, TimeUnit lockAquireTimeoutUnit) {
@@ -62,18 +77,33 @@ public class I2CBusEmulation implements I2CBus {
      *
      * @return implementation of i2c device with given address
      *
-     * @throws IOException never in this implementation
+     * @throws IOException if address is not a 7 bits address
      */
     @Override
     public I2CDevice getDevice(int address) throws IOException {
-    	if (! devices.containsKey(address)){
-    		devices.put(address, new I2CDeviceEmulation(this, address));
+    	if (address < 0 || address >= NB_ADDRESSES)
+    		throw new IOException("Invalid 7 bits address 0x" + Integer.toHexString(address) + " on " + this);
+    	I2CDeviceEmulation device = devices.get(address);
+    	if (device == null){
+    		devices.compareAndSet(address, null, new I2CDeviceEmulation(this, address));
+    		device = devices.get(address);
     	}
-    	return devices.get(address);
+    	return device;
     }
 
-	public void register(I2CCompHwEmulation hw) {
-		EmulatedDevicesOnBus.put(hw.getAddress(), hw);		
+	public synchronized void register(I2CCompHwEmulation hw) {
+		int address = hw.getAddress();
+		if (address < 0 || address >= NB_ADDRESSES)
+			throw new IllegalArgumentException("Invalid 7 bits address 0x" + Integer.toHexString(address) + " for " + hw.getType());
+		I2CCompHwEmulation[] routing = EmulatedDevicesOnBus.clone();
+		routing[address] = hw;
+		EmulatedDevicesOnBus = routing;
+	}
+
+	private I2CCompHwEmulation getEmulatedDevice(int devAddress) {
+		if (devAddress < 0 || devAddress >= NB_ADDRESSES)
+			return null;
+		return EmulatedDevicesOnBus[devAddress];
 	}
 	
     /**
@@ -105,22 +135,86 @@ public class I2CBusEmulation implements I2CBus {
     }
 
 	public boolean write(int devAddress, byte[] bs) {
-		I2CCompHwEmulation dev = EmulatedDevicesOnBus.get(devAddress);
-		return dev.write(bs);	
+		I2CCompHwEmulation dev = getEmulatedDevice(devAddress);
+		if (dev == null)
+			return false; // nothing at this address
+		synchronized (deviceLocks[devAddress]) {
+			return dev.write(bs);
+		}
 	}
 
 	public boolean write(int devAddress, int address, byte[] bs) {
-		I2CCompHwEmulation dev = EmulatedDevicesOnBus.get(devAddress);
-		return dev.write(address, bs);
+		I2CCompHwEmulation dev = getEmulatedDevice(devAddress);
+		if (dev == null)
+			return false; // nothing at this address
+		synchronized (deviceLocks[devAddress]) {
+			return dev.write(address, bs);
+		}
 	}
 
 	public byte[] read(int devAddress, int size) {
-		I2CCompHwEmulation dev = EmulatedDevicesOnBus.get(devAddress);
-		return dev.read(size);
+		I2CCompHwEmulation dev = getEmulatedDevice(devAddress);
+		if (dev == null)
+			return new byte[0]; // nothing at this address
+		synchronized (deviceLocks[devAddress]) {
+			return dev.read(size);
+		}
 	}
 
 	public byte[] read(int devAddress, int address, int size) {
-		I2CCompHwEmulation dev = EmulatedDevicesOnBus.get(devAddress);
-		return dev.read(address, size);
+		I2CCompHwEmulation dev = getEmulatedDevice(devAddress);
+		if (dev == null)
+			return new byte[0]; // nothing at this address
+		if (dev.isLockFreeRead(address, size))
+			return dev.read(address, size);
+		synchronized (deviceLocks[devAddress]) {
+			return dev.read(address, size);
+		}
+	}
+
+	public boolean write(int devAddress, byte[] bs, int offset, int size) {
+		I2CCompHwEmulation dev = getEmulatedDevice(devAddress);
+		if (dev == null)
+			return false; // nothing at this address
+		synchronized (deviceLocks[devAddress]) {
+			return dev.write(bs, offset, size);
+		}
+	}
+
+	public boolean write(int devAddress, int address, byte[] bs, int offset, int size) {
+		I2CCompHwEmulation dev = getEmulatedDevice(devAddress);
+		if (dev == null)
+			return false; // nothing at this address
+		synchronized (deviceLocks[devAddress]) {
+			return dev.write(address, bs, offset, size);
+		}
+	}
+
+	/**
+	 * 
+	 * @return number of bytes read into bs
+	 */
+	public int read(int devAddress, byte[] bs, int offset, int size) {
+		I2CCompHwEmulation dev = getEmulatedDevice(devAddress);
+		if (dev == null)
+			return 0; // nothing at this address
+		synchronized (deviceLocks[devAddress]) {
+			return dev.read(bs, offset, size);
+		}
+	}
+
+	/**
+	 * 
+	 * @return number of bytes read into bs
+	 */
+	public int read(int devAddress, int address, byte[] bs, int offset, int size) {
+		I2CCompHwEmulation dev = getEmulatedDevice(devAddress);
+		if (dev == null)
+			return 0; // nothing at this address
+		if (dev.isLockFreeRead(address, size))
+			return dev.read(address, bs, offset, size);
+		synchronized (deviceLocks[devAddress]) {
+			return dev.read(address, bs, offset, size);
+		}
 	}
 }
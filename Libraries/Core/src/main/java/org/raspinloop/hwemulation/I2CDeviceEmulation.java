@@ -16,10 +16,12 @@
 package org.raspinloop.hwemulation;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 public class I2CDeviceEmulation implements I2CDevice {
 
+	// single byte transfers, so that they do not allocate
+	private static final ThreadLocal<byte[]> singleByte = ThreadLocal.withInitial(() -> new byte[1]);
+
 	private I2CBusEmulation bus;
 	private int deviceAddress;
 
@@ -43,7 +45,9 @@ public class I2CDeviceEmulation implements I2CDevice {
      */
     @Override
     public void write(final byte data) throws IOException {
-    	 if (! bus.write(getAddress(), new byte[]{data}))
+    	byte[] buffer = singleByte.get();
+    	buffer[0] = data;
+    	 if (! bus.write(getAddress(), buffer, 0, 1))
     		 throw new IOException("Error writing to " + makeDescription() + ". Not implemented!");
     }
 
@@ -58,7 +62,7 @@ public class I2CDeviceEmulation implements I2CDevice {
      */
     @Override
     public void write(final byte[] data, final int offset, final int size) throws IOException {
-    	 if (! bus.write(getAddress(),Arrays.copyOfRange(data, offset, offset+size)))    	     
+    	 if (! bus.write(getAddress(), data, offset, size))
     	       throw new IOException("Error writing to " + makeDescription() + ". Not implemented!");
     }
 
@@ -84,7 +88,9 @@ public class I2CDeviceEmulation implements I2CDevice {
      */
     @Override
     public void write(final int address, final byte data) throws IOException {
-    	if (! bus.write(getAddress(),address, new byte[]{data}))
+    	byte[] buffer = singleByte.get();
+    	buffer[0] = data;
+    	if (! bus.write(getAddress(),address, buffer, 0, 1))
             throw new IOException("Error writing to " + makeDescription(address) + ". Not implemented!");
     }
 
@@ -100,7 +106,7 @@ public class I2CDeviceEmulation implements I2CDevice {
      */
     @Override
     public void write(final int address, final byte[] data, final int offset, final int size) throws IOException {
-    	if (! bus.write(getAddress(),address, Arrays.copyOfRange(data, offset, offset+size)))
+    	if (! bus.write(getAddress(),address, data, offset, size))
             throw new IOException("Error writing to " + makeDescription(address) + ". Not implemented!");
     }
 
@@ -125,7 +131,9 @@ public class I2CDeviceEmulation implements I2CDevice {
      */
     @Override
     public int read() throws IOException {
-    	byte[] byteread = bus.read(getAddress(),1);
+    	byte[] byteread = singleByte.get();
+    	if (bus.read(getAddress(), byteread, 0, 1) < 1)
+    		throw new IOException("Error reading from " + makeDescription() + ". No data!");
     	return byteread[0];
     }
 
@@ -148,11 +156,7 @@ public class I2CDeviceEmulation implements I2CDevice {
      */
     @Override
     public int read(final byte[] data, final int offset, final int size) throws IOException {
-    	byte[] byteread = bus.read(getAddress(),size);
-    	for (int i = 0; i < byteread.length; i++) {
-    		data[offset+i] = byteread[i];
-		}
-    	return byteread.length;
+    	return bus.read(getAddress(), data, offset, size);
       }
 
     /**
@@ -165,7 +169,9 @@ public class I2CDeviceEmulation implements I2CDevice {
      */
     @Override
     public int read(final int address) throws IOException {
-    	byte[] byteread = bus.read(getAddress(),address, 1);
+    	byte[] byteread = singleByte.get();
+    	if (bus.read(getAddress(), address, byteread, 0, 1) < 1)
+    		throw new IOException("Error reading from " + makeDescription(address) + ". No data!");
     	return byteread[0];
     }
 
@@ -189,11 +195,7 @@ public class I2CDeviceEmulation implements I2CDevice {
      */
     @Override
     public int read(final int address, final byte[] data, final int offset, final int size) throws IOException {
-    	byte[] byteread = bus.read(getAddress(),address, size);
-    	for (int i = 0; i < byteread.length; i++) {
-    		data[offset+i] = byteread[i];
-		}
-    	return byteread.length;
+    	return bus.read(getAddress(), address, data, offset, size);
       }
 
     /**
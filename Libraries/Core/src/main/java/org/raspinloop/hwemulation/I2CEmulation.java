@@ -16,7 +16,7 @@
 package org.raspinloop.hwemulation;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.raspinloop.fmi.I2CCompHwEmulation;
@@ -25,7 +25,9 @@ public enum I2CEmulation {
 	// Singleton
 	INST;
 
-	private HashMap<Integer, I2CBusEmulation> i2cBuses = new HashMap<Integer, I2CBusEmulation>();
+	// buses are created by the first component registered on them or by the
+	// first application thread asking for them
+	private final ConcurrentHashMap<Integer, I2CBusEmulation> i2cBuses = new ConcurrentHashMap<Integer, I2CBusEmulation>();
 		
 	public static I2CBus getInstance(Object[] args) throws IOException {
 		return INST.getBusInstance(args);
@@ -47,17 +49,12 @@ public enum I2CEmulation {
 	}
 
 	private I2CBusEmulation get(int busNb) {
-		if (! i2cBuses.containsKey(busNb)){
-			i2cBuses.put(busNb, new I2CBusEmulation(busNb));
-		}
-		return i2cBuses.get(busNb);
+		return i2cBuses.computeIfAbsent(busNb, I2CBusEmulation::new);
 	}
 	
 	public static void registerHwEmulation(short busNumber, I2CCompHwEmulation hw) throws Exception{
-		if (INST.i2cBuses.containsKey(busNumber)){
-			INST.i2cBuses.get(busNumber).register(hw);
-		}
-		else
+		if (busNumber < 0)
 			throw new Exception("no bus defined on" + busNumber);
+		INST.get(busNumber).register(hw);
 	}	
 }
@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.hwemulation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.raspinloop.timeemulation.SimulatedTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers pin events to their listeners on a dedicated thread, in the order
+ * they were dispatched. The thread changing an input (the simulation tool)
+ * only queues the event and does not run application listeners. <br>
+ * Once started, the dispatcher is a step barrier of {@link SimulatedTime}:
+ * simulated time does not advance before the events queued at the current
+ * instant are delivered, unless a listener is itself waiting for simulated
+ * time. A listener blocked on a monitor or a lock for more than
+ * BLOCKED_TIMEOUT_NANOS (real time) releases the step too, with a warning: its
+ * owner may be waiting for this step.
+ */
+public class PinEventDispatcher {
+
+	final static Logger logger = LoggerFactory.getLogger(PinEventDispatcher.class);
+
+	private static final int DEFAULT_CAPACITY = 1024;
+	private static final long POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+	private static final long BLOCKED_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final String name;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition delivered = lock.newCondition();
+
+	// ring of queued deliveries, grown when full so that dispatch never blocks
+	private Delivery[] ring;
+	private int head;
+	private int count;
+	// listeners of a taken event are running
+	private boolean delivering;
+
+	private Thread thread;
+	// thread is consuming the ring
+	private boolean running;
+	private boolean closed;
+	private final Runnable stepBarrier = this::awaitDelivered;
+
+	private long deliveredCount;
+	private long totalLatencyNanos;
+	private long maxLatencyNanos;
+	private int maxQueueDepth;
+
+	public PinEventDispatcher(String name) {
+		this(name, DEFAULT_CAPACITY);
+	}
+
+	public PinEventDispatcher(String name, int capacity) {
+		this.name = name;
+		this.ring = new Delivery[capacity];
+	}
+
+	/**
+	 * Queue event for listeners. Never blocks: the caller is the simulation
+	 * tool thread (or a listener), so the queue grows instead.
+	 */
+	public void dispatch(PinListener[] listeners, PinEvent event) {
+		if (listeners.length == 0)
+			return;
+		Delivery delivery = new Delivery(listeners, event, System.nanoTime());
+		lock.lock();
+		try {
+			if (!running || closed)
+				start();
+			if (count == ring.length)
+				grow();
+			ring[(head + count) % ring.length] = delivery;
+			count++;
+			maxQueueDepth = Math.max(maxQueueDepth, count);
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Wait until every queued event is delivered, or until the listener being
+	 * run waits for simulated time. A listener running, in I/O or blocked
+	 * (see BLOCKED_TIMEOUT_NANOS) is waited for.
+	 */
+	public void awaitDelivered() {
+		long blockedSince = 0;
+		lock.lock();
+		try {
+			while ((count > 0 || delivering) && thread != null && Thread.currentThread() != thread) {
+				if (delivering && SimulatedTime.INST.isWaitingForTime(thread))
+					return; // listener waits for a later step: do not dead-lock the step
+				if (delivering && thread.getState() != Thread.State.RUNNABLE && !lock.hasQueuedThread(thread)) {
+					long now = System.nanoTime();
+					if (blockedSince == 0)
+						blockedSince = now;
+					else if (now - blockedSince > BLOCKED_TIMEOUT_NANOS) {
+						logger.warn(name + " pin events: listener " + thread.getState() + " for more than "
+								+ TimeUnit.NANOSECONDS.toMillis(BLOCKED_TIMEOUT_NANOS) + " ms, simulated time advances");
+						return;
+					}
+				} else
+					blockedSince = 0;
+				delivered.awaitNanos(POLL_NANOS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Deliver the queued events then stop the dispatching thread. A later
+	 * dispatch starts a new one.
+	 */
+	public void close() {
+		lock.lock();
+		try {
+			if (!running || closed)
+				return;
+			closed = true;
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+		SimulatedTime.INST.removeStepBarrier(stepBarrier);
+	}
+
+	private void start() {
+		closed = false;
+		if (!running) {
+			running = true;
+			thread = new Thread(this::run, name + " pin events");
+			thread.setDaemon(true);
+			// runs application listeners
+			SimulatedTime.INST.trackThread(thread);
+			thread.start();
+		}
+		SimulatedTime.INST.removeStepBarrier(stepBarrier);
+		SimulatedTime.INST.addStepBarrier(stepBarrier);
+	}
+
+	private void run() {
+		while (true) {
+			Delivery delivery;
+			lock.lock();
+			try {
+				while (count == 0 && !closed)
+					notEmpty.awaitUninterruptibly();
+				if (count == 0) {
+					running = false;
+					delivered.signalAll();
+					return;
+				}
+				delivery = ring[head];
+				ring[head] = null;
+				head = (head + 1) % ring.length;
+				count--;
+				delivering = true;
+			} finally {
+				lock.unlock();
+			}
+
+			for (PinListener listener : delivery.listeners) {
+				try {
+					listener.handlePinEvent(delivery.event);
+				} catch (RuntimeException e) {
+					logger.error("Pin listener failed on " + delivery.event + ": " + e.getMessage(), e);
+				}
+			}
+
+			long latency = System.nanoTime() - delivery.queuedNano;
+			lock.lock();
+			try {
+				delivering = false;
+				deliveredCount++;
+				totalLatencyNanos += latency;
+				maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+				if (count == 0)
+					delivered.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void grow() {
+		Delivery[] grown = new Delivery[ring.length * 2];
+		for (int i = 0; i < count; i++)
+			grown[i] = ring[(head + i) % ring.length];
+		logger.warn(name + " pin events: " + count + " events waiting for listeners, queue grown to " + grown.length);
+		ring = grown;
+		head = 0;
+	}
+
+	public int getQueueDepth() {
+		lock.lock();
+		try {
+			return count;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getMaxQueueDepth() {
+		lock.lock();
+		try {
+			return maxQueueDepth;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getDeliveredCount() {
+		lock.lock();
+		try {
+			return deliveredCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return mean real time between dispatch and end of delivery
+	 */
+	public long getMeanLatencyNanos() {
+		lock.lock();
+		try {
+			return deliveredCount == 0 ? 0 : totalLatencyNanos / deliveredCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getMaxLatencyNanos() {
+		lock.lock();
+		try {
+			return maxLatencyNanos;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name + " pin events: delivered=" + getDeliveredCount() + " maxQueueDepth=" + getMaxQueueDepth() + " meanLatency="
+				+ getMeanLatencyNanos() / 1000 + "us maxLatency=" + getMaxLatencyNanos() / 1000 + "us";
+	}
+
+	private static class Delivery {
+		final PinListener[] listeners;
+		final PinEvent event;
+		final long queuedNano;
+
+		Delivery(PinListener[] listeners, PinEvent event, long queuedNano) {
+			this.listeners = listeners;
+			this.event = event;
+			this.queuedNano = queuedNano;
+		}
+	}
+}
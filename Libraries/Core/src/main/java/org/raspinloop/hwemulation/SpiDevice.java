@@ -38,4 +38,13 @@ public interface SpiDevice {
 	byte[] write(byte[] data, int start, int length) throws IOException;
 	short[] write(short[] data, int start, int length) throws IOException;
 
+	/**
+	 * Zero-garbage transfer: the bytes read replace, in data, the bytes
+	 * written between its position and limit. The write methods copy their
+	 * argument, as Pi4J does.
+	 * 
+	 * @return data, with position and limit unchanged
+	 */
+	ByteBuffer exchangeInPlace(ByteBuffer data) throws IOException;
+
 }
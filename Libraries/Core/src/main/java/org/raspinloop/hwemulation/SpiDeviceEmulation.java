@@ -28,6 +28,8 @@ public class SpiDeviceEmulation implements SpiDevice {
 	private Integer integer = SpiDevice.DEFAULT_SPI_SPEED;
 	private SpiEmulation spiEmulation;
 	private SpiChannel channel;
+	// transfers on this channel are serialized, other channels run concurrently
+	private final Object lock = new Object();
 
 	public SpiDeviceEmulation(SpiEmulation spiEmulation, SpiChannel channel) {
 		this.spiEmulation = spiEmulation;
@@ -54,9 +56,43 @@ public class SpiDeviceEmulation implements SpiDevice {
         return new String(write(buffer), charset);
     }
 
+    /**
+     * Writes the bytes between position and limit of data, as Pi4J does: data
+     * is left untouched.
+     *
+     * @return a new buffer (direct if data is) holding the bytes read, from 0
+     *         to its limit
+     */
     @Override
     public ByteBuffer write(ByteBuffer data) throws IOException {
-        return ByteBuffer.wrap(write(data.array()));
+        // we make a copy of the data argument because we don't want to modify the original source data
+        ByteBuffer buffer = data.isDirect() ? ByteBuffer.allocateDirect(data.remaining()) : ByteBuffer.allocate(data.remaining());
+        buffer.put(data.duplicate());
+        buffer.flip();
+        return exchangeInPlace(buffer);
+    }
+
+    /**
+     * Exchanges in place the bytes between position and limit of data: the
+     * bytes read replace the bytes written. Direct buffers are supported.
+     * Unlike {@link #write(ByteBuffer)}, no buffer is allocated: callers
+     * reusing data must write it again before the next exchange.
+     *
+     * @return data, with position and limit unchanged
+     */
+    @Override
+    public ByteBuffer exchangeInPlace(ByteBuffer data) throws IOException {
+        // validate max length allowed
+        if (data.remaining() > MAX_SUPPORTED_BYTES) {
+            throw new IOException("Number of bytes in data to write exceed the maximum bytes allowed to write SPI channel in a single call");
+        }
+
+        synchronized (lock) {
+            if (spiEmulation.wiringPiSPIDataRW(channel.getChannel(), data) <= 0) {
+                throw new IOException("Failed to write data to SPI channel: " + channel.getChannel());
+            }
+        }
+        return data;
     }
 
     @Override
@@ -117,7 +153,7 @@ public class SpiDeviceEmulation implements SpiDevice {
         byte[] buffer = new byte[length];
         System.arraycopy(data, start, buffer, 0, length);
 
-        synchronized (channel) {
+        synchronized (lock) {
                 // write the bytes from the temporary buffer to the SPI channel
                 if (spiEmulation.wiringPiSPIDataRW(channel.getChannel(), buffer) <= 0) {
                     throw new IOException("Failed to write data to SPI channel: " + channel.getChannel());
@@ -142,7 +178,7 @@ public class SpiDeviceEmulation implements SpiDevice {
         short[] buffer = new short[length];
         System.arraycopy(data, start, buffer, 0, length);
 
-        synchronized (channel) {
+        synchronized (lock) {
             // write the bytes from the temporary buffer to the SPI channel
             if (spiEmulation.wiringPiSPIDataRW(channel.getChannel(), buffer) <= 0) {
                 throw new IOException("Failed to write data to SPI channel: " + channel.getChannel());
@@ -16,8 +16,7 @@
 package org.raspinloop.hwemulation;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
 
 import org.raspinloop.fmi.SpiCompHwEmulation;
 
@@ -25,7 +24,7 @@ public enum SpiEmulation {
 	// Singleton
 	INST;
 
-	private SpiDeviceEmulation spiDevices[] = new SpiDeviceEmulation[SpiChannel.values().length];
+	private final SpiDeviceEmulation spiDevices[] = createDevices();
 		
 	public static SpiDevice getInstance(SpiChannel channel) throws IOException {
 		return INST.get(channel);
@@ -51,22 +50,39 @@ public enum SpiEmulation {
 	}
 
 	private SpiDeviceEmulation get(SpiChannel channel) {
-		if( spiDevices[channel.getChannel()] == null)
-			spiDevices[channel.getChannel()] = new SpiDeviceEmulation(this, channel);
 		return spiDevices[channel.getChannel()];
 	}
 
+	private SpiDeviceEmulation[] createDevices() {
+		SpiDeviceEmulation[] devices = new SpiDeviceEmulation[SpiChannel.values().length];
+		for (SpiChannel channel : SpiChannel.values())
+			devices[channel.getChannel()] = new SpiDeviceEmulation(this, channel);
+		return devices;
+	}
+
 	
-	Map<Short, SpiCompHwEmulation> devOnChannel = new HashMap<>();
+	// indexed by channel number, replaced (never modified) on registration
+	volatile SpiCompHwEmulation[] devOnChannel = new SpiCompHwEmulation[SpiChannel.values().length];
 	
-	public void registerHwEmulation(short channel, SpiCompHwEmulation hw){
-		devOnChannel.put(channel, hw);
+	public synchronized void registerHwEmulation(short channel, SpiCompHwEmulation hw){
+		if (channel < 0 || channel >= devOnChannel.length)
+			throw new IllegalArgumentException("No SPI channel " + channel + " for " + hw.getType());
+		SpiCompHwEmulation[] routing = devOnChannel.clone();
+		routing[channel] = hw;
+		devOnChannel = routing;
+	}
+
+	private SpiCompHwEmulation getHwEmulation(short channel) {
+		if (channel < 0 || channel >= devOnChannel.length)
+			return null;
+		return devOnChannel[channel];
 	}
 	
 	public int wiringPiSPIDataRW(short channel, byte[] buffer) {
 		try {
-			if (devOnChannel.containsKey(channel))
-				return devOnChannel.get(channel).spiDataRW(buffer);
+			SpiCompHwEmulation hw = getHwEmulation(channel);
+			if (hw != null)
+				return hw.spiDataRW(buffer);
 		} catch (Exception e) {
 		}
 		return 0;
@@ -74,8 +90,22 @@ public enum SpiEmulation {
 
 	public int wiringPiSPIDataRW(short channel, short[] buffer) {
 		try {
-			if (devOnChannel.containsKey(channel))
-				return devOnChannel.get(channel).spiDataRW(buffer);
+			SpiCompHwEmulation hw = getHwEmulation(channel);
+			if (hw != null)
+				return hw.spiDataRW(buffer);
+		} catch (Exception e) {
+		}
+		return 0;
+	}
+
+	/**
+	 * Exchanges in place the bytes between position and limit of buffer.
+	 */
+	public int wiringPiSPIDataRW(short channel, ByteBuffer buffer) {
+		try {
+			SpiCompHwEmulation hw = getHwEmulation(channel);
+			if (hw != null)
+				return hw.spiDataRW(buffer);
 		} catch (Exception e) {
 		}
 		return 0;
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.ipc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportFactory;
+
+/**
+ * Thrift protocol and transport framing used between proxy, launcher and runner.
+ * Both ends of a connection must use the same settings: launcher gives them to the runner
+ * as agent options (see toAgentOptions).
+ */
+public class IpcSettings {
+
+	public static final String PROTOCOL_OPTION = "ipcProtocol";
+	public static final String FRAMED_OPTION = "ipcFramed";
+
+	public enum Protocol {
+		BINARY, COMPACT
+	}
+
+	/** TBinaryProtocol over unframed transport: what ril_fmi and older runners speak */
+	public static final IpcSettings DEFAULT = new IpcSettings(Protocol.BINARY, false);
+
+	private final Protocol protocol;
+	private final boolean framed;
+
+	public IpcSettings(Protocol protocol, boolean framed) {
+		this.protocol = protocol;
+		this.framed = framed;
+	}
+
+	/**
+	 * @param protocol: "binary" or "compact", null for binary
+	 * @param framed: "true" for framed transport, null for unframed
+	 * @throws IllegalArgumentException if protocol is not one of the supported values, the
+	 *             message lists them.
+	 */
+	public static IpcSettings fromOptions(String protocol, String framed) {
+		return new IpcSettings(parseProtocol(protocol), Boolean.parseBoolean(framed));
+	}
+
+	private static Protocol parseProtocol(String protocol) {
+		if (protocol == null)
+			return Protocol.BINARY;
+		for (Protocol p : Protocol.values()) {
+			if (p.name().equalsIgnoreCase(protocol.trim()))
+				return p;
+		}
+		StringBuilder valid = new StringBuilder();
+		for (Protocol p : Protocol.values()) {
+			if (valid.length() > 0)
+				valid.append(", ");
+			valid.append(p.name().toLowerCase());
+		}
+		throw new IllegalArgumentException("Unknown protocol '" + protocol + "', valid values are: " + valid);
+	}
+
+	public Protocol getProtocol() {
+		return protocol;
+	}
+
+	public boolean isFramed() {
+		return framed;
+	}
+
+	public TProtocolFactory protocolFactory() {
+		return protocol == Protocol.COMPACT ? new TCompactProtocol.Factory() : new TBinaryProtocol.Factory();
+	}
+
+	public TTransportFactory transportFactory() {
+		return framed ? new TFramedTransport.Factory() : new TTransportFactory();
+	}
+
+	/**
+	 * client side: wrap the (opened) transport and build the protocol.
+	 */
+	public TProtocol clientProtocol(TTransport transport) {
+		return protocolFactory().getProtocol(transportFactory().getTransport(transport));
+	}
+
+	public Map<String, String> toAgentOptions() {
+		Map<String, String> options = new HashMap<>();
+		options.put(PROTOCOL_OPTION, protocol.name().toLowerCase());
+		options.put(FRAMED_OPTION, Boolean.toString(framed));
+		return options;
+	}
+
+	@Override
+	public String toString() {
+		return protocol.name().toLowerCase() + (framed ? "/framed" : "");
+	}
+}
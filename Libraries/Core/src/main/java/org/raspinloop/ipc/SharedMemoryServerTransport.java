@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.ipc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * Server side of a SharedMemoryTransport: creates the ring file and accepts its unique client.
+ */
+public class SharedMemoryServerTransport extends TServerTransport {
+
+	private final Path file;
+	private final CountDownLatch closed = new CountDownLatch(1);
+	private SharedMemoryTransport transport;
+	private boolean accepted = false;
+
+	public SharedMemoryServerTransport(Path file) {
+		this.file = file;
+	}
+
+	@Override
+	public void listen() throws TTransportException {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new TTransportException(TTransportException.NOT_OPEN, "Cannot reset " + file, e);
+		}
+		transport = new SharedMemoryTransport(file, true);
+		transport.open();
+		file.toFile().deleteOnExit();
+	}
+
+	@Override
+	protected TTransport acceptImpl() throws TTransportException {
+		if (!accepted) {
+			accepted = true;
+			return transport;
+		}
+		// only one client per ring: wait for close
+		try {
+			closed.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		throw new TTransportException(TTransportException.END_OF_FILE, "Shared memory server closed");
+	}
+
+	@Override
+	public void close() {
+		if (transport != null)
+			transport.close();
+		closed.countDown();
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// removed on exit
+		}
+	}
+
+	@Override
+	public void interrupt() {
+		close();
+	}
+}
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.ipc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * Thrift transport between two processes on the same host, through a memory-mapped file.
+ * 
+ * The file holds two single-producer/single-consumer rings, one per direction.
+ * Each ring starts with a header: write position, read position and closed flag.
+ * Data is published on flush (one Thrift message), the peer spins then parks while waiting. 
+ * 
+ * Each position has a single writer. Positions and closed flags are 8-byte aligned
+ * in the mapping and accessed in native order, so that getLong/putLong are single loads
+ * and stores (never torn). They are ordered with the ring data through a volatile field:
+ * the data is written before a volatile store, then the position is published; the
+ * position is loaded before a volatile load, then the data is read. On HotSpot, a volatile
+ * store is followed by a full fence and a volatile load by an acquire barrier, which also
+ * hold for the other process mapping the same memory.
+ */
+public class SharedMemoryTransport extends TTransport {
+
+	static final int RING_SIZE = 1 << 20;
+	private static final int HEADER_SIZE = 64;
+	private static final int WRITE_POS = 0;
+	private static final int READ_POS = 8;
+	private static final int CLOSED = 16;
+	private static final int FILE_SIZE = 2 * (HEADER_SIZE + RING_SIZE);
+
+	private static final int SPIN_TRIES = 20000;
+	private static final long MAX_PARK_NANO = 1000000;
+
+	// only accessed for its memory barriers (see getAcquire/putRelease)
+	private static volatile int fence;
+
+	private final Path file;
+	private final boolean serverSide;
+	private FileChannel channel;
+	private MappedByteBuffer buffer;
+	private ByteBuffer inView;
+	private ByteBuffer outView;
+	private int inBase;
+	private int outBase;
+	// marks our side closed if the JVM exits without closing the transport
+	private Thread closeOnExit;
+	private long writePos;
+	private long readPos;
+	// 0: wait without limit
+	private final long timeoutNano;
+
+	/**
+	 * 
+	 * @param file: ring file shared by both processes
+	 * @param serverSide: server and client use the two rings in opposite directions
+	 */
+	public SharedMemoryTransport(Path file, boolean serverSide) {
+		this(file, serverSide, 0);
+	}
+
+	/**
+	 * 
+	 * @param timeoutMillis: maximum time waiting for data or free space before
+	 *            failing with TIMED_OUT, 0 to wait without limit (debug of the peer
+	 *            is allowed). A peer that closed its side always ends the wait.
+	 */
+	public SharedMemoryTransport(Path file, boolean serverSide, int timeoutMillis) {
+		this.file = file;
+		this.serverSide = serverSide;
+		this.timeoutNano = timeoutMillis * 1000000L;
+	}
+
+	/**
+	 * 
+	 * @return the ring file used by the runner listening on this port.
+	 */
+	public static Path fileFor(int runnerPort) {
+		return Paths.get(System.getProperty("java.io.tmpdir"), "raspinloop-runner-" + runnerPort + ".shm");
+	}
+
+	@Override
+	public boolean isOpen() {
+		return buffer != null;
+	}
+
+	@Override
+	public void open() throws TTransportException {
+		if (isOpen())
+			throw new TTransportException(TTransportException.ALREADY_OPEN, "Shared memory already open");
+		try {
+			channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			buffer = channel.map(MapMode.READ_WRITE, 0, FILE_SIZE);
+			buffer.order(ByteOrder.nativeOrder());
+		} catch (IOException e) {
+			throw new TTransportException(TTransportException.NOT_OPEN, "Cannot map " + file, e);
+		}
+		int clientToServer = 0;
+		int serverToClient = HEADER_SIZE + RING_SIZE;
+		outBase = serverSide ? serverToClient : clientToServer;
+		inBase = serverSide ? clientToServer : serverToClient;
+		inView = buffer.duplicate();
+		outView = buffer.duplicate();
+		writePos = getAcquire(outBase + WRITE_POS);
+		readPos = getAcquire(inBase + READ_POS);
+		final int closedOffset = outBase + CLOSED;
+		// the hook holds the mapping, released by close
+		final MappedByteBuffer mapped = buffer;
+		closeOnExit = new Thread(() -> {
+			storeFence();
+			mapped.putInt(closedOffset, 1);
+			mapped.force();
+		}, "shm-close-on-exit");
+		Runtime.getRuntime().addShutdownHook(closeOnExit);
+	}
+
+	@Override
+	public void close() {
+		if (!isOpen())
+			return;
+		flushQuietly();
+		// data published before the peer sees the close
+		storeFence();
+		buffer.putInt(outBase + CLOSED, 1);
+		try {
+			Runtime.getRuntime().removeShutdownHook(closeOnExit);
+		} catch (IllegalStateException e) {
+			// already exiting
+		}
+		closeOnExit = null;
+		buffer = null;
+		inView = null;
+		outView = null;
+		try {
+			channel.close();
+		} catch (IOException e) {
+			// nothing to do
+		}
+	}
+
+	@Override
+	public int read(byte[] buf, int off, int len) throws TTransportException {
+		checkOpen();
+		long available = waitFor(inBase, readPos, true);
+		int count = (int) Math.min(len, available);
+		int index = (int) (readPos % RING_SIZE);
+		int first = Math.min(count, RING_SIZE - index);
+		inView.position(inBase + HEADER_SIZE + index);
+		inView.get(buf, off, first);
+		inView.position(inBase + HEADER_SIZE);
+		inView.get(buf, off + first, count - first);
+		readPos += count;
+		// data copied out before the space is given back
+		putRelease(inBase + READ_POS, readPos);
+		return count;
+	}
+
+	@Override
+	public void write(byte[] buf, int off, int len) throws TTransportException {
+		checkOpen();
+		while (len > 0) {
+			long free = RING_SIZE - (writePos - getAcquire(outBase + READ_POS));
+			if (free == 0) {
+				// ring full: publish what we have and wait for the reader
+				flush();
+				free = waitFor(outBase, writePos, false);
+			}
+			int count = (int) Math.min(len, free);
+			int index = (int) (writePos % RING_SIZE);
+			int first = Math.min(count, RING_SIZE - index);
+			outView.position(outBase + HEADER_SIZE + index);
+			outView.put(buf, off, first);
+			outView.position(outBase + HEADER_SIZE);
+			outView.put(buf, off + first, count - first);
+			writePos += count;
+			off += count;
+			len -= count;
+		}
+	}
+
+	@Override
+	public void flush() throws TTransportException {
+		checkOpen();
+		flushQuietly();
+	}
+
+	private void flushQuietly() {
+		// data written before the position is published
+		putRelease(outBase + WRITE_POS, writePos);
+	}
+
+	private long getAcquire(int offset) {
+		long value = buffer.getLong(offset);
+		loadFence();
+		return value;
+	}
+
+	private void putRelease(int offset, long value) {
+		storeFence();
+		buffer.putLong(offset, value);
+	}
+
+	/** following ring accesses are not moved before the previous load */
+	private static int loadFence() {
+		return fence;
+	}
+
+	/** previous ring accesses are visible before the following store */
+	private static void storeFence() {
+		fence = 0;
+	}
+
+	private boolean isPeerClosed() {
+		// peer closes the ring it writes to: our input ring
+		boolean closed = buffer.getInt(inBase + CLOSED) != 0;
+		loadFence();
+		return closed;
+	}
+
+	/**
+	 * wait for data to read (reading) or free space to write. 
+	 * @return number of bytes available
+	 */
+	private long waitFor(int base, long position, boolean reading) throws TTransportException {
+		int tries = 0;
+		long parkNano = 1000;
+		long start = System.nanoTime();
+		while (true) {
+			long available = reading ? getAcquire(base + WRITE_POS) - position 
+					: RING_SIZE - (position - getAcquire(base + READ_POS));
+			if (available > 0)
+				return available;
+			if (isPeerClosed())
+				throw new TTransportException(TTransportException.END_OF_FILE, "Peer closed shared memory");
+			if (tries++ < SPIN_TRIES)
+				continue;
+			if (timeoutNano > 0 && System.nanoTime() - start >= timeoutNano)
+				throw new TTransportException(TTransportException.TIMED_OUT, "No " + (reading ? "data" : "free space") + " on shared memory");
+			LockSupport.parkNanos(parkNano);
+			if (Thread.interrupted())
+				throw new TTransportException(TTransportException.UNKNOWN, "Interrupted while waiting on shared memory");
+			parkNano = Math.min(parkNano * 2, MAX_PARK_NANO);
+		}
+	}
+
+	private void checkOpen() throws TTransportException {
+		if (!isOpen())
+			throw new TTransportException(TTransportException.NOT_OPEN, "Shared memory not open");
+	}
+}
@@ -15,12 +15,20 @@
  ******************************************************************************/
 package org.raspinloop.timeemulation;
 
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
@@ -33,14 +41,37 @@ public enum SimulatedTime {
 	private final Lock lock = new ReentrantLock();
 	private final Condition appStarted = lock.newCondition();
 
-	long currentTimeNano = 0;
+	// threads waiting for simulated time (sleep and awaitNanos), woken by doStep at their deadline
+	private final Lock wakeupLock = new ReentrantLock();
+	private final PriorityQueue<Waiter> sleepers = new PriorityQueue<>();
+	// application threads followed by quiescence detection
+	private final Set<Thread> applicationThreads = ConcurrentHashMap.newKeySet();
+
+	// single writer (doStep/setup, serialized by the enum monitor), lock-free readers
+	volatile long currentTimeNano = 0;
 	long startDate = 0;
-	private Set<SimulatedTimeListerner> listeners = new HashSet<>();
+	// iterated by sleeping application threads
+	private final Set<SimulatedTimeListerner> listeners = new CopyOnWriteArraySet<>();
+	// run by doStep before time advances
+	private final List<Runnable> stepBarriers = new CopyOnWriteArrayList<>();
+	// fired by doStep once time has advanced
+	private final List<SimulatedTimeEventSource> eventSources = new CopyOnWriteArrayList<>();
+	// run by doStep once the application threads are quiescent at the new time
+	private final List<Runnable> stepEndActions = new CopyOnWriteArrayList<>();
 	@SuppressWarnings("unused")
 	private Long stoptimeNano = null;
-	private Long waitingThresholdNano = 0L;
+	// application threads may be virtual: no monitor on their path (sleep,
+	// threshold registration) so that they never pin their carrier
+	private final AtomicLong waitingThresholdNano = new AtomicLong();
+	private volatile long quiescenceTimeoutNano = 0L;
+	// back-off of the quiescence polling
+	private static final long MIN_PARK_NANO = 1000;
+	private static final long MAX_PARK_NANO = 1000000;
 	private boolean isStarted = false;
-	private boolean stopped = false;
+	private volatile boolean stopped = false;
+	// simulated time reached by each thread, ahead of currentTimeNano when
+	// sleeps below waitingThresholdNano were not waited for
+	private final ThreadLocal<long[]> threadClock = ThreadLocal.withInitial(() -> new long[1]);
 	private ThreadLocal<Long> requestingTime = new ThreadLocal<Long>() {
         @Override protected Long initialValue() { return 0L; }
 	};
@@ -62,11 +93,101 @@ public enum SimulatedTime {
 	 */
 	public synchronized void doStep(double time) {		
 		//logger.trace("Do a step of  {} ms ",time*1000);
+		for (Runnable barrier : stepBarriers)
+			barrier.run();
 		long incrementInNano = sectoNano(time);
 		currentTimeNano += incrementInNano;
 		if (INST.getWaitingThreshold() >= incrementInNano)
 			System.err.println("Simulator increment is lower than the maximun waiting treshold. You should check waiting threshold");
-		INST.notifyAll();
+		for (SimulatedTimeEventSource source : eventSources)
+			source.fireDue(currentTimeNano);
+		waitQuiescence(releaseWaiters(currentTimeNano));
+		for (Runnable action : stepEndActions)
+			action.run();
+	}
+
+	/**
+	 * 
+	 * @param timeoutMillis: maximum real time doStep waits for the application threads
+	 * to be idle (see isIdle). 0 (default) disables the wait: doStep returns as soon as the threads are woken.
+	 * The runner agent enables it with its quiescenceTimeout option (AgentArguments.QUIESCENCE_TIMEOUT).
+	 */
+	public void setQuiescenceTimeout(long timeoutMillis) {
+		this.quiescenceTimeoutNano = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+	}
+
+	/**
+	 * Follow thread in quiescence detection. Threads waiting for simulated time
+	 * are tracked automatically; threads that may be woken by them (executors,
+	 * event dispatchers) have to be registered at creation.
+	 */
+	public void trackThread(Thread thread) {
+		applicationThreads.add(thread);
+	}
+
+	private void waitQuiescence(List<Waiter> woken) {
+		if (quiescenceTimeoutNano <= 0)
+			return;
+		long deadline = System.nanoTime() + quiescenceTimeoutNano;
+		long parkNano = MIN_PARK_NANO;
+		// idle must be seen twice in a row: a thread may just have been signalled by another one
+		boolean idleOnce = false;
+		while (true) {
+			if (isQuiescent(woken)) {
+				if (idleOnce)
+					return;
+				idleOnce = true;
+			} else
+				idleOnce = false;
+			if (System.nanoTime() - deadline >= 0)
+				return; // thread still running: give up for this step
+			LockSupport.parkNanos(parkNano);
+			// short steps are answered quickly, busy threads are not polled too often
+			parkNano = Math.min(parkNano * 2, MAX_PARK_NANO);
+		}
+	}
+
+	private boolean isQuiescent(List<Waiter> woken) {
+		for (Waiter waiter : woken) {
+			// unparked but not yet scheduled, its state is still WAITING
+			if (!waiter.resumed && waiter.thread.isAlive())
+				return false;
+		}
+		Thread master = Thread.currentThread();
+		for (Thread thread : applicationThreads) {
+			if (!thread.isAlive())
+				applicationThreads.remove(thread);
+			else if (thread != master && !isIdle(thread))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 
+	 * @return true if thread waits in sleep or awaitNanos for a deadline that
+	 *         doStep has not reached yet: it only runs again after a step.
+	 */
+	public boolean isWaitingForTime(Thread thread) {
+		wakeupLock.lock();
+		try {
+			for (Waiter waiter : sleepers) {
+				if (waiter.thread == thread && !waiter.released && !waiter.resumed)
+					return true;
+			}
+			return false;
+		} finally {
+			wakeupLock.unlock();
+		}
+	}
+
+	/**
+	 * A thread is idle when it waits (simulated wait, condition, monitor) or is
+	 * not started. A thread blocked in native code (I/O) is RUNNABLE: it is seen
+	 * busy until the timeout.
+	 */
+	public static boolean isIdle(Thread thread) {
+		return thread.getState() != Thread.State.RUNNABLE;
 	}
 
 	/**
@@ -75,15 +196,13 @@ public enum SimulatedTime {
 	 * @param waitingThresholdNano: below this threshold, we do not wait for next Simulator doStep,
 	 *  waiting loop will be skipped. This value must be below the increment value of doDtep (configured in simulator) 
 	 */
-	public synchronized void RegisterWaitingThreshold(String requesterName, long waitingThresholdNano){
-		if (this.waitingThresholdNano < waitingThresholdNano){
-			//TODO: loggging of requester  
-			this.waitingThresholdNano = waitingThresholdNano;
-		}
+	public void RegisterWaitingThreshold(String requesterName, long waitingThresholdNano){
+		//TODO: loggging of requester  
+		this.waitingThresholdNano.accumulateAndGet(waitingThresholdNano, Math::max);
 	}
 	
-	public synchronized Long getWaitingThreshold(){
-		return this.waitingThresholdNano;
+	public Long getWaitingThreshold(){
+		return this.waitingThresholdNano.get();
 	}
 	
 	/**
@@ -92,16 +211,57 @@ public enum SimulatedTime {
 	 * This is useful when waitingThresholdNano is set and we want to known 
 	 * the theorical time elapsed between 2 doStep increment
 	 */
-	public synchronized Long getRequestingTime(){
+	public Long getRequestingTime(){
 		return this.requestingTime.get();
 	}
 		
 	public void addRequestingTimeListener(SimulatedTimeListerner listener){
 		listeners.add(listener);
 	}
+
+	/**
+	 * 
+	 * @param barrier: run by doStep before simulated time advances, so that work
+	 * queued at the current instant (i.e. pin events) completes at this instant. 
+	 */
+	public void addStepBarrier(Runnable barrier){
+		stepBarriers.add(barrier);
+	}
+
+	public void removeStepBarrier(Runnable barrier){
+		stepBarriers.remove(barrier);
+	}
+
+	/**
+	 * 
+	 * @param action: run at the end of doStep, once time has advanced and the application 
+	 * threads are quiescent, so that measures over the step (i.e. duty cycle) are closed 
+	 * before the simulation tool reads outputs. 
+	 */
+	public void addStepEndAction(Runnable action){
+		stepEndActions.add(action);
+	}
+
+	public void removeStepEndAction(Runnable action){
+		stepEndActions.remove(action);
+	}
+
+	/**
+	 * 
+	 * @param source: events fired by doStep once time has advanced, 
+	 * and taken in account by getNextWakeupNano. 
+	 */
+	public void addEventSource(SimulatedTimeEventSource source){
+		eventSources.add(source);
+	}
+
+	public void removeEventSource(SimulatedTimeEventSource source){
+		eventSources.remove(source);
+	}
 		
 	private long sectoNano(double time) {
-		return (long) (time * 1000000000.0);
+		// rounded: 0.007 s is 6999999.999... ns in floating point
+		return Math.round(time * 1000000000.0);
 	}
 
 	public synchronized void setup(double startTime, double stoptime) {
@@ -124,7 +284,7 @@ public enum SimulatedTime {
 	public synchronized void stop() {
 		signalStopped();
 		stopped = true;
-		INST.notifyAll();
+		releaseWaiters(Long.MAX_VALUE);
 	}
 
 	public boolean waitForApplicationStarting() throws InterruptedException {
@@ -172,20 +332,13 @@ public enum SimulatedTime {
 		//in order to keep its trace 
 		//even if we did'nt really wait during this time.
 		INST.requestingTime.set(INST.requestingTime.get()+nanos);
+		long[] clock = INST.threadClock.get();
+		clock[0] = Math.max(clock[0], INST.currentTimeNano) + nanos;
 				
 		INST.signalStarted();
-		if (nanos > INST.waitingThresholdNano) {
+		if (nanos > INST.waitingThresholdNano.get()) {
 		// get stuck waiting doStep only if we have to wait more than waitingThresholdNano
-			long startWaitingTime = INST.getCurrentTimeNano();
-			long waitingTime = 0;
-			do {
-				synchronized (INST) {
-					INST.wait(); // notify called at each doStep
-					waitingTime = INST.getCurrentTimeNano() - startWaitingTime;
-					if (INST.isStopped())
-						System.exit(0); // Simulation stopped: close the app.
-				}
-			} while (waitingTime < nanos);
+			INST.await(INST.enqueue(nanos, null, null));
 		}
 	}
 	
@@ -197,16 +350,53 @@ public enum SimulatedTime {
 		return stopped;
 	}
 
+	/**
+	 * 
+	 * @return the earliest simulated deadline of threads waiting in sleep or awaitNanos
+	 * and of event sources, or -1 if nothing is waiting for simulated time.
+	 * A master can step directly up to this time without missing any wakeup.
+	 */
+	public long getNextWakeupNano() {
+		long next = Long.MAX_VALUE;
+		for (SimulatedTimeEventSource source : eventSources) {
+			next = Math.min(next, source.getNextDeadlineNano());
+		}
+		wakeupLock.lock();
+		try {
+			if (!sleepers.isEmpty())
+				next = Math.min(next, sleepers.peek().deadlineNano);
+			return next == Long.MAX_VALUE ? -1 : next;
+		} finally {
+			wakeupLock.unlock();
+		}
+	}
+
 	public static long nanotime() {
 		long nano = INST.getCurrentTimeNano();
 		//logger.trace("Simulation nanotime called at {} ms", nano/1000000.0);
 		return nano;
 	}
 
-	public static long awaitNanos(long nanos, Condition target)
-			throws InterruptedException {
+	/**
+	 * 
+	 * @return simulated time as seen by the calling thread: the current time,
+	 * or later if the thread did sleeps too short to wait for doStep (see RegisterWaitingThreshold).
+	 */
+	public static long threadNanotime() {
+		return Math.max(INST.threadClock.get()[0], INST.getCurrentTimeNano());
+	}
+
+	/**
+	 * Condition.awaitNanos in simulated time. The caller holds lock, the lock of
+	 * target. The thread waits on target until it is signalled or until doStep
+	 * reaches its deadline: doStep then signals target (signalAll, under lock),
+	 * so other threads waiting on target may see a spurious wakeup.
+	 * 
+	 * @return as Condition.awaitNanos: the simulated time left, 0 or less once
+	 *         nanos have elapsed
+	 */
+	public static long awaitNanos(long nanos, Lock lock, Condition target) throws InterruptedException {
 		//logger.trace("Simulation awaitNanos called for {} ms", nanos/1000000.0);
-		// we have to wait for do step and wait for target condition
 		INST.lock.lock();
 		try {
 			if (!INST.isStarted) {
@@ -217,20 +407,25 @@ public enum SimulatedTime {
 		}
 
 		long startWaitingTime = INST.getCurrentTimeNano();
-		long waitingTime = 0;
-		do {
-			synchronized (INST) {
-				INST.wait(); // notify called at each doStep
-				waitingTime = INST.getCurrentTimeNano() - startWaitingTime;
-				if (INST.isStopped())
-					System.exit(0); // Simulation stopped: close the app.
+		// enqueued under lock: doStep cannot signal target before we wait on it
+		Waiter waiter = INST.enqueue(nanos, lock, target);
+		if (!waiter.released) {
+			try {
+				target.await();
+			} catch (InterruptedException e) {
+				INST.cancel(waiter);
+				throw e;
 			}
-		} while ((waitingTime < nanos)
-				&& !target.await(10/*
-									 * step increment should be taken in account
-									 */, TimeUnit.MICROSECONDS));
-
-		return nanos - waitingTime;
+		}
+		waiter.resumed = true;
+		if (INST.isStopped())
+			System.exit(0); // Simulation stopped: close the app.
+		if (!waiter.released) {
+			// signalled by the application before the deadline
+			INST.cancel(waiter);
+			return Math.max(1, waiter.deadlineNano - INST.getCurrentTimeNano());
+		}
+		return nanos - (INST.getCurrentTimeNano() - startWaitingTime);
 	}
 	
 	/**
@@ -243,5 +438,108 @@ public enum SimulatedTime {
 		Thread.sleep(millis, nanos);
 	}
 
+	/**
+	 * Register the current thread as waiting for simulated time.
+	 * @param nanos: simulated time to wait from now
+	 * @param lock, condition: signalled at the deadline, null for a parked thread
+	 */
+	private Waiter enqueue(long nanos, Lock lock, Condition condition) {
+		applicationThreads.add(Thread.currentThread());
+		wakeupLock.lock();
+		try {
+			Waiter waiter = new Waiter(currentTimeNano + nanos, lock, condition);
+			if (stopped)
+				waiter.released = true;
+			else
+				sleepers.add(waiter);
+			return waiter;
+		} finally {
+			wakeupLock.unlock();
+		}
+	}
+
+	private void await(Waiter waiter) throws InterruptedException {
+		while (!waiter.released) {
+			LockSupport.park(this);
+			if (Thread.interrupted()) {
+				cancel(waiter);
+				throw new InterruptedException();
+			}
+		}
+		waiter.resumed = true;
+		if (isStopped())
+			System.exit(0); // Simulation stopped: close the app.
+	}
+
+	private void cancel(Waiter waiter) {
+		wakeupLock.lock();
+		try {
+			sleepers.remove(waiter);
+		} finally {
+			wakeupLock.unlock();
+		}
+	}
+
+	/**
+	 * wake only threads whose deadline is reached.
+	 */
+	private List<Waiter> releaseWaiters(long timeNano) {
+		List<Waiter> released = new ArrayList<>();
+		wakeupLock.lock();
+		try {
+			while (!sleepers.isEmpty() && sleepers.peek().deadlineNano <= timeNano) {
+				released.add(sleepers.poll());
+			}
+		} finally {
+			wakeupLock.unlock();
+		}
+		for (Waiter waiter : released) {
+			waiter.release();
+		}
+		return released;
+	}
+
+	private static final class Waiter implements Comparable<Waiter> {
+		final Thread thread = Thread.currentThread();
+		final long deadlineNano;
+		final Lock lock;
+		final Condition condition;
+		volatile boolean released = false;
+		volatile boolean resumed = false;
+
+		Waiter(long deadlineNano, Lock lock, Condition condition) {
+			this.deadlineNano = deadlineNano;
+			this.lock = lock;
+			this.condition = condition;
+		}
+
+		void release() {
+			released = true;
+			if (condition == null)
+				LockSupport.unpark(thread);
+			else if (lock.tryLock())
+				signal();
+			else // held by an application thread, maybe waiting for this step: do not block doStep
+				CompletableFuture.runAsync(() -> {
+					lock.lock();
+					signal();
+				});
+		}
+
+		// called with lock held
+		private void signal() {
+			try {
+				condition.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public int compareTo(Waiter other) {
+			return Long.compare(deadlineNano, other.deadlineNano);
+		}
+	}
+
 
 }
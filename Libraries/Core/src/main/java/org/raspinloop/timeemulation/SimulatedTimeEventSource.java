@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.timeemulation;
+
+/**
+ * Events queued by simulated deadline, fired by SimulatedTime.doStep once
+ * time has advanced (no thread waits for them).
+ */
+public interface SimulatedTimeEventSource {
+
+	/**
+	 * 
+	 * @return the earliest pending deadline in simulated nanoseconds, Long.MAX_VALUE if none
+	 */
+	long getNextDeadlineNano();
+
+	/**
+	 * Fire events whose deadline is reached. Called by the simulation master
+	 * thread, before the threads waiting for simulated time are woken.
+	 * 
+	 * It may wait for the work it fired so that this work runs at the instant
+	 * of its deadline (i.e. SimulatedTimeScheduler waits until its tasks are
+	 * done or wait, up to 1 s of real time). It must not wait for anything else.
+	 * This wait adds to the quiescence wait of doStep (see
+	 * SimulatedTime.setQuiescenceTimeout), which may take up to its own
+	 * timeout: with busy threads, a step may last both timeouts (1.1 s with
+	 * a quiescenceTimeout=100 agent option).
+	 */
+	void fireDue(long timeNano);
+}
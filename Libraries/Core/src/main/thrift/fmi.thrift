@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+
+/**
+ * FMI co-simulation calls from ril_fmi (the FMU binary) to the Java side.
+ * Java sources in org.raspinloop.fmi are generated with:
+ *   thrift -r --gen java -out Libraries/Core/src/main/java Libraries/Core/src/main/thrift/fmi.thrift
+ * ril_fmi must be regenerated from this file (thrift --gen cpp) when it changes.
+ */
+namespace java org.raspinloop.fmi
+namespace cpp raspinloop.fmi
+
+enum Type {
+  ModelExchange = 0,
+  CoSimulation = 1
+}
+
+enum Status {
+  OK = 0,
+  Warning = 1,
+  Discard = 2,
+  Error = 3,
+  Fatal = 4,
+  Pending = 5
+}
+
+enum StatusKind {
+  DoStepStatus = 0,
+  PendingStatus = 1,
+  LastSuccessfulTime = 2,
+  Terminated = 3
+}
+
+enum ModelState {
+  modelStartAndEnd = 1,
+  modelInstantiated = 2,
+  modelInitializationMode = 4,
+  modelEventMode = 8,
+  modelContinuousTimeMode = 16,
+  modelStepComplete = 35,
+  modelStepInProgress = 64,
+  modelStepFailed = 128,
+  modelStepCanceled = 256,
+  modelTerminated = 512,
+  modelError = 1024,
+  modelFatal = 2048
+}
+
+struct Instance {
+  1: string instanceName,
+  2: i64 componentRef,
+  3: string GUID,
+  4: ModelState state
+}
+
+struct EventInfo {
+  1: bool newDiscreteStatesNeeded,
+  2: bool terminateSimulation,
+  3: bool nominalsOfContinuousStatesChanged,
+  4: bool valuesOfContinuousStatesChanged,
+  5: bool nextEventTimeDefined,
+  6: double nextEventTime
+}
+
+/**
+ * Output values changed since the previous getChanges, by type.
+ */
+struct Changes {
+  1: map<i32,double> reals,
+  2: map<i32,i32> ints,
+  3: map<i32,bool> bools
+}
+
+/**
+ * Transition of a boolean output: simulated time in seconds and new level.
+ */
+struct Edge {
+  1: i32 ref,
+  2: double time,
+  3: bool level
+}
+
+/**
+ * One master cycle: inputs set, step done, outputs read back.
+ * Outputs are only read if every input was accepted and the step succeeded.
+ */
+struct StepRequest {
+  1: double currentCommunicationPoint,
+  2: double communicationStepSize,
+  3: bool noSetFMUStatePriorToCurrentPoint,
+  4: map<i32,double> reals,
+  5: map<i32,i32> ints,
+  6: map<i32,bool> bools,
+  7: list<i32> realOuts,
+  8: list<i32> intOuts,
+  9: list<i32> boolOuts
+}
+
+/**
+ * Values in the order of the refs of the request; empty lists when status is not OK.
+ */
+struct StepResponse {
+  1: Status status,
+  2: list<double> reals,
+  3: list<i32> ints,
+  4: list<bool> bools
+}
+
+service CoSimulation {
+  string getVersion(),
+  string getTypesPlatform(),
+  Instance instanciate(1:string instanceName, 2:Type fmuType, 3:string fmuGUID, 4:string fmuResourceLocation, 5:bool visible, 6:bool loggingOn),
+  Status setupExperiment(1:Instance c, 2:bool toleranceDefined, 3:double tolerance, 4:double startTime, 5:bool stopTimeDefined, 6:double stopTime),
+  Status enterInitializationMode(1:Instance c),
+  Status exitInitializationMode(1:Instance c),
+  Status terminate(1:Instance c),
+  Changes getChanges(1:Instance c),
+  Status reset(1:Instance c),
+  void freeInstance(1:Instance c),
+  list<double> getReal(1:Instance c, 2:list<i32> refs),
+  list<Edge> getEdges(1:Instance c, 2:list<i32> refs),
+  StepResponse stepAndExchange(1:Instance c, 2:StepRequest request),
+  list<i32> getInteger(1:Instance c, 2:list<i32> refs),
+  list<bool> getBoolean(1:Instance c, 2:list<i32> refs),
+  list<string> getString(1:Instance c, 2:list<i32> refs),
+  Status setReal(1:Instance c, 2:map<i32,double> ref_values),
+  Status setInteger(1:Instance c, 2:map<i32,i32> ref_values),
+  Status setBoolean(1:Instance c, 2:map<i32,bool> ref_values),
+  Status setString(1:Instance c, 2:map<i32,string> ref_values),
+  Status setRealInputDerivatives(1:Instance c, 2:map<i32,i32> ref_orders, 3:map<i32,double> ref_values),
+  Status setRealOutputDerivatives(1:Instance c, 2:map<i32,i32> ref_orders, 3:map<i32,double> ref_values),
+  Status cancelStep(1:Instance c),
+  Status doStep(1:Instance c, 2:double currentCommunicationPoint, 3:double communicationStepSize, 4:bool noSetFMUStatePriorToCurrentPoint),
+  Status getStatus(1:Instance c, 2:StatusKind s),
+  i32 getIntegerStatus(1:Instance c, 2:StatusKind s),
+  double getRealStatus(1:Instance c, 2:StatusKind s),
+  bool getBooleanStatus(1:Instance c, 2:StatusKind s),
+  string getStringStatus(1:Instance c, 2:StatusKind s)
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.hwemulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.raspinloop.config.Pin;
+import org.raspinloop.timeemulation.SimulatedTime;
+
+public class PinEventDispatcherTest {
+
+	private static final int EVENTS = 10000;
+
+	private PinEventDispatcher dispatcher;
+
+	@Before
+	public void setUp() throws InterruptedException {
+		SimulatedTime.INST.setup(0);
+		SimulatedTime.sleep(0); // application started
+		dispatcher = new PinEventDispatcher("test", 16);
+	}
+
+	@After
+	public void tearDown() {
+		dispatcher.close();
+	}
+
+	@Test
+	public void testDeliveredInOrder() throws Exception {
+		List<Integer> first = new ArrayList<>();
+		List<Integer> second = new ArrayList<>();
+		PinListener[] listeners = { ev -> first.add(((TestEvent) ev).index), ev -> second.add(((TestEvent) ev).index) };
+		for (int i = 0; i < EVENTS; i++)
+			dispatcher.dispatch(listeners, new TestEvent(i));
+		dispatcher.awaitDelivered();
+
+		assertEquals(0, dispatcher.getQueueDepth());
+		assertEquals(EVENTS, dispatcher.getDeliveredCount());
+		assertEquals(EVENTS, first.size());
+		for (int i = 0; i < EVENTS; i++) {
+			assertEquals(i, first.get(i).intValue());
+			assertEquals(i, second.get(i).intValue());
+		}
+	}
+
+	@Test
+	public void testBarrierWaitsForBlockedListener() throws Exception {
+		Object monitor = new Object();
+		CountDownLatch entered = new CountDownLatch(1);
+		PinListener[] listeners = { ev -> {
+			entered.countDown();
+			synchronized (monitor) {
+				// blocked while the test holds monitor
+			}
+		} };
+		CountDownLatch barrierPassed = new CountDownLatch(1);
+		synchronized (monitor) {
+			dispatcher.dispatch(listeners, new TestEvent(0));
+			assertTrue(entered.await(5, TimeUnit.SECONDS));
+			Thread step = new Thread(() -> {
+				dispatcher.awaitDelivered();
+				barrierPassed.countDown();
+			});
+			step.start();
+			assertFalse("listener blocked on a monitor: step must wait", barrierPassed.await(200, TimeUnit.MILLISECONDS));
+		}
+		assertTrue(barrierPassed.await(5, TimeUnit.SECONDS));
+		assertEquals(1, dispatcher.getDeliveredCount());
+	}
+
+	@Test
+	public void testBarrierReleasedByListenerWaitingForTime() throws Exception {
+		PinListener[] listeners = { ev -> {
+			try {
+				SimulatedTime.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		} };
+		dispatcher.dispatch(listeners, new TestEvent(0));
+		CountDownLatch barrierPassed = new CountDownLatch(1);
+		Thread step = new Thread(() -> {
+			dispatcher.awaitDelivered();
+			barrierPassed.countDown();
+		});
+		step.start();
+		assertTrue("listener waits for simulated time: step must go on", barrierPassed.await(5, TimeUnit.SECONDS));
+		assertEquals(0, dispatcher.getDeliveredCount());
+
+		SimulatedTime.INST.doStep(0.01);
+		dispatcher.awaitDelivered();
+		assertEquals(1, dispatcher.getDeliveredCount());
+	}
+
+	private static class TestEvent implements PinEvent {
+		final int index;
+
+		TestEvent(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public Pin getPin() {
+			return null;
+		}
+
+		@Override
+		public PinEventType getEventType() {
+			return PinEventType.DIGITAL_STATE_CHANGE;
+		}
+	}
+}
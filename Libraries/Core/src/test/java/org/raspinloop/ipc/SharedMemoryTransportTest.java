@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.ipc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SharedMemoryTransportTest {
+
+	private Path file;
+	private SharedMemoryServerTransport server;
+	private TTransport serverSide;
+	private SharedMemoryTransport client;
+	private final ExecutorService peer = Executors.newSingleThreadExecutor();
+
+	@Before
+	public void setUp() throws Exception {
+		file = Files.createTempFile("raspinloop-test", ".shm");
+		server = new SharedMemoryServerTransport(file);
+		server.listen();
+		serverSide = server.accept();
+		client = new SharedMemoryTransport(file, false, 5000);
+		client.open();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		peer.shutdownNow();
+		client.close();
+		server.close();
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		byte[] request = "doStep".getBytes("US-ASCII");
+		client.write(request);
+		client.flush();
+		assertArrayEquals(request, readAll(serverSide, request.length));
+
+		byte[] response = "OK".getBytes("US-ASCII");
+		serverSide.write(response);
+		serverSide.flush();
+		assertArrayEquals(response, readAll(client, response.length));
+	}
+
+	@Test
+	public void testWrapAround() throws Exception {
+		// more than the ring: the writer waits for the reader, positions wrap
+		byte[] message = new byte[3 * SharedMemoryTransport.RING_SIZE + 123];
+		new Random(42).nextBytes(message);
+		Future<byte[]> received = peer.submit(() -> readAll(serverSide, message.length));
+		for (int off = 0; off < message.length; off += 4096) {
+			client.write(message, off, Math.min(4096, message.length - off));
+		}
+		client.flush();
+		assertArrayEquals(message, received.get());
+	}
+
+	@Test
+	public void testUnflushedDataNotVisible() throws Exception {
+		client.write(new byte[] { 1, 2, 3 });
+		// server side view with a timeout
+		SharedMemoryTransport reader = new SharedMemoryTransport(file, true, 50);
+		reader.open();
+		try {
+			reader.read(new byte[3], 0, 3);
+			fail("data published before flush");
+		} catch (TTransportException e) {
+			assertEquals(TTransportException.TIMED_OUT, e.getType());
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Test
+	public void testClosedPeerEndsRead() throws Exception {
+		Future<?> reading = peer.submit(() -> readAll(serverSide, 1));
+		client.close();
+		try {
+			reading.get();
+			fail("read returned on a closed peer");
+		} catch (ExecutionException e) {
+			assertEquals(TTransportException.END_OF_FILE, ((TTransportException) e.getCause()).getType());
+		}
+	}
+
+	@Test
+	public void testClosedServerEndsClientRead() throws Exception {
+		server.close();
+		try {
+			client.read(new byte[1], 0, 1);
+			fail("read returned on a closed peer");
+		} catch (TTransportException e) {
+			assertEquals(TTransportException.END_OF_FILE, e.getType());
+		}
+	}
+
+	@Test
+	public void testDataFlushedBeforeCloseIsRead() throws Exception {
+		client.write(new byte[] { 7 });
+		client.close(); // close flushes
+		assertArrayEquals(new byte[] { 7 }, readAll(serverSide, 1));
+	}
+
+	private static byte[] readAll(TTransport transport, int len) throws TTransportException {
+		byte[] buf = new byte[len];
+		transport.readAll(buf, 0, len);
+		return buf;
+	}
+}
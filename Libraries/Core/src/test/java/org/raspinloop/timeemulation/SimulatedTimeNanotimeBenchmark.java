@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.timeemulation;
+
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Contended SimulatedTime.nanotime() reads: READERS threads read the clock
+ * while a master thread calls doStep in a loop. The same run is done with
+ * reads taking the SimulatedTime monitor, as doStep does, to compare with
+ * a locked clock. Each reader checks that the time it sees never goes back.
+ * 
+ * Not part of the unit tests, run with:
+ * mvn test -pl Libraries/Core -am -Dtest=SimulatedTimeNanotimeBenchmark -DfailIfNoTests=false
+ */
+public class SimulatedTimeNanotimeBenchmark {
+
+	final static Logger logger = LoggerFactory.getLogger(SimulatedTimeNanotimeBenchmark.class);
+
+	private static final double STEP = 0.000001; // 1us
+	private static final long WARMUP_MILLIS = 500;
+	private static final long RUN_MILLIS = 1000;
+	private static final int[] READERS = { 1, 2, 4, 8 };
+
+	@Test
+	public void contendedReads() throws Exception {
+		SimulatedTime.INST.setup(0);
+		SimulatedTime.sleep(0); // application started
+		SimulatedTime.INST.setQuiescenceTimeout(0);
+		for (int nbReaders : READERS) {
+			run(nbReaders, SimulatedTime::nanotime, WARMUP_MILLIS);
+			run(nbReaders, SimulatedTimeNanotimeBenchmark::lockedNanotime, WARMUP_MILLIS);
+			double[] lockFree = run(nbReaders, SimulatedTime::nanotime, RUN_MILLIS);
+			double[] locked = run(nbReaders, SimulatedTimeNanotimeBenchmark::lockedNanotime, RUN_MILLIS);
+			logger.info(String.format("%d readers: nanotime %8.1f Mreads/s (%6.0f steps/s), locked %8.1f Mreads/s (%6.0f steps/s)", 
+					nbReaders, lockFree[0] / 1e6, lockFree[1], locked[0] / 1e6, locked[1]));
+		}
+	}
+
+	private static long lockedNanotime() {
+		synchronized (SimulatedTime.INST) {
+			return SimulatedTime.INST.getCurrentTimeNano();
+		}
+	}
+
+	/**
+	 * @return reads per second (all readers) and steps per second
+	 */
+	private static double[] run(int nbReaders, LongSupplier clock, long millis) throws InterruptedException {
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicBoolean wentBack = new AtomicBoolean();
+		AtomicLong reads = new AtomicLong();
+		CountDownLatch started = new CountDownLatch(nbReaders);
+		List<Thread> readers = new ArrayList<>();
+		for (int i = 0; i < nbReaders; i++) {
+			Thread reader = new Thread(() -> {
+				long count = 0;
+				long last = clock.getAsLong();
+				started.countDown();
+				while (running.get()) {
+					long now = clock.getAsLong();
+					if (now < last)
+						wentBack.set(true);
+					last = now;
+					count++;
+				}
+				reads.addAndGet(count);
+			}, "reader-" + i);
+			reader.setDaemon(true);
+			readers.add(reader);
+			reader.start();
+		}
+		started.await();
+
+		long steps = 0;
+		long start = System.nanoTime();
+		long end = start + millis * 1000000L;
+		while (System.nanoTime() - end < 0) {
+			SimulatedTime.INST.doStep(STEP);
+			steps++;
+		}
+		running.set(false);
+		for (Thread reader : readers)
+			reader.join();
+		long elapsed = System.nanoTime() - start;
+		assertFalse("simulated time went back", wentBack.get());
+		return new double[] { reads.get() * 1e9 / elapsed, steps * 1e9 / elapsed };
+	}
+}
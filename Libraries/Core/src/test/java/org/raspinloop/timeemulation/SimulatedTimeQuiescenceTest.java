@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.timeemulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SimulatedTimeQuiescenceTest {
+
+	private static final double STEP = 0.001; // 1ms
+	private static final long TIMEOUT_MILLIS = 50;
+
+	private Thread application;
+
+	@Before
+	public void setUp() throws InterruptedException {
+		SimulatedTime.INST.setup(0);
+		SimulatedTime.sleep(0); // application started
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		SimulatedTime.INST.setQuiescenceTimeout(0);
+		if (application != null) {
+			application.interrupt();
+			application.join(5000);
+		}
+	}
+
+	@Test
+	public void testQuiescentStepDoesNotWaitForTimeout() throws Exception {
+		SimulatedTime.INST.setQuiescenceTimeout(TimeUnit.SECONDS.toMillis(10));
+		AtomicInteger periods = new AtomicInteger();
+		application = start(() -> {
+			try {
+				while (true) {
+					SimulatedTime.sleep(1);
+					periods.incrementAndGet();
+				}
+			} catch (InterruptedException e) {
+				// end of test
+			}
+		});
+		awaitWaiting(application);
+		long start = System.nanoTime();
+		for (int i = 1; i <= 100; i++) {
+			SimulatedTime.INST.doStep(STEP);
+			// the step returns once the sleeper waits again
+			assertEquals(i, periods.get());
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("100 quiescent steps took " + elapsedMillis + " ms", elapsedMillis < 5000);
+	}
+
+	@Test
+	public void testBusyThreadReachesTimeout() throws Exception {
+		SimulatedTime.INST.setQuiescenceTimeout(TIMEOUT_MILLIS);
+		AtomicBoolean running = new AtomicBoolean(true);
+		application = start(() -> {
+			while (running.get() && !Thread.currentThread().isInterrupted()) {
+				// busy polling, never waits
+			}
+		});
+		SimulatedTime.INST.trackThread(application);
+		try {
+			long start = System.nanoTime();
+			SimulatedTime.INST.doStep(STEP);
+			long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			assertTrue("step gave up after " + elapsedMillis + " ms", elapsedMillis >= TIMEOUT_MILLIS);
+			assertTrue("step gave up after " + elapsedMillis + " ms", elapsedMillis < 10 * TIMEOUT_MILLIS);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private static Thread start(Runnable body) {
+		Thread thread = new Thread(body, "application");
+		thread.setDaemon(true);
+		thread.start();
+		return thread;
+	}
+
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (thread.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline)
+			Thread.sleep(1);
+		assertEquals(Thread.State.WAITING, thread.getState());
+	}
+}
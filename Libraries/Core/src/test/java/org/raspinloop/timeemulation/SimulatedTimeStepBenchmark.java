@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.timeemulation;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Steps per second against the number of threads waiting in
+ * SimulatedTime.awaitNanos, each woken every PERIOD_STEPS steps. doStep waits
+ * for the woken threads to wait again.
+ * 
+ * Not part of the unit tests, run with:
+ * mvn test -pl Libraries/Core -am -Dtest=SimulatedTimeStepBenchmark -DfailIfNoTests=false
+ */
+public class SimulatedTimeStepBenchmark {
+
+	final static Logger logger = LoggerFactory.getLogger(SimulatedTimeStepBenchmark.class);
+
+	private static final double STEP = 0.001; // 1ms
+	private static final long STEP_NANO = 1000000L;
+	private static final int PERIOD_STEPS = 100;
+	private static final int NB_STEPS = 2000;
+	private static final int[] SLEEPERS = { 0, 1, 10, 100, 500 };
+
+	private final List<Thread> sleepers = new ArrayList<>();
+
+	@After
+	public void tearDown() throws InterruptedException {
+		stopSleepers();
+		SimulatedTime.INST.setQuiescenceTimeout(0);
+	}
+
+	@Test
+	public void stepThroughput() throws Exception {
+		for (int nbSleepers : SLEEPERS) {
+			SimulatedTime.INST.setup(0);
+			SimulatedTime.sleep(0); // application started
+			SimulatedTime.INST.setQuiescenceTimeout(1000);
+			AtomicInteger woken = new AtomicInteger();
+			for (int i = 0; i < nbSleepers; i++)
+				startSleeper(woken, i);
+			awaitWaiting();
+
+			long start = System.nanoTime();
+			for (int i = 0; i < NB_STEPS; i++)
+				SimulatedTime.INST.doStep(STEP);
+			long elapsed = System.nanoTime() - start;
+			logger.info(String.format("%4d sleepers: %8.0f steps/s, %d wakeups", nbSleepers, NB_STEPS * 1e9 / elapsed, woken.get()));
+			assertEquals(nbSleepers * (NB_STEPS / PERIOD_STEPS), woken.get());
+			stopSleepers();
+		}
+	}
+
+	private void startSleeper(AtomicInteger woken, int index) {
+		Thread sleeper = new Thread(() -> {
+			ReentrantLock lock = new ReentrantLock();
+			Condition condition = lock.newCondition();
+			lock.lock();
+			try {
+				while (true) {
+					if (SimulatedTime.awaitNanos(PERIOD_STEPS * STEP_NANO, lock, condition) <= 0)
+						woken.incrementAndGet();
+				}
+			} catch (InterruptedException e) {
+				// end of run
+			} finally {
+				lock.unlock();
+			}
+		}, "sleeper-" + index);
+		sleeper.setDaemon(true);
+		sleepers.add(sleeper);
+		sleeper.start();
+	}
+
+	private void awaitWaiting() throws InterruptedException {
+		for (Thread sleeper : sleepers) {
+			while (sleeper.getState() != Thread.State.WAITING)
+				Thread.sleep(1);
+		}
+	}
+
+	private void stopSleepers() throws InterruptedException {
+		for (Thread sleeper : sleepers)
+			sleeper.interrupt();
+		for (Thread sleeper : sleepers)
+			sleeper.join(5000);
+		sleepers.clear();
+	}
+}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.timeemulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SimulatedTimeTest {
+
+	private static final double STEP = 0.001; // 1ms
+	private static final long STEP_NANO = 1000000L;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition condition = lock.newCondition();
+	private Thread application;
+
+	@Before
+	public void setUp() throws InterruptedException {
+		SimulatedTime.INST.setup(0);
+		SimulatedTime.sleep(0); // application started
+		// steps return once the woken threads wait again
+		SimulatedTime.INST.setQuiescenceTimeout(5000);
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		SimulatedTime.INST.setQuiescenceTimeout(0);
+		if (application != null) {
+			application.interrupt();
+			application.join(5000);
+		}
+	}
+
+	@Test
+	public void testDoStepAdvancesTime() {
+		SimulatedTime.INST.doStep(STEP);
+		SimulatedTime.INST.doStep(0.007);
+		assertEquals(8 * STEP_NANO, SimulatedTime.nanotime());
+	}
+
+	@Test
+	public void testSleepWokenAtDeadline() throws Exception {
+		AtomicLong wokenAt = new AtomicLong(-1);
+		application = start(() -> {
+			try {
+				SimulatedTime.sleep(3);
+				wokenAt.set(SimulatedTime.nanotime());
+			} catch (InterruptedException e) {
+				// end of test
+			}
+		});
+		awaitWaiting(application);
+		assertEquals(3 * STEP_NANO, SimulatedTime.INST.getNextWakeupNano());
+		SimulatedTime.INST.doStep(STEP);
+		SimulatedTime.INST.doStep(STEP);
+		assertEquals(-1, wokenAt.get());
+		SimulatedTime.INST.doStep(STEP);
+		application.join(5000);
+		assertEquals(3 * STEP_NANO, wokenAt.get());
+		assertEquals(-1, SimulatedTime.INST.getNextWakeupNano());
+	}
+
+	@Test
+	public void testAwaitNanosTimesOutAtDeadlineOnly() throws Exception {
+		AtomicInteger returns = new AtomicInteger();
+		AtomicLong remaining = new AtomicLong();
+		application = start(() -> {
+			lock.lock();
+			try {
+				while (true) {
+					remaining.set(SimulatedTime.awaitNanos(5 * STEP_NANO, lock, condition));
+					returns.incrementAndGet();
+				}
+			} catch (InterruptedException e) {
+				// end of test
+			} finally {
+				lock.unlock();
+			}
+		});
+		awaitWaiting(application);
+		assertEquals(5 * STEP_NANO, SimulatedTime.INST.getNextWakeupNano());
+		for (int i = 1; i <= 4; i++) {
+			SimulatedTime.INST.doStep(STEP);
+			// not woken by steps before its deadline
+			assertEquals(0, returns.get());
+		}
+		SimulatedTime.INST.doStep(STEP);
+		assertEquals(1, returns.get());
+		assertTrue(remaining.get() <= 0);
+		// waits again with a new deadline
+		awaitWaiting(application);
+		assertEquals(10 * STEP_NANO, SimulatedTime.INST.getNextWakeupNano());
+	}
+
+	@Test
+	public void testAwaitNanosWokenBySignal() throws Exception {
+		AtomicLong remaining = new AtomicLong();
+		application = start(() -> {
+			lock.lock();
+			try {
+				remaining.set(SimulatedTime.awaitNanos(5 * STEP_NANO, lock, condition));
+			} catch (InterruptedException e) {
+				// end of test
+			} finally {
+				lock.unlock();
+			}
+		});
+		awaitWaiting(application);
+		SimulatedTime.INST.doStep(STEP);
+		lock.lock();
+		try {
+			condition.signal();
+		} finally {
+			lock.unlock();
+		}
+		// woken without a step
+		application.join(5000);
+		assertEquals(4 * STEP_NANO, remaining.get());
+		assertEquals(-1, SimulatedTime.INST.getNextWakeupNano());
+	}
+
+	@Test
+	public void testAwaitNanosInterrupted() throws Exception {
+		AtomicReference<Throwable> thrown = new AtomicReference<>();
+		application = start(() -> {
+			lock.lock();
+			try {
+				SimulatedTime.awaitNanos(5 * STEP_NANO, lock, condition);
+			} catch (InterruptedException e) {
+				thrown.set(e);
+			} finally {
+				lock.unlock();
+			}
+		});
+		awaitWaiting(application);
+		application.interrupt();
+		application.join(5000);
+		assertTrue(thrown.get() instanceof InterruptedException);
+		assertEquals(-1, SimulatedTime.INST.getNextWakeupNano());
+	}
+
+	@Test
+	public void testAwaitNanosSignalledWhileLockHeld() throws Exception {
+		AtomicInteger returns = new AtomicInteger();
+		application = start(() -> {
+			lock.lock();
+			try {
+				SimulatedTime.awaitNanos(STEP_NANO, lock, condition);
+				returns.incrementAndGet();
+			} catch (InterruptedException e) {
+				// end of test
+			} finally {
+				lock.unlock();
+			}
+		});
+		awaitWaiting(application);
+		SimulatedTime.INST.setQuiescenceTimeout(0);
+		lock.lock();
+		try {
+			// doStep does not block on the lock of the condition
+			SimulatedTime.INST.doStep(STEP);
+			assertEquals(0, returns.get());
+		} finally {
+			lock.unlock();
+		}
+		// signalled once the lock is released
+		application.join(5000);
+		assertEquals(1, returns.get());
+	}
+
+	private static Thread start(Runnable body) {
+		Thread thread = new Thread(body, "application");
+		thread.setDaemon(true);
+		thread.start();
+		return thread;
+	}
+
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (thread.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline)
+			Thread.sleep(1);
+		assertEquals(Thread.State.WAITING, thread.getState());
+	}
+}
@@ -22,6 +22,8 @@ import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -29,6 +31,12 @@ import org.apache.commons.lang3.StringUtils;
 
 public class VMRunnerUtils {
 
+	/** runner agent option selecting the launcher/runner transport */
+	public static final String IPC_TRANSPORT_OPTION = "ipcTransport";
+
+	/** IPC_TRANSPORT_OPTION value for the memory-mapped transport */
+	public static final String SHARED_MEMORY_TRANSPORT = "shm";
+
 	public static String getWeaverAgentArgument(String basePath, boolean escaped) throws URISyntaxException, ClassNotFoundException, IOException {
 
 		Path agentPath = getJarContainingClass(basePath, "org.aspectj.weaver.Constants");
@@ -52,6 +60,13 @@ public class VMRunnerUtils {
 			return toCliString(agentPath, jSonConfigName);
 	}
 	
+	/**
+	 * @param options: runner agent options appended as ",key=value" after the json name 
+	 */
+	public static String getRunnerAgentArgument(String basePath, String jSonConfigName, Map<String, String> options, boolean escaped) throws URISyntaxException, ClassNotFoundException, IOException {
+		return getRunnerAgentArgument(basePath, toAgentParam(jSonConfigName, options), escaped);
+	}
+
 	public static String getWeaverAgentArgument(Collection<File> jars, boolean escaped) throws URISyntaxException, ClassNotFoundException, IOException {
 
 		Path agentPath = filterJarContainingClass(jars, "org.aspectj.weaver.Constants");
@@ -74,6 +89,20 @@ public class VMRunnerUtils {
 		else
 			return toCliString(agentPath, jSonConfigName);
 	}
+
+	public static String getRunnerAgentArgument(Collection<File> jars, String jSonConfigName, Map<String, String> options, boolean escaped) throws URISyntaxException, ClassNotFoundException, IOException {
+		return getRunnerAgentArgument(jars, toAgentParam(jSonConfigName, options), escaped);
+	}
+
+	private static String toAgentParam(String jSonConfigName, Map<String, String> options) {
+		StringBuilder param = new StringBuilder(jSonConfigName);
+		if (options != null) {
+			for (Entry<String, String> option : options.entrySet()) {
+				param.append(',').append(option.getKey()).append('=').append(option.getValue());
+			}
+		}
+		return param.toString();
+	}
    
 	private static String toCliString(Path agentPath, String param) {
 		if (param != null && !param.isEmpty()) {
@@ -15,24 +15,26 @@
  ******************************************************************************/
 package org.raspinloop.fmi.launcher;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.raspinloop.fmi.Instance;
 import org.raspinloop.fmi.ModelState;
 import org.raspinloop.fmi.launcher.ProxyRunnerJob.LauncherServerJob;
 import org.raspinloop.fmi.launcherRunnerIpc.RunnerService.Client;
 import org.raspinloop.fmi.launcherRunnerIpc.Status;
+import org.raspinloop.ipc.SharedMemoryTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class BaseRunnerLifeHandler implements RunnerLifeHandler {
 	Logger logger = LoggerFactory.getLogger(BaseRunnerLifeHandler.class);
-	private static final int RUNNER_SERVER_PORT = 9091;
 	private org.raspinloop.fmi.launcherRunnerIpc.RunnerService.Client client;
 	private LauncherServerJob launcherServer;
 	private Instance inst;
@@ -71,7 +73,7 @@ public class BaseRunnerLifeHandler implements RunnerLifeHandler {
 		monitor.processStatusChanged(ProcessStatus.STARTING);
 
 		
-		launcherServer = fmiProxyRunnerJob.new LauncherServerJob(RUNNER_SERVER_PORT, monitor);
+		launcherServer = fmiProxyRunnerJob.new LauncherServerJob(fmiProxyRunnerJob.getRunner().getLauncherPort(), monitor);
 		CompletableFuture.runAsync(launcherServer).exceptionally(e -> {
 			this.setStartInError(e);
 			return null;
@@ -96,14 +98,21 @@ public class BaseRunnerLifeHandler implements RunnerLifeHandler {
 		}
 		monitor.processStatusChanged(ProcessStatus.STARTED);
 		logger.trace("runner started and listened on port " + fmiProxyRunnerJob.getRunnerPort());
-		TSocket transport = new TSocket("localhost", fmiProxyRunnerJob.getRunnerPort(), 0); // NO
-																							// timeout
-																							// because
-																							// debug
-																							// is
-																							// allowed!
+		TTransport transport;
+		Path ringFile = SharedMemoryTransport.fileFor(fmiProxyRunnerJob.getRunnerPort());
+		if (Files.exists(ringFile)) {
+			// runner started with ipcTransport=shm
+			transport = new SharedMemoryTransport(ringFile, false);
+		} else {
+			transport = new TSocket("localhost", fmiProxyRunnerJob.getRunnerPort(), 0); // NO
+																						// timeout
+																						// because
+																						// debug
+																						// is
+																						// allowed!
+		}
 		transport.open();
-		TProtocol protocol = new TBinaryProtocol(transport);
+		TProtocol protocol = fmiProxyRunnerJob.getRunner().getIpcSettings().clientProtocol(transport);
 		client = new Client(protocol);
 		logger.trace(" launcher connected on port " + fmiProxyRunnerJob.getRunnerPort());
 		return client;
@@ -27,12 +27,12 @@ import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TServerEventHandler;
 import org.apache.thrift.server.TSimpleServer;
 import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.raspinloop.fmi.launcherRunnerIpc.LauncherService;
 import org.raspinloop.fmi.launcherRunnerIpc.LauncherService.Iface;
 import org.raspinloop.fmi.launcherRunnerIpc.ReportType;
+import org.raspinloop.ipc.IpcSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,6 +82,10 @@ public abstract class ProxyRunnerJob implements  ServerContext {
 		return name;
 	}
 
+	public Runner getRunner() {
+		return runner;
+	}
+
 	class LauncherserviceHanlder implements Iface {
 
 		@Override
@@ -110,11 +114,15 @@ public abstract class ProxyRunnerJob implements  ServerContext {
 		public LauncherServerJob(int port, IProxyMonitor monitor) throws TTransportException {
 			this.name = "Launcher Server";
 
-			TServerTransport serverTransport = new TServerSocket(port); 
+			TServerSocket serverTransport = new TServerSocket(port); 
+			port = serverTransport.getServerSocket().getLocalPort();
+			runner.setLauncherPort(port);
 			// timeout in seconds?
 			Iface launcherServiceHandler = new ProxyRunnerJob.LauncherserviceHanlder();
 			LauncherService.Processor<LauncherService.Iface> processor = new LauncherService.Processor<LauncherService.Iface>(launcherServiceHandler);
-			this.server = new TSimpleServer(new TSimpleServer.Args(serverTransport).processor(processor));
+			IpcSettings ipcSettings = runner.getIpcSettings();
+			this.server = new TSimpleServer(new TSimpleServer.Args(serverTransport).processor(processor)
+					.protocolFactory(ipcSettings.protocolFactory()).transportFactory(ipcSettings.transportFactory()));
 
 			server.setServerEventHandler(new LauncherServerEventHandler(server, port, monitor));
 		}
@@ -15,8 +15,36 @@
  ******************************************************************************/
 package org.raspinloop.fmi.launcher;
 
+import org.raspinloop.ipc.IpcSettings;
+
 public interface Runner extends Runnable{
 
+	int DEFAULT_LAUNCHER_PORT = 9091;
+
 	void terminate();
 
+	/**
+	 * 
+	 * @return port the launcher listens on for this runner. 0 lets the system choose a free one
+	 * (several simulations on one host): it is then given through setLauncherPort before run.
+	 */
+	default int getLauncherPort() {
+		return DEFAULT_LAUNCHER_PORT;
+	}
+
+	/**
+	 * Port the launcher actually listens on, to be passed to the runner agent (launcherPort option).
+	 */
+	default void setLauncherPort(int port) {
+	}
+
+	/**
+	 * 
+	 * @return protocol and framing used by the launcher and the runner. 
+	 * A runner returning other than IpcSettings.DEFAULT must pass IpcSettings.toAgentOptions() to the agent.
+	 */
+	default IpcSettings getIpcSettings() {
+		return IpcSettings.DEFAULT;
+	}
+
 }
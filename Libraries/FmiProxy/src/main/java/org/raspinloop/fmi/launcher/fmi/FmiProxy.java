@@ -19,8 +19,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
+import org.raspinloop.fmi.Changes;
 import org.raspinloop.fmi.CoSimulation.Iface;
+import org.raspinloop.fmi.Edge;
 import org.raspinloop.fmi.launcher.IProxyMonitor;
 import org.raspinloop.fmi.launcher.Proxy;
 import org.raspinloop.fmi.launcher.RunnerLifeHandler;
@@ -28,6 +31,8 @@ import org.raspinloop.fmi.launcher.SimulationToolStatus;
 import org.raspinloop.fmi.Instance;
 import org.raspinloop.fmi.Status;
 import org.raspinloop.fmi.StatusKind;
+import org.raspinloop.fmi.StepRequest;
+import org.raspinloop.fmi.StepResponse;
 import org.raspinloop.fmi.Type;
 import org.raspinloop.fmi.launcherRunnerIpc.RunnerService.Client;
 import org.raspinloop.fmi.modeldescription.Constants;
@@ -43,6 +48,9 @@ public class FmiProxy implements Iface, Proxy {
 	private Client client;
 
 	private IProxyMonitor monitor;
+	// false once the runner answered it does not know stepAndExchange (older runner)
+	private boolean runnerExchange = true;
+
 	public FmiProxy(IProxyMonitor monitor) {
 		this.monitor = monitor;
 	}
@@ -165,6 +173,65 @@ public class FmiProxy implements Iface, Proxy {
 		return client.getBoolean(refs);
 	}
 
+	@Override
+	public Changes getChanges(Instance c) throws TException {
+		if (client == null){
+			// TODO log error
+			throw new TException("DebugTarget not yet started");
+		}
+		return client.getChanges();
+	}
+
+	@Override
+	public List<Edge> getEdges(Instance c, List<Integer> refs) throws TException {
+		if (client == null){
+			// TODO log error
+			throw new TException("DebugTarget not yet started");
+		}
+		return client.getEdges(refs);
+	}
+
+	/**
+	 * Forwarded as one call to the runner. Runners without stepAndExchange
+	 * are served by the separate set*, doStep and get* calls.
+	 */
+	@Override
+	public StepResponse stepAndExchange(Instance c, StepRequest request) throws TException {
+		if (client == null){
+			// TODO log error
+			throw new TException("DebugTarget not yet started");
+		}
+		if (runnerExchange) {
+			try {
+				return client.stepAndExchange(request);
+			} catch (TApplicationException e) {
+				if (e.getType() != TApplicationException.UNKNOWN_METHOD)
+					throw e;
+				logger.info("Runner does not support stepAndExchange: using separate calls");
+				runnerExchange = false;
+			}
+		}
+		return exchangeByCalls(c, request);
+	}
+
+	private StepResponse exchangeByCalls(Instance c, StepRequest request) throws TException {
+		Status status = Status.OK;
+		if (request.getRealsSize() > 0)
+			status = setReal(c, request.getReals());
+		if (status == Status.OK && request.getIntsSize() > 0)
+			status = setInteger(c, request.getInts());
+		if (status == Status.OK && request.getBoolsSize() > 0)
+			status = setBoolean(c, request.getBools());
+		if (status == Status.OK)
+			status = doStep(c, request.getCurrentCommunicationPoint(), request.getCommunicationStepSize(), request.isNoSetFMUStatePriorToCurrentPoint());
+		if (status != Status.OK)
+			return new StepResponse(status, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+		List<Double> reals = request.getRealOutsSize() == 0 ? Collections.emptyList() : getReal(c, request.getRealOuts());
+		List<Integer> integers = request.getIntOutsSize() == 0 ? Collections.emptyList() : getInteger(c, request.getIntOuts());
+		List<Boolean> booleans = request.getBoolOutsSize() == 0 ? Collections.emptyList() : getBoolean(c, request.getBoolOuts());
+		return new StepResponse(Status.OK, reals, integers, booleans);
+	}
+
 	@Override
 	public List<String> getString(Instance c, List<Integer> refs) throws TException {
 		try {
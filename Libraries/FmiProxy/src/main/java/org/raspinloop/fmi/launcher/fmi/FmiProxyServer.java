@@ -19,7 +19,6 @@ import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TSimpleServer;
 import org.apache.thrift.server.TThreadPoolServer;
 import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 
 import org.raspinloop.fmi.CoSimulation;
@@ -27,13 +26,21 @@ import org.raspinloop.fmi.CoSimulation.Iface;
 import org.raspinloop.fmi.launcher.IProxyMonitor;
 import org.raspinloop.fmi.launcher.Runner;
 import org.raspinloop.fmi.launcher.SimulationToolStatus;
+import org.raspinloop.ipc.IpcSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class FmiProxyServer {
 
-	
+	final static Logger logger = LoggerFactory.getLogger(FmiProxyServer.class);
+
+	/** port ril_fmi connects to when none is configured */
+	public static final int DEFAULT_PORT = 9090;
 	
 	private Runner vmRunner;
 	private IProxyMonitor proxyMonitor;
+	private IpcSettings ipcSettings = IpcSettings.DEFAULT;
+	private volatile int port = DEFAULT_PORT;
 	
 	
 	public FmiProxyServer(Runner vmRunner, IProxyMonitor proxyMonitor) {
@@ -42,15 +49,41 @@ public class FmiProxyServer {
 		this.proxyMonitor = proxyMonitor;
 	}
 
+	/**
+	 * @param ipcSettings: protocol and framing expected by the simulation tool (ril_fmi uses IpcSettings.DEFAULT)
+	 */
+	public FmiProxyServer(Runner vmRunner, IProxyMonitor proxyMonitor, IpcSettings ipcSettings) {
+		this(vmRunner, proxyMonitor);
+		this.ipcSettings = ipcSettings;
+	}
+
+	/**
+	 * @param port: port the simulation tool connects to, one per simulation instance
+	 * running on the host. 0 lets the system choose a free port (see getPort).
+	 */
+	public void setPort(int port) {
+		this.port = port;
+	}
+
+	/**
+	 * @return the configured port, or the port bound once start has chosen a free one
+	 */
+	public int getPort() {
+		return port;
+	}
+
 	public void start() throws FmiProxyServerException{
 		FmiProxy fmiProxy = new FmiProxy(proxyMonitor);
 		CoSimulation.Processor<Iface> processor = new CoSimulation.Processor<Iface>(fmiProxy);
 
 		
-		TServerTransport serverTransport;
+		TServerSocket serverTransport;
 		try {
-			serverTransport = new TServerSocket(9090);
-			TServer server = new TSimpleServer(new TSimpleServer.Args(serverTransport).processor(processor));
+			serverTransport = new TServerSocket(port);
+			port = serverTransport.getServerSocket().getLocalPort();
+			logger.info("FMI proxy waiting for simulation tool on port " + port);
+			TServer server = new TSimpleServer(new TSimpleServer.Args(serverTransport).processor(processor)
+					.protocolFactory(ipcSettings.protocolFactory()).transportFactory(ipcSettings.transportFactory()));
 
 			
 			proxyMonitor.simulationToolsStatusChanged(SimulationToolStatus.WAITING);
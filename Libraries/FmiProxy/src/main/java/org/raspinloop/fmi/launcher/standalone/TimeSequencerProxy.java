@@ -23,6 +23,7 @@ import org.raspinloop.fmi.launcher.IProxyMonitor;
 import org.raspinloop.fmi.launcher.Proxy;
 import org.raspinloop.fmi.launcher.RunnerLifeHandler;
 import org.raspinloop.fmi.launcherRunnerIpc.RunnerService.Client;
+import org.raspinloop.fmi.launcherRunnerIpc.StatusKind;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +35,8 @@ public class TimeSequencerProxy implements Proxy {
 	final private double stepIncrement;
 	final private double timeRatio;
 	private double duration;
+	private boolean skipAhead = false;
+	private volatile double speedFactor = 0;
 
 	private RunnerLifeHandler lifeHandler;
 
@@ -50,6 +53,33 @@ public class TimeSequencerProxy implements Proxy {
 		this.monitor = monitor;
 	}
 
+	/**
+	 * When enabled (disabled by default), steps over idle periods: each doStep is extended (by whole stepIncrement) 
+	 * up to the next simulated wakeup reported by the runner. Runners not reporting 
+	 * their next wakeup are stepped by stepIncrement.
+	 * It costs one getRealStatus round trip per step.
+	 * @param skipAhead
+	 */
+	public void setSkipAhead(boolean skipAhead) {
+		this.skipAhead = skipAhead;
+	}
+
+	/**
+	 * 
+	 * @return simulated seconds achieved per wall-clock second since the start of run.
+	 */
+	public double getSpeedFactor() {
+		return speedFactor;
+	}
+
+	/**
+	 * a timeRatio lower or equal to 0 runs the simulation as fast as possible:
+	 * next step is requested as soon as the previous one returns.
+	 */
+	private boolean isMaxSpeed() {
+		return timeRatio <= 0;
+	}
+
 	@Override
 	public boolean isTerminated() {
 		// TODO Auto-generated method stub
@@ -78,14 +108,20 @@ public class TimeSequencerProxy implements Proxy {
 			double currentCommunicationPoint = 0;
 			double communicationStepSize = stepIncrement;
 			logger.trace("Simulated Time: Duration[" + duration + " s], StepIncrement[" + stepIncrement + " s], Ratio[" + timeRatio + "]");
+			long wallStart = System.nanoTime();
 			while (currentCommunicationPoint < duration) {
-				Thread.sleep((long) (1000 * timeRatio * stepIncrement));
-				currentCommunicationPoint += stepIncrement;
+				if (skipAhead)
+					communicationStepSize = nextStepSize(currentCommunicationPoint);
+				if (!isMaxSpeed())
+					Thread.sleep((long) (1000 * timeRatio * communicationStepSize));
+				currentCommunicationPoint += communicationStepSize;
 
 				logger.trace("-->doStep " + currentCommunicationPoint + " " + communicationStepSize);
 				client.doStep(currentCommunicationPoint, communicationStepSize, false);
 				logger.trace("<--doStep");
+				speedFactor = currentCommunicationPoint / ((System.nanoTime() - wallStart) / 1000000000.0);
 			}
+			logger.info("Simulated " + currentCommunicationPoint + " s at " + speedFactor + " simulated s per wall-clock s");
 
 		} catch (Exception e) {
 			logger.trace("Client exception: " + e.getMessage());
@@ -96,6 +132,24 @@ public class TimeSequencerProxy implements Proxy {
 		}
 	}
 
+	private double nextStepSize(double currentCommunicationPoint) throws TException {
+		double nextEvent = client.getRealStatus(StatusKind.NextEventTime);
+		if (nextEvent < 0) {
+			// nobody waits for simulated time (or runner does not support it)
+			return stepIncrement;
+		}
+		// counted in nanoseconds, as the runner does: a deadline on a whole increment is reached exactly
+		long now = toNano(currentCommunicationPoint);
+		long incrementNano = toNano(stepIncrement);
+		long steps = Math.max(1, (toNano(nextEvent) - now) / incrementNano);
+		long stepNano = Math.min(steps * incrementNano, Math.max(incrementNano, toNano(duration) - now));
+		return stepNano / 1000000000.0;
+	}
+
+	private static long toNano(double time) {
+		return Math.round(time * 1000000000.0);
+	}
+
 	public void instanciate(String instanceName, Type fmuType, String fmuGUID, String fmuResourceLocation, boolean visible, boolean loggingOn)
 			throws TException {
 		if (lifeHandler == null) {
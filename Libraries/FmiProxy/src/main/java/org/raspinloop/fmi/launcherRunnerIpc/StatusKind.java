@@ -25,7 +25,8 @@ public enum StatusKind implements org.apache.thrift.TEnum {
   DoStepStatus(0),
   PendingStatus(1),
   LastSuccessfulTime(2),
-  Terminated(3);
+  Terminated(3),
+  NextEventTime(4);
 
   private final int value;
 
@@ -54,6 +55,8 @@ public enum StatusKind implements org.apache.thrift.TEnum {
         return LastSuccessfulTime;
       case 3:
         return Terminated;
+      case 4:
+        return NextEventTime;
       default:
         return null;
     }
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.fmi.launcher.standalone;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.raspinloop.fmi.Instance;
+import org.raspinloop.fmi.Type;
+import org.raspinloop.fmi.launcher.IProxyMonitor;
+import org.raspinloop.fmi.launcher.RunnerLifeHandler;
+import org.raspinloop.fmi.launcherRunnerIpc.RunnerService.Client;
+import org.raspinloop.fmi.launcherRunnerIpc.Status;
+import org.raspinloop.fmi.launcherRunnerIpc.StatusKind;
+import org.raspinloop.timeemulation.SimulatedTime;
+
+public class TimeSequencerProxyTest {
+
+	private static final double STEP = 0.001; // 1ms
+
+	private final List<Double> communicationPoints = new ArrayList<>();
+	private final List<Long> wakeups = new CopyOnWriteArrayList<>();
+	private Thread sleeper;
+
+	@Before
+	public void setUp() throws InterruptedException {
+		SimulatedTime.INST.setup(0);
+		// each step returns once the sleeper waits again
+		SimulatedTime.INST.setQuiescenceTimeout(5000);
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		SimulatedTime.INST.setQuiescenceTimeout(0);
+		if (sleeper != null) {
+			sleeper.interrupt();
+			sleeper.join(5000);
+		}
+	}
+
+	@Test
+	public void testSkipAheadLandsOnSleeperDeadline() throws Exception {
+		startSleeper(7);
+		TimeSequencerProxy proxy = new TimeSequencerProxy("guid", STEP, 0, 0.020, null);
+		proxy.setFmiRunnerLifeHandler(new FakeLifeHandler());
+		proxy.setSkipAhead(true);
+		proxy.run();
+
+		assertEquals(3, communicationPoints.size());
+		assertEquals(0.007, communicationPoints.get(0), 1e-12);
+		assertEquals(0.014, communicationPoints.get(1), 1e-12);
+		assertEquals(0.020, communicationPoints.get(2), 1e-12);
+		// woken at their deadline, not one step later
+		assertEquals(2, wakeups.size());
+		assertEquals(7000000L, (long) wakeups.get(0));
+		assertEquals(14000000L, (long) wakeups.get(1));
+		assertEquals(20000000L, SimulatedTime.INST.getCurrentTimeNano());
+	}
+
+	@Test
+	public void testSkipAheadWithInexactIncrement() throws Exception {
+		// 10 * 0.0003 s is 2999999.9999999995 ns in floating point
+		startSleeper(3);
+		TimeSequencerProxy proxy = new TimeSequencerProxy("guid", 0.0003, 0, 0.006, null);
+		proxy.setFmiRunnerLifeHandler(new FakeLifeHandler());
+		proxy.setSkipAhead(true);
+		proxy.run();
+
+		assertEquals(2, communicationPoints.size());
+		assertEquals(2, wakeups.size());
+		assertEquals(3000000L, (long) wakeups.get(0));
+		assertEquals(6000000L, (long) wakeups.get(1));
+	}
+
+	@Test
+	public void testWithoutSkipAhead() throws Exception {
+		startSleeper(7);
+		TimeSequencerProxy proxy = new TimeSequencerProxy("guid", STEP, 0, 0.020, null);
+		proxy.setFmiRunnerLifeHandler(new FakeLifeHandler());
+		proxy.run();
+
+		assertEquals(20, communicationPoints.size());
+		assertEquals(2, wakeups.size());
+		assertEquals(7000000L, (long) wakeups.get(0));
+		assertEquals(14000000L, (long) wakeups.get(1));
+	}
+
+	private void startSleeper(long periodMillis) throws InterruptedException {
+		sleeper = new Thread(() -> {
+			try {
+				while (true) {
+					SimulatedTime.sleep(periodMillis);
+					wakeups.add(SimulatedTime.nanotime());
+				}
+			} catch (InterruptedException e) {
+				// end of test
+			}
+		}, "sleeper");
+		sleeper.setDaemon(true);
+		sleeper.start();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (SimulatedTime.INST.getNextWakeupNano() < 0 && System.currentTimeMillis() < deadline)
+			Thread.sleep(1);
+	}
+
+	/**
+	 * Runner answering as CSHandler does, without Thrift transport.
+	 */
+	private class FakeRunner extends Client {
+
+		FakeRunner() {
+			super(null);
+		}
+
+		@Override
+		public Status setupExperiment(boolean toleranceDefined, double tolerance, double startTime, boolean stopTimeDefined, double stopTime) {
+			return Status.OK;
+		}
+
+		@Override
+		public Status doStep(double currentCommunicationPoint, double communicationStepSize, boolean noSetFMUStatePriorToCurrentPoint) {
+			communicationPoints.add(currentCommunicationPoint);
+			SimulatedTime.INST.doStep(communicationStepSize);
+			return Status.OK;
+		}
+
+		@Override
+		public double getRealStatus(StatusKind s) {
+			long next = SimulatedTime.INST.getNextWakeupNano();
+			return next < 0 ? -1.0 : next / 1000000000.0;
+		}
+	}
+
+	private class FakeLifeHandler implements RunnerLifeHandler {
+
+		@Override
+		public Client startVMRunner(IProxyMonitor monitor) {
+			return new FakeRunner();
+		}
+
+		@Override
+		public Instance instanciate(String instanceName, Type fmuType, String fmuGUID, String fmuResourceLocation, boolean visible, boolean loggingOn) {
+			return null;
+		}
+
+		@Override
+		public Status freeInstance(Instance c) {
+			return Status.OK;
+		}
+
+		@Override
+		public Status stopVMRunner() {
+			return Status.OK;
+		}
+
+		@Override
+		public org.raspinloop.fmi.Status reset(Instance c) {
+			return org.raspinloop.fmi.Status.OK;
+		}
+	}
+}
@@ -16,9 +16,10 @@
 package org.raspinloop.pi4j.io.components;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,45 +37,66 @@ import org.raspinloop.fmi.modeldescription.Fmi2ScalarVariable;
 import org.raspinloop.fmi.modeldescription.Fmi2ScalarVariable.Real;
 import org.raspinloop.pi4j.io.gpio.PinCache;
 import org.raspinloop.timeemulation.SimulatedTime;
-import org.raspinloop.timeemulation.SimulatedTimeListerner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
-public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTimeListerner {
+/**
+ * Stepper motor driven by 4 coil pins (the first 4 used pins, bit 0 being the
+ * first one).
+ * <p>
+ * Pin changes update the coil state. The changes made at the same simulated
+ * time form one transition, decoded by the next change at a later time or
+ * when the position is read after time advanced. Each transition is decoded
+ * with one lookup per step mode: single, double then half step. A transition
+ * to a non adjacent state of the sequence is a lost step.
+ */
+public class SimulatedStepperMotor implements GpioCompHwEmulation {
 
 	final static Logger logger = LoggerFactory.getLogger(SimulatedStepperMotor.class);		 
 
 	private double position; // relative ref 0
+	private volatile boolean positionChanged = true; // since last collectChanges
 	private double resistantTorque; // relative ref 1. Input: opposite torque
 									// from the system on the shaft
+	private double speed; // relative ref 2, degree per second at last step
+	private volatile boolean speedChanged = true; // since last collectChanges
 	// param
-	static final int NB_VAR = 2; // too old fashion style, it smells like C
+	static final int NB_VAR = 3; // too old fashion style, it smells like C
 									// code...
 
+	// coil state -> index in the step sequence, -1 if not part of it
+	private static final byte[] SINGLE_STEP_SEQUENCE = createSequence(0b0001, 0b0010, 0b0100, 0b1000);
+	private static final byte[] DOUBLE_STEP_SEQUENCE = createSequence(0b0011, 0b0110, 0b1100, 0b1001);
+	private static final byte[] HALF_STEP_SEQUENCE = createSequence(0b0001, 0b0011, 0b0010, 0b0110, 0b0100, 0b1100, 0b1000, 0b1001);
+	private static final byte[][] SEQUENCES = { SINGLE_STEP_SEQUENCE, DOUBLE_STEP_SEQUENCE, HALF_STEP_SEQUENCE };
+	private static final int[] SEQUENCE_LENGTHS = { 4, 4, 8 };
+
+	private static final int NO_COIL = -1;
 	
 	private int baseref;
 	protected final Map<org.raspinloop.config.Pin, PinCache> cachedPins = new ConcurrentHashMap<>();
+	// configured pins indexed by address, pins being matched on their address
+	private final Map<Integer, org.raspinloop.config.Pin> pinsByAddress = new ConcurrentHashMap<>();
+	// pin address -> coil bit, NO_COIL if not a coil
+	private int[] coilByAddress = new int[0];
 
 	private PinState onState;
 	@SuppressWarnings("unused")
 	private PinState offState;
 
-	Map<Byte, Integer> single_step_sequence = createSingleStepSeq();
-	Map<Byte, Integer> double_step_sequence = createDoubleStepSeq();
-	Map<Byte, Integer> half_step_sequence = createHalfStepSeq();
-
 	public SimulatedStepperMotor(HardwareBuilder builder) {
-		SimulatedTime.INST.addRequestingTimeListener(this);
 		if (builder.getProperties() instanceof SimulatedStepperMotorProperties)
 			properties = (SimulatedStepperMotorProperties) builder.getProperties();
 		baseref = builder.getBaseReference();
 		int pinIdx = 0;
 		Iterator<org.raspinloop.config.Pin> it = properties.getUsedPins().iterator();
-		while (it.hasNext() && pinIdx++ < 4) {
+		while (it.hasNext() && pinIdx < 4) {
 			org.raspinloop.config.Pin configuredPin = (org.raspinloop.config.Pin) it.next();
 			cachedPins.put(configuredPin, new PinCache( new PinImpl(configuredPin.getProvider(), 
 					configuredPin.getAddress(), configuredPin.getName(), EnumSet.of(PinMode.DIGITAL_OUTPUT))));
+			pinsByAddress.putIfAbsent(configuredPin.getAddress(), configuredPin);
+			setCoil(configuredPin.getAddress(), pinIdx++);
 			if (properties.isAverageMode()) {
 				// only if in Average mode
 				SimulatedTime.INST.RegisterWaitingThreshold(SimulatedStepperMotor.class.getCanonicalName(), 100 * 1000000/*																										 */);
@@ -84,47 +106,43 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 		offState = properties.getOffState() == org.raspinloop.config.PinState.HIGH ? PinState.HIGH : PinState.LOW;
 	}
 
-	private Map<Byte, Integer> createHalfStepSeq() {
-		HashMap<Byte, Integer> sequence = new HashMap<Byte, Integer>(8);
-		sequence.put((byte) 0b0001, 0);
-		sequence.put((byte) 0b0011, 1);
-		sequence.put((byte) 0b0010, 2);
-		sequence.put((byte) 0b0110, 3);
-		sequence.put((byte) 0b0100, 4);
-		sequence.put((byte) 0b1100, 5);
-		sequence.put((byte) 0b1000, 6);
-		sequence.put((byte) 0b1001, 7);
-		return sequence;
-	}
-
-	private Map<Byte, Integer> createDoubleStepSeq() {
-		HashMap<Byte, Integer> sequence = new HashMap<Byte, Integer>(4);
-		sequence.put((byte) 0b0011, 0);
-		sequence.put((byte) 0b0110, 1);
-		sequence.put((byte) 0b1100, 2);
-		sequence.put((byte) 0b1001, 3);
-		return sequence;
+	private void setCoil(int address, int coil) {
+		if (address < 0)
+			return;
+		if (address >= coilByAddress.length) {
+			int oldLength = coilByAddress.length;
+			coilByAddress = Arrays.copyOf(coilByAddress, address + 1);
+			Arrays.fill(coilByAddress, oldLength, coilByAddress.length, NO_COIL);
+		}
+		if (coilByAddress[address] == NO_COIL)
+			coilByAddress[address] = coil;
 	}
 
-	private Map<Byte, Integer> createSingleStepSeq() {
-		HashMap<Byte, Integer> sequence = new HashMap<Byte, Integer>(4);
-		sequence.put((byte) 0b0001, 0);
-		sequence.put((byte) 0b0010, 1);
-		sequence.put((byte) 0b0100, 2);
-		sequence.put((byte) 0b1000, 3);
+	private static byte[] createSequence(int... states) {
+		byte[] sequence = new byte[16];
+		Arrays.fill(sequence, (byte) -1);
+		for (int i = 0; i < states.length; i++)
+			sequence[states[i]] = (byte) i;
 		return sequence;
 	}
 
 	private SimulatedStepperMotorProperties properties;
 
-	//will be used in step mode (opposite of average mode)
-	@SuppressWarnings("unused")
-	private Long previousChangeTime = 0L;
+	// coils currently on, one bit per coil
+	private int coilState;
+	// coil state of the last decoded transition
+	private int previousCoilState;
+	// simulated time of the last coil change not yet decoded, -1 if none
+	private long pendingChangeTime = -1;
 
-	private byte previousBinaryState;
+	private long previousStepTime = -1;
+	private double acceleration; // degree per second^2
+	private long lostSteps;
 
-	private double stepInc;
 
+	private boolean isVar(int ref) {
+		return ref - baseref >= 0 && ref - baseref < NB_VAR;
+	}
 
 	private Double getVar(Integer ref) {
 		switch (ref - baseref) {
@@ -132,17 +150,24 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 			return position;
 		case 1:
 			return resistantTorque;
+		case 2:
+			return speed;
 		default:
 			return null;
 		}
 	}
 	
-	private void setVar(Integer ref, double value) {
+	private void setVar(int ref, double value) {
 		switch (ref - baseref) {
 		case 0:
 			position = value;
+			positionChanged = true;
+			break;
 		case 1:
 			resistantTorque = value;
+			break;
+		default:
+			logger.warn("ref:" + ref + " is not an input of this stepper motor component");
 		}
 	}
 
@@ -157,9 +182,10 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 
 
 
-	public boolean enterInitialize() {
-		previousChangeTime = 0L;
+	public synchronized boolean enterInitialize() {
+		resetMotion();
 		position = properties.getInitalPosition();
+		positionChanged = true;
 		return true;
 	}
 
@@ -168,13 +194,26 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 	}
 
 	public void terminate() {
+		if (lostSteps > 0)
+			logger.warn(getType() + " lost " + lostSteps + " steps");
 	}
 
-	public void reset() {
-		previousChangeTime = 0L;
+	public synchronized void reset() {
+		resetMotion();
 	}
 
-	public List<Double> getReal(List<Integer> refs) {
+	private void resetMotion() {
+		pendingChangeTime = -1;
+		previousCoilState = coilState;
+		previousStepTime = -1;
+		speed = 0;
+		speedChanged = true;
+		acceleration = 0;
+		lostSteps = 0;
+	}
+
+	public synchronized List<Double> getReal(List<Integer> refs) {
+		updateMotion(SimulatedTime.threadNanotime());
 		List<Double> result = new ArrayList<Double>(refs.size());
 		for (Integer ref : refs) {
 			Double var = getVar(ref);
@@ -188,6 +227,39 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 		return result;
 	}
 
+	public synchronized void getReal(int[] refs, int count, double[] values) {
+		updateMotion(SimulatedTime.threadNanotime());
+		for (int i = 0; i < count; i++) {
+			switch (refs[i] - baseref) {
+			case 0:
+				values[i] = position;
+				break;
+			case 1:
+				values[i] = resistantTorque;
+				break;
+			case 2:
+				values[i] = speed;
+				break;
+			default:
+				logger.warn("ref:" + refs[i] + " not used in this stepper motor component");
+				values[i] = 0.0; // Invalid value defined for real ?
+			}
+		}
+	}
+
+	public synchronized void collectChanges(BitSet changed) {
+		updateMotion(SimulatedTime.threadNanotime());
+		// torque is an input: only the position and speed may change
+		if (positionChanged) {
+			positionChanged = false;
+			changed.set(baseref + 0);
+		}
+		if (speedChanged) {
+			speedChanged = false;
+			changed.set(baseref + 2);
+		}
+	}
+
 	public List<Integer> getInteger(List<Integer> refs) {
 		return Collections.emptyList();
 	}
@@ -196,10 +268,10 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 		return Collections.emptyList();
 	}
 
-	public boolean setReal(Map<Integer, Double> ref_values) {
+	public synchronized boolean setReal(Map<Integer, Double> ref_values) {
 		
 		for (Entry<Integer, Double> entry : ref_values.entrySet()) {
-			logger.info("setting real value: "+ entry.getKey()+ " = "+ entry.getValue());
+			logger.debug("setting real value: {} = {}", entry.getKey(), entry.getValue());
 			Double var = getVar(entry.getKey());
 			if (var != null) {
 				setVar(entry.getKey(), entry.getValue());				
@@ -210,6 +282,16 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 		return true;
 	}
 
+	public synchronized boolean setReal(int[] refs, int count, double[] values) {
+		for (int i = 0; i < count; i++) {
+			if (isVar(refs[i]))
+				setVar(refs[i], values[i]);
+			else
+				logger.warn("ref:" + refs[i] + " not used in this stepper motor component");
+		}
+		return true;
+	}
+
 	public boolean setInteger(Map<Integer, Integer> ref_values) {
 		return true;
 	}
@@ -226,6 +308,7 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 		ArrayList<Fmi2ScalarVariable> result = new ArrayList<Fmi2ScalarVariable>(NB_VAR);
 		result.add(createRealOutput(getType() + " position", "", baseref + 0));
 		result.add(createRealInput(getType() + " torque", "", baseref + 1));
+		result.add(createRealOutput(getType() + " speed", "degree per second", baseref + 2));
 		return result;
 	}
 
@@ -276,153 +359,169 @@ public class SimulatedStepperMotor implements GpioCompHwEmulation, SimulatedTime
 	
 	@Override
 	public void setState(Pin pin, PinState state) {
-		logger.info("SimulatedStepperMotor state set for "+pin+" "+state );
+		setState(pin, state, SimulatedTime.threadNanotime());
+	}
+
+	synchronized void setState(Pin pin, PinState state, long timeNano) {
+		logger.debug("SimulatedStepperMotor state set for {} {}", pin, state);
 		org.raspinloop.config.Pin raspConfigPin = getPin(pin);
-		if (raspConfigPin != null) {
-			cachedPins.get(raspConfigPin).setState(state);
-		}
-		else
+		if (raspConfigPin == null) {
 			logger.warn("SimulatedStepperMotor pin not found "+pin);
+			return;
+		}
+		cachedPins.get(raspConfigPin).setState(state);
+		int coil = pin.getAddress() < coilByAddress.length ? coilByAddress[pin.getAddress()] : NO_COIL;
+		if (coil == NO_COIL)
+			return;
+		int newCoilState = state == onState ? coilState | (1 << coil) : coilState & ~(1 << coil);
+		if (newCoilState == coilState)
+			return;
+		// changes of an earlier time are complete
+		if (pendingChangeTime >= 0 && timeNano > pendingChangeTime)
+			decodeTransition();
+		coilState = newCoilState;
+		pendingChangeTime = timeNano;
+	}
+
+	/**
+	 * Decode what happened until timeNano, as reading the position at that time does.
+	 */
+	synchronized void advanceTo(long timeNano) {
+		updateMotion(timeNano);
+	}
+
+	private void updateMotion(long timeNano) {
+		if (pendingChangeTime >= 0 && timeNano > pendingChangeTime)
+			decodeTransition();
+		// no step since a longer time than the last step period: slowing down
+		if (previousStepTime >= 0 && speed != 0 && timeNano > previousStepTime) {
+			double maxSpeed = getStepAngle() * 1e9 / (timeNano - previousStepTime);
+			if (Math.abs(speed) > maxSpeed) {
+				speed = Math.signum(speed) * maxSpeed;
+				speedChanged = true;
+			}
+		}
 	}
 
-	@Override
-	public void onRequestingSleep(long requestedNanos) {
-		if (requestedNanos > 0)
-			doStep();
-	}
-	
-	private void doStep() {
-		Long currentTime = SimulatedTime.INST.getRequestingTime();
-		byte currentBinaryState = getBinaryState();
-		if (logger.isTraceEnabled())
-			logger.info("Do Step : previous["+previousBinaryState+"] current["+currentBinaryState+"] @ "+currentTime);
-		if (single_step_sequence.containsKey(previousBinaryState) && single_step_sequence.containsKey(currentBinaryState)) {
-			// nominal torque and current
-			if (doStep(single_step_sequence.get(previousBinaryState), single_step_sequence.get(currentBinaryState), single_step_sequence.size())){
-				logger.info("Stepping in single_step_sequence"+previousBinaryState+"->"+currentBinaryState+"  @"+currentTime );
-				previousBinaryState = currentBinaryState;
-				previousChangeTime = currentTime;			
-			}
-				
-		} else if ( double_step_sequence.containsKey(previousBinaryState) && double_step_sequence.containsKey(currentBinaryState)) {
-			// double torque and current
-			if (doStep(double_step_sequence.get(previousBinaryState), double_step_sequence.get(currentBinaryState), double_step_sequence.size())){
-				logger.info("Stepping in double_step_sequence"+previousBinaryState+"->"+currentBinaryState+"  @"+currentTime );
-				previousBinaryState = currentBinaryState;
-				previousChangeTime = currentTime;			
-			}
-		} else if ( half_step_sequence.containsKey(previousBinaryState) && half_step_sequence.containsKey(currentBinaryState)) {
-			// double torque and current
-			if (doStep(half_step_sequence.get(previousBinaryState), half_step_sequence.get(currentBinaryState), half_step_sequence.size())){
-				logger.info("Stepping in half_step_sequence"+previousBinaryState+"->"+currentBinaryState+"  @"+currentTime );
-				previousBinaryState = currentBinaryState;
-				previousChangeTime = currentTime;			
-			}
-		} else if (previousBinaryState == 0 ) {
-				
-			logger.info("Stepping from init" );
-			previousBinaryState = currentBinaryState;
-			if (single_step_sequence.containsKey(currentBinaryState)) {
-				// nominal torque and current
-				if (doStep(single_step_sequence.get(previousBinaryState), single_step_sequence.get(currentBinaryState), single_step_sequence.size())){
-					logger.info("Stepping in single_step_sequence"+previousBinaryState+"->"+currentBinaryState+"  @"+currentTime );
-					previousBinaryState = currentBinaryState;
-					previousChangeTime = currentTime;			
-				}					
-			} else if ( double_step_sequence.containsKey(previousBinaryState) && double_step_sequence.containsKey(currentBinaryState)) {
-				// double torque and current
-				if (doStep(double_step_sequence.get(previousBinaryState), double_step_sequence.get(currentBinaryState), double_step_sequence.size())){
-					logger.info("Stepping in double_step_sequence"+previousBinaryState+"->"+currentBinaryState+"  @"+currentTime );
-					previousBinaryState = currentBinaryState;
-					previousChangeTime = currentTime;			
-				}
-			} else if ( half_step_sequence.containsKey(previousBinaryState) && half_step_sequence.containsKey(currentBinaryState)) {
-				// double torque and current
-				if (doStep(half_step_sequence.get(previousBinaryState), half_step_sequence.get(currentBinaryState), half_step_sequence.size())){
-					logger.info("Stepping in half_step_sequence"+previousBinaryState+"->"+currentBinaryState+"  @"+currentTime );
-					previousBinaryState = currentBinaryState;
-					previousChangeTime = currentTime;			
-				}
+	private void decodeTransition() {
+		long time = pendingChangeTime;
+		pendingChangeTime = -1;
+		if (coilState == previousCoilState)
+			return;
+		for (int mode = 0; mode < SEQUENCES.length; mode++) {
+			int previousIdx = SEQUENCES[mode][previousCoilState];
+			int currentIdx = SEQUENCES[mode][coilState];
+			if (previousIdx >= 0 && currentIdx >= 0) {
+				int length = SEQUENCE_LENGTHS[mode];
+				if (currentIdx == (previousIdx + 1) % length)
+					step(1, time);
+				else if (currentIdx == (previousIdx + length - 1) % length)
+					step(-1, time);
+				else
+					lostSteps++; // skipped a state: the rotor cannot tell the direction
+				previousCoilState = coilState;
+				return;
 			}
-		}							
+		}
+		if (!isInSequence(previousCoilState))
+			previousCoilState = coilState; // first coil state of a sequence
 	}
 
-	// rotate shaft according to index difference
-	private boolean doStep(int previousSeqIdx, int currentSeqIdx, int nbStep) {
-		
-		int theoricalCurrentIdxForward = previousSeqIdx+1;
-		if (theoricalCurrentIdxForward == nbStep)
-			theoricalCurrentIdxForward =0;
-		
-		int theoricalCurrentIdxReverse = previousSeqIdx-1;
-		if (theoricalCurrentIdxReverse < 0)
-			theoricalCurrentIdxReverse = nbStep-1;
-		
-		if (currentSeqIdx == theoricalCurrentIdxForward){
-			logger.debug("Forward Direction: Resitstant Torque: "+resistantTorque+ " holding torque: "+ properties.getHoldingTorque());
-			if (properties.getHoldingTorque()-resistantTorque > 0){
-				stepInc += 1;
-			}
-			else
-				logger.warn("Step lost: resitstant Torque: "+resistantTorque+ " holding torque: "+ properties.getHoldingTorque());
-			if (stepInc >= 1)
-			{
-				stepInc = 0;
-				position+=360.0/(double)properties.getStepsPerRotation();
-				logger.info("Stepping to "+position);
-				
+	private static boolean isInSequence(int coilState) {
+		for (byte[] sequence : SEQUENCES) {
+			if (sequence[coilState] >= 0)
+				return true;
+		}
+		return false;
+	}
+
+	// rotate shaft by one step in the given direction, unless the step is lost
+	private void step(int direction, long timeNano) {
+		double stepAngle = getStepAngle();
+		double newSpeed = 0;
+		double newAcceleration = 0;
+		if (previousStepTime >= 0 && timeNano > previousStepTime) {
+			double period = (timeNano - previousStepTime) / 1e9;
+			newSpeed = direction * stepAngle / period;
+			newAcceleration = (newSpeed - speed) / period;
+		}
+		previousStepTime = timeNano;
+		if (isStepLost(direction, newSpeed, newAcceleration)) {
+			lostSteps++;
+			if (speed != 0) {
+				speed = 0;
+				speedChanged = true;
 			}
+			acceleration = 0;
+			return;
+		}
+		position += direction * stepAngle;
+		positionChanged = true;
+		if (newSpeed != speed) {
+			speed = newSpeed;
+			speedChanged = true;
+		}
+		acceleration = newAcceleration;
+	}
+
+	private boolean isStepLost(int direction, double newSpeed, double newAcceleration) {
+		// torque opposed to the rotation
+		double opposedTorque = direction * resistantTorque;
+		if (properties.getHoldingTorque() - opposedTorque <= 0) {
+			logger.debug("Step lost: resitstant Torque: {} holding torque: {}", resistantTorque, properties.getHoldingTorque());
 			return true;
 		}
-		else if (currentSeqIdx == theoricalCurrentIdxReverse){
-			logger.debug("Reverse direction: resitstant Torque: "+resistantTorque+ " holding torque: "+ properties.getHoldingTorque());
-			if (properties.getHoldingTorque()+resistantTorque > 0){
-				stepInc -= 1;
-			}
-			else
-				logger.warn("Step lost: resitstant Torque: "+resistantTorque+ " holding torque: "+ properties.getHoldingTorque());
-			
-			if (stepInc <= -1)
-			{
-				stepInc = 0;
-				position-=360.0/properties.getStepsPerRotation();
-				logger.info("Stepping to "+position);
-			}
+		double maximumSlewFrequency = properties.getMaximumSlewFrequency();
+		if (maximumSlewFrequency > 0 && Math.abs(newSpeed) / getStepAngle() > maximumSlewFrequency) {
+			logger.debug("Step lost: step rate {} Hz above maximum slew frequency", Math.abs(newSpeed) / getStepAngle());
 			return true;
-			
+		}
+		double pulloutTorque = properties.getPulloutTorque();
+		if (pulloutTorque > 0) {
+			double inertiaTorque = properties.getRotorInertia() * Math.toRadians(direction * newAcceleration);
+			if (inertiaTorque + opposedTorque > pulloutTorque) {
+				logger.debug("Step lost: torque needed {} above pull-out torque", inertiaTorque + opposedTorque);
+				return true;
+			}
 		}
 		return false;
 	}
 
-	private byte getBinaryState() {
-		int pinIdx = 0;
-		byte state = 0;
-		Iterator<org.raspinloop.config.Pin> it = properties.getUsedPins().iterator();
-		while (it.hasNext() && pinIdx++ < 4) {
-			org.raspinloop.config.Pin configuredPin = (org.raspinloop.config.Pin) it.next();
-			double nib = Math.pow(2, pinIdx-1);
-			if (cachedPins.get(configuredPin).getState() == onState) {
-				state ^= (int) nib;
-			}
-		}
-		return state;
+	private double getStepAngle() {
+		return 360.0 / properties.getStepsPerRotation();
+	}
+
+	/**
+	 * 
+	 * @return degree per second at last step
+	 */
+	public synchronized double getSpeed() {
+		return speed;
+	}
+
+	/**
+	 * 
+	 * @return degree per second^2 between the last two steps
+	 */
+	public synchronized double getAcceleration() {
+		return acceleration;
+	}
+
+	/**
+	 * 
+	 * @return number of steps lost since initialization
+	 */
+	public synchronized long getLostSteps() {
+		return lostSteps;
 	}
 
 	@Override
 	public boolean usePin(Pin pin) {		
-		for (org.raspinloop.config.Pin configuredPin : cachedPins.keySet()) {
-			if (configuredPin.getAddress() == pin.getAddress())
-				return true;
-		}
-		return false;
+		return pinsByAddress.containsKey(pin.getAddress());
 	}
 
 	public org.raspinloop.config.Pin getPin(Pin pin) {		
-		for (org.raspinloop.config.Pin configuredPin : cachedPins.keySet()) {
-			if (configuredPin.getAddress() == pin.getAddress())
-				return configuredPin;
-		}
-		return null;
+		return pinsByAddress.get(pin.getAddress());
 	}
 	
 	@Override
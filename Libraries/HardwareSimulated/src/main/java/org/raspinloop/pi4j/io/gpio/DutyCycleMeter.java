@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.pi4j.io.gpio;
+
+/**
+ * Measures the duty cycle and the frequency of a digital output over a window
+ * of simulated time. The board closes a window at the end of each
+ * communication step, so reads give the average over the last step and do
+ * not change the measure.
+ */
+class DutyCycleMeter {
+
+	private boolean high;
+	private long lastChangeNano;
+	private long windowStartNano;
+	private long highNano;
+	private int risingEdges;
+
+	// values of the last closed window
+	private double dutyCycle;
+	private double frequency;
+
+	/**
+	 * @param high
+	 *            new level of the pin
+	 * @param nowNano
+	 *            simulated time of the change
+	 */
+	synchronized void record(boolean high, long nowNano) {
+		if (high == this.high)
+			return;
+		nowNano = Math.max(nowNano, lastChangeNano);
+		if (this.high)
+			highNano += nowNano - lastChangeNano;
+		else
+			risingEdges++;
+		this.high = high;
+		lastChangeNano = nowNano;
+	}
+
+	/**
+	 * Close the current window if simulated time advanced since it started.
+	 * 
+	 * @return true if duty cycle or frequency changed
+	 */
+	synchronized boolean closeWindow(long nowNano) {
+		if (nowNano <= windowStartNano)
+			return false;
+		long endNano = Math.max(nowNano, lastChangeNano);
+		if (high)
+			highNano += endNano - lastChangeNano;
+		long windowNano = endNano - windowStartNano;
+		double newDutyCycle = (double) highNano / windowNano;
+		double newFrequency = risingEdges * 1000000000.0 / windowNano;
+		boolean changed = newDutyCycle != dutyCycle || newFrequency != frequency;
+		dutyCycle = newDutyCycle;
+		frequency = newFrequency;
+		windowStartNano = endNano;
+		lastChangeNano = endNano;
+		highNano = 0;
+		risingEdges = 0;
+		return changed;
+	}
+
+	/**
+	 * @return ratio of time the pin was high during the last closed window
+	 */
+	synchronized double getDutyCycle() {
+		return dutyCycle;
+	}
+
+	/**
+	 * @return number of rising edges per second during the last closed window
+	 */
+	synchronized double getFrequency() {
+		return frequency;
+	}
+
+	synchronized void reset(long nowNano) {
+		high = false;
+		lastChangeNano = nowNano;
+		windowStartNano = nowNano;
+		highNano = 0;
+		risingEdges = 0;
+		dutyCycle = 0;
+		frequency = 0;
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.pi4j.io.gpio;
+
+/**
+ * Fixed size ring of (simulated time, state) transitions for each pin, kept in
+ * primitive arrays so that recording does not allocate. When a ring is full,
+ * the oldest transitions are overwritten.
+ */
+class EdgeJournal {
+
+	private final int capacity;
+	// ring of pin p spans [p * capacity, (p + 1) * capacity)
+	private final long[] timesNano;
+	private final boolean[] states;
+	private final int[] heads;
+	private final int[] sizes;
+	private final long[] overwritten;
+
+	EdgeJournal(int nbPins, int capacity) {
+		this.capacity = capacity;
+		timesNano = new long[nbPins * capacity];
+		states = new boolean[nbPins * capacity];
+		heads = new int[nbPins];
+		sizes = new int[nbPins];
+		overwritten = new long[nbPins];
+	}
+
+	int getNbPins() {
+		return heads.length;
+	}
+
+	synchronized void record(int pin, long timeNano, boolean high) {
+		int index = pin * capacity + (heads[pin] + sizes[pin]) % capacity;
+		timesNano[index] = timeNano;
+		states[index] = high;
+		if (sizes[pin] < capacity) {
+			sizes[pin]++;
+		} else {
+			heads[pin] = (heads[pin] + 1) % capacity;
+			overwritten[pin]++;
+		}
+	}
+
+	/**
+	 * 
+	 * @return number of transitions copied, oldest first
+	 */
+	synchronized int drain(int pin, long[] timesNano, boolean[] states) {
+		int count = Math.min(sizes[pin], Math.min(timesNano.length, states.length));
+		for (int i = 0; i < count; i++) {
+			int index = pin * capacity + (heads[pin] + i) % capacity;
+			timesNano[i] = this.timesNano[index];
+			states[i] = this.states[index];
+		}
+		heads[pin] = (heads[pin] + count) % capacity;
+		sizes[pin] -= count;
+		return count;
+	}
+
+	/**
+	 * 
+	 * @return number of transitions lost because the ring was full
+	 */
+	synchronized long getOverwritten(int pin) {
+		return overwritten[pin];
+	}
+
+	synchronized void clear() {
+		for (int pin = 0; pin < heads.length; pin++) {
+			heads[pin] = 0;
+			sizes[pin] = 0;
+		}
+	}
+}
@@ -17,6 +17,7 @@ package org.raspinloop.pi4j.io.gpio;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -41,8 +42,10 @@ import org.raspinloop.hwemulation.GpioProvider;
 import org.raspinloop.hwemulation.GpioProviderHwEmulation;
 import org.raspinloop.hwemulation.PinDigitalStateChangeEvent;
 import org.raspinloop.hwemulation.PinEvent;
+import org.raspinloop.hwemulation.PinEventDispatcher;
 import org.raspinloop.hwemulation.PinEventType;
 import org.raspinloop.hwemulation.PinListener;
+import org.raspinloop.timeemulation.SimulatedTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +74,9 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 
 	private static final int DEFAULT_CACHE_SIZE = 100;
 
+	// ref -> pin, computed once from RaspiPin.allPins() (see getPin)
+	private static final Pin[] REF_TO_PIN = buildPinRouting();
+
 	protected final Map<Pin, PinEdge> edgeDetectionCache = new ConcurrentHashMap<Pin, PinEdge>();
 
 	private RaspiGpioSimulatorProperties properties = new RaspiGpioSimulatorProperties();
@@ -81,6 +87,8 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 
 	protected PinCache[] cache = new PinCache[DEFAULT_CACHE_SIZE];
 	protected final Map<Pin, List<PinListener>> listeners = new ConcurrentHashMap<>();
+	// listeners run on their own thread, not on the simulation tool one
+	private final PinEventDispatcher pinEventDispatcher = new PinEventDispatcher(RaspiGpioSimulator.class.getSimpleName());
 
 	// currently, we reserve all refs from 0 to 40 for pin (I/O)
 	// other component will be base after this range (even if they use pin)
@@ -90,10 +98,62 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 
 	private boolean isshutdown;
 
+	// ref -> component owning the model variable, built once all components
+	// are instantiated (see buildRouting)
+	private volatile Routing routing;
+
+	// output refs whose pin state changed since last collectChanges
+	private final BitSet changedOutputs = new BitSet();
+
+	// guards the scratch buffers of the primitive exchange methods
+	private final Object exchangeLock = new Object();
+
+	// output pins measured when pwmCapture is set, sorted by address, and
+	// their duty cycle/frequency meters
+	private final Pin[] pwmPins;
+	private final DutyCycleMeter[] dutyCycleMeters;
+	// meters indexed by pin address, null when the pin is not measured
+	private final DutyCycleMeter[] metersByAddress;
+	// closes the duty cycle windows at the end of each step
+	private final Runnable closePwmWindows = this::closePwmWindows;
+
+	// first ref of the duty cycle/frequency outputs, allocated after all
+	// components (see getPwmBase)
+	private int pwmBase = -1;
+
+	// transitions of each pin since last drainTransitions, null if disabled
+	private final EdgeJournal edgeJournal;
+
 	public RaspiGpioSimulator(HardwareBuilder builder) {
 		this.builderFactory = builder.getBuilderFactory();
 		if (builder.getProperties() instanceof RaspiGpioSimulatorProperties)
 			this.properties = (RaspiGpioSimulatorProperties) builder.getProperties();
+		if (properties.isPwmCapture()) {
+			pwmPins = properties.getOutputPins().toArray(new Pin[0]);
+			Arrays.sort(pwmPins, (a, b) -> Integer.compare(a.getAddress(), b.getAddress()));
+		} else {
+			pwmPins = new Pin[0];
+		}
+		dutyCycleMeters = new DutyCycleMeter[pwmPins.length];
+		int maxPwmAddress = -1;
+		for (int i = 0; i < pwmPins.length; i++) {
+			dutyCycleMeters[i] = new DutyCycleMeter();
+			maxPwmAddress = Math.max(maxPwmAddress, pwmPins[i].getAddress());
+		}
+		metersByAddress = new DutyCycleMeter[maxPwmAddress + 1];
+		for (int i = 0; i < pwmPins.length; i++) {
+			if (pwmPins[i].getAddress() >= 0)
+				metersByAddress[pwmPins[i].getAddress()] = dutyCycleMeters[i];
+		}
+		if (properties.getEdgeJournalCapacity() > 0) {
+			int maxAddress = -1;
+			for (Pin pin : RaspiPin.allPins())
+				maxAddress = Math.max(maxAddress, pin.getAddress());
+			edgeJournal = new EdgeJournal(maxAddress + 1, properties.getEdgeJournalCapacity());
+		} else {
+			edgeJournal = null;
+		}
+		markAllOutputsChanged();
 	}
 
 	@Override
@@ -115,27 +175,29 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 
 	public void setState(Pin pin, PinState state) {
 		
-		getPinCache(pin).setState(state);
-		for (HardwareProperties comp : properties.getAllComponents()) {
-			HwEmulation emulationComp = getEmulationInstance(comp);
-			if (emulationComp instanceof GpioCompHwEmulation) {
-				GpioCompHwEmulation compHwE = ((GpioCompHwEmulation) emulationComp);
-				if (compHwE.usePin(pin))
-					compHwE.setState(pin, state);
+		PinCache pinCache = getPinCache(pin);
+		// a never set pin reads as LOW
+		PinState oldState = pinCache.getState() == null ? PinState.LOW : pinCache.getState();
+		if (oldState != state) {
+			synchronized (changedOutputs) {
+				changedOutputs.set(getOutputReference(pin));
 			}
+			if (edgeJournal != null && pin.getAddress() >= 0 && pin.getAddress() < edgeJournal.getNbPins())
+				edgeJournal.record(pin.getAddress(), SimulatedTime.threadNanotime(), state == PinState.HIGH);
 		}
+		pinCache.setState(state);
+		DutyCycleMeter meter = getDutyCycleMeter(pin);
+		if (meter != null)
+			meter.record(state == PinState.HIGH, SimulatedTime.threadNanotime());
+		for (GpioCompHwEmulation compHwE : getRouting().componentsUsing(pin))
+			compHwE.setState(pin, state);
 	}
 
 	public PinState getState(Pin pin) {
 
-		for (HardwareProperties comp : properties.getAllComponents()) {
-			HwEmulation emulationComp = getEmulationInstance(comp);
-			if (emulationComp instanceof GpioCompHwEmulation) {
-				GpioCompHwEmulation compHwE = ((GpioCompHwEmulation) emulationComp);
-				if (compHwE.usePin(pin))
-					return compHwE.getState(pin);
-			}
-		}
+		GpioCompHwEmulation[] compHwEs = getRouting().componentsUsing(pin);
+		if (compHwEs.length > 0)
+			return compHwEs[0].getState(pin);
 		PinState state = getPinCache(pin).getState();
 		
 		return state;
@@ -165,6 +227,11 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 			if (emulationComp != null)
 				result &= emulationComp.exitInitialize();
 		}
+		buildRouting();
+		if (dutyCycleMeters.length > 0) {
+			SimulatedTime.INST.removeStepEndAction(closePwmWindows);
+			SimulatedTime.INST.addStepEndAction(closePwmWindows);
+		}
 		return result;
 	}
 
@@ -175,6 +242,15 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 			if (emulationComp != null)
 				emulationComp.terminate();
 		}
+		SimulatedTime.INST.removeStepEndAction(closePwmWindows);
+		logger.info(pinEventDispatcher.toString());
+		if (edgeJournal != null) {
+			for (org.raspinloop.config.Pin pin : properties.getOutputPins()) {
+				long lost = edgeJournal.getOverwritten(pin.getAddress());
+				if (lost > 0)
+					logger.warn(lost + " transitions of " + pin.getName() + " lost, edge journal is too small");
+			}
+		}
 	}
 
 	@Override
@@ -184,113 +260,172 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 			if (emulationComp != null)
 				emulationComp.reset();
 		}
+		long now = SimulatedTime.threadNanotime();
+		for (DutyCycleMeter meter : dutyCycleMeters)
+			meter.reset(now);
+		if (edgeJournal != null)
+			edgeJournal.clear();
+		markAllOutputsChanged();
 	}
 
 	@Override
-	public List<Double> getReal(List<Integer> refs) {
-		// NO check in pin: there is no pin with real value
-
-		List<Double> result = new ArrayList<Double>(refs.size());
-		for (Integer ref : refs) {
-			// TODO: we should group refs by component in order to make only one
-			// call
-			HwEmulation comp = getSimulatedCompUsingRef(ref);
-			if (comp != null) {
-				List<Double> compResult = comp.getReal(Arrays.asList(ref));
-				for (Double real1 : compResult) {
-					result.add(real1);
+	public void collectChanges(BitSet changed) {
+		synchronized (changedOutputs) {
+			changed.or(changedOutputs);
+			changedOutputs.clear();
+		}
+		for (ComponentSlot slot : getRouting().components)
+			slot.component.collectChanges(changed);
+	}
+
+	/**
+	 * End of step: the duty cycle and frequency read until next step are the
+	 * averages over the step just done.
+	 */
+	void closePwmWindows() {
+		long now = SimulatedTime.INST.getCurrentTimeNano();
+		int base = getPwmBase();
+		for (int i = 0; i < dutyCycleMeters.length; i++) {
+			if (dutyCycleMeters[i].closeWindow(now)) {
+				synchronized (changedOutputs) {
+					changedOutputs.set(base + 2 * i, base + 2 * i + 2);
 				}
-			} else {
-				logger.warn("ref:" + ref + " not used in application");
-				result.add(0.0); // Invalid value defined for real ?
 			}
 		}
+	}
+
+	@Override
+	public int drainTransitions(int ref, long[] timesNano, boolean[] states) {
+		Pin pin = getPin(ref);
+		if (pin != null && pin.getAddress() == ref) {
+			// board output
+			if (edgeJournal == null || ref >= edgeJournal.getNbPins())
+				return 0;
+			return edgeJournal.drain(ref, timesNano, states);
+		}
+		HwEmulation comp = getSimulatedCompUsingRef(ref);
+		return comp == null ? 0 : comp.drainTransitions(ref, timesNano, states);
+	}
+
+	private void markAllOutputsChanged() {
+		synchronized (changedOutputs) {
+			for (org.raspinloop.config.Pin pin : properties.getOutputPins())
+				changedOutputs.set(getOutputReference(pin));
+			if (pwmPins.length > 0)
+				changedOutputs.set(getPwmBase(), getPwmBase() + 2 * pwmPins.length);
+		}
+	}
+
+	private DutyCycleMeter getDutyCycleMeter(Pin pin) {
+		int address = pin.getAddress();
+		return address >= 0 && address < metersByAddress.length ? metersByAddress[address] : null;
+	}
+
+	/**
+	 * Duty cycle and frequency refs come after the refs of every component,
+	 * so that the base references of components do not depend on pwmCapture.
+	 */
+	private synchronized int getPwmBase() {
+		if (pwmBase < 0) {
+			for (HardwareProperties comp : properties.getAllComponents())
+				getEmulationInstance(comp);
+			pwmBase = nextAvailableBase;
+			nextAvailableBase += 2 * pwmPins.length;
+		}
+		return pwmBase;
+	}
+
+	/**
+	 * 
+	 * @return duty cycle (even offset) or frequency (odd offset) averaged over
+	 *         the last step, null if ref is not a pwm output
+	 */
+	private Double getPwmValue(int ref) {
+		if (pwmPins.length == 0)
+			return null;
+		int offset = ref - getPwmBase();
+		if (offset < 0 || offset >= 2 * pwmPins.length)
+			return null;
+		DutyCycleMeter meter = dutyCycleMeters[offset / 2];
+		return offset % 2 == 0 ? meter.getDutyCycle() : meter.getFrequency();
+	}
+
+	// boxed methods adapt the primitive ones, which route refs to components
+
+	@Override
+	public List<Double> getReal(List<Integer> refs) {
+		int[] primitiveRefs = toRefs(refs);
+		double[] values = new double[primitiveRefs.length];
+		getReal(primitiveRefs, primitiveRefs.length, values);
+		List<Double> result = new ArrayList<>(values.length);
+		for (double value : values)
+			result.add(value);
 		return result;
 	}
 
 	@Override
 	public List<Integer> getInteger(List<Integer> refs) {
-		// NO check in pin: there is no pin with integer value
-		List<Integer> result = new ArrayList<Integer>(refs.size());
-		for (Integer ref : refs) {
-			// TODO: we should group refs by component in order to make only one
-			// call
-			HwEmulation comp = getSimulatedCompUsingRef(ref);
-			if (comp != null) {
-				List<Integer> compResult = comp.getInteger(Arrays.asList(ref));
-				for (Integer int1 : compResult) {
-					result.add(int1);
-				}
-			} else {
-				logger.warn("ref:" + ref + " not used in application");
-				result.add(0); // Invalid value defined for integer ?
-			}
-		}
+		int[] primitiveRefs = toRefs(refs);
+		int[] values = new int[primitiveRefs.length];
+		getInteger(primitiveRefs, primitiveRefs.length, values);
+		List<Integer> result = new ArrayList<>(values.length);
+		for (int value : values)
+			result.add(value);
+		return result;
+	}
+
+	@Override
+	public List<Boolean> getBoolean(List<Integer> refs) {
+		int[] primitiveRefs = toRefs(refs);
+		boolean[] values = new boolean[primitiveRefs.length];
+		getBoolean(primitiveRefs, primitiveRefs.length, values);
+		List<Boolean> result = new ArrayList<>(values.length);
+		for (boolean value : values)
+			result.add(value);
 		return result;
 	}
 
 	@Override
 	public boolean setReal(Map<Integer, Double> ref_values) {
-		// NO check in pin: there is no pin with real value
+		int[] refs = new int[ref_values.size()];
+		double[] values = new double[refs.length];
+		int i = 0;
 		for (Entry<Integer, Double> ref_value : ref_values.entrySet()) {
-			// TODO: we should group ref_value by component in order to make
-			// only one call
-			HwEmulation comp = getSimulatedCompUsingRef(ref_value.getKey());
-			if (comp != null) {
-				HashMap<Integer, Double> map = new HashMap<>(1);
-				map.put(ref_value.getKey(), ref_value.getValue());
-				comp.setReal(map);
-			} else {
-				logger.warn("PIN[ref:" + ref_value.getKey() + "] not used in application");
-				return true;
-			}
+			refs[i] = ref_value.getKey();
+			values[i++] = ref_value.getValue();
 		}
-		return true;
+		return setReal(refs, refs.length, values);
 	}
 
 	@Override
 	public boolean setInteger(Map<Integer, Integer> ref_values) {
-		// NO check in pin: there is no pin with integer value
+		int[] refs = new int[ref_values.size()];
+		int[] values = new int[refs.length];
+		int i = 0;
 		for (Entry<Integer, Integer> ref_value : ref_values.entrySet()) {
-			// TODO: we should group ref_value by component in order to make
-			// only one call
-			HwEmulation comp = getSimulatedCompUsingRef(ref_value.getKey());
-			if (comp != null) {
-				HashMap<Integer, Integer> map = new HashMap<>(1);
-				map.put(ref_value.getKey(), ref_value.getValue());
-				comp.setInteger(map);
-			} else {
-				logger.warn("PIN[ref:" + ref_value.getKey() + "] not used in application");
-				return true;
-			}
+			refs[i] = ref_value.getKey();
+			values[i++] = ref_value.getValue();
 		}
-		return true;
+		return setInteger(refs, refs.length, values);
 	}
 
 	@Override
-	public List<Boolean> getBoolean(List<Integer> refs) {
-		// Boolean value may be either a pin state or a value given by a
-		// component
-		List<Boolean> result = new LinkedList<Boolean>();
-		for (Integer ref : refs) {
-			Pin pin = getPin(ref);
-			if (pin != null)
-				result.add(getState(pin) == PinState.HIGH);
-			else {
-				// TODO: we should group refs by component in order to make only
-				// one call
-				HwEmulation comp = getSimulatedCompUsingRef(ref);
-				if (comp != null) {
-					List<Boolean> compResult = comp.getBoolean(Arrays.asList(ref));
-					for (Boolean boolean1 : compResult) {
-						result.add(boolean1);
-					}
-				} else {
-					logger.warn("ref:" + ref + " not used in application");
-					result.add(false); // default pull up/down resistor ??
-				}
-			}
+	public boolean setBoolean(Map<Integer, Boolean> ref_values) {
+		int[] refs = new int[ref_values.size()];
+		boolean[] values = new boolean[refs.length];
+		int i = 0;
+		for (Entry<Integer, Boolean> ref_value : ref_values.entrySet()) {
+			refs[i] = ref_value.getKey();
+			values[i++] = Boolean.TRUE.equals(ref_value.getValue());
 		}
+		return setBoolean(refs, refs.length, values);
+	}
+
+	private static int[] toRefs(List<Integer> refs) {
+		int[] result = new int[refs.size()];
+		int i = 0;
+		for (Integer ref : refs)
+			result[i++] = ref;
 		return result;
 	}
 
@@ -328,29 +463,140 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 		return pc;
 	}
 
+	private void setPinState(Pin pin, boolean high) {
+		PinState state = high ? PinState.HIGH : PinState.LOW;
+		PinState oldState = getPinCache(pin).getState();
+		getPinCache(pin).setState(state);
+		if (!state.equals(oldState))
+			dispatchPinDigitalStateChangeEvent(pin, state);
+	}
+
 	@Override
-	public boolean setBoolean(Map<Integer, Boolean> ref_values) {
-		// Boolean value may be either a pin state or a component value to set.
-		for (Entry<Integer, Boolean> ref_value : ref_values.entrySet()) {
-			Pin pin = getPin(ref_value.getKey());
-			if (pin != null) {
-				PinState state = ref_value.getValue().equals(Boolean.TRUE) ? PinState.HIGH : PinState.LOW;
-				PinState oldState = getPinCache(pin).getState();				
-				getPinCache(pin).setState(state);
-				if (!state.equals(oldState))
-					dispatchPinDigitalStateChangeEvent(pin,state);
-
-			} else {
-				// TODO: we should group ref_value by component in order to make
-				// only one call
-				HwEmulation comp = getSimulatedCompUsingRef(ref_value.getKey());
-				if (comp != null) {
-					HashMap<Integer, Boolean> map = new HashMap<>(1);
-					map.put(ref_value.getKey(), ref_value.getValue());
-					comp.setBoolean(map);
-				} else {
-					logger.warn("PIN[ref:" + ref_value.getKey() + "] not used in application");
-					return true;
+	public void getReal(int[] refs, int count, double[] values) {
+		synchronized (exchangeLock) {
+			Routing routing = startExchange();
+			for (int i = 0; i < count; i++) {
+				Double pwmValue = getPwmValue(refs[i]);
+				if (pwmValue != null) {
+					values[i] = pwmValue;
+				} else if (!routing.add(refs[i], i)) {
+					logger.warn("ref:" + refs[i] + " not used in application");
+					values[i] = 0.0;
+				}
+			}
+			for (ComponentSlot slot : routing.components) {
+				int n = slot.take();
+				if (n > 0) {
+					slot.component.getReal(slot.refs, n, slot.reals);
+					for (int j = 0; j < n; j++)
+						values[slot.positions[j]] = slot.reals[j];
+				}
+			}
+		}
+	}
+
+	@Override
+	public void getInteger(int[] refs, int count, int[] values) {
+		synchronized (exchangeLock) {
+			Routing routing = startExchange();
+			for (int i = 0; i < count; i++) {
+				if (!routing.add(refs[i], i)) {
+					logger.warn("ref:" + refs[i] + " not used in application");
+					values[i] = 0;
+				}
+			}
+			for (ComponentSlot slot : routing.components) {
+				int n = slot.take();
+				if (n > 0) {
+					slot.component.getInteger(slot.refs, n, slot.integers);
+					for (int j = 0; j < n; j++)
+						values[slot.positions[j]] = slot.integers[j];
+				}
+			}
+		}
+	}
+
+	@Override
+	public void getBoolean(int[] refs, int count, boolean[] values) {
+		synchronized (exchangeLock) {
+			Routing routing = startExchange();
+			for (int i = 0; i < count; i++) {
+				Pin pin = getPin(refs[i]);
+				if (pin != null) {
+					values[i] = getState(pin) == PinState.HIGH;
+				} else if (!routing.add(refs[i], i)) {
+					logger.warn("ref:" + refs[i] + " not used in application");
+					values[i] = false;
+				}
+			}
+			for (ComponentSlot slot : routing.components) {
+				int n = slot.take();
+				if (n > 0) {
+					slot.component.getBoolean(slot.refs, n, slot.booleans);
+					for (int j = 0; j < n; j++)
+						values[slot.positions[j]] = slot.booleans[j];
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean setReal(int[] refs, int count, double[] values) {
+		synchronized (exchangeLock) {
+			Routing routing = startExchange();
+			for (int i = 0; i < count; i++) {
+				if (!routing.add(refs[i], i))
+					logger.warn("PIN[ref:" + refs[i] + "] not used in application");
+			}
+			for (ComponentSlot slot : routing.components) {
+				int n = slot.take();
+				if (n > 0) {
+					for (int j = 0; j < n; j++)
+						slot.reals[j] = values[slot.positions[j]];
+					slot.component.setReal(slot.refs, n, slot.reals);
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean setInteger(int[] refs, int count, int[] values) {
+		synchronized (exchangeLock) {
+			Routing routing = startExchange();
+			for (int i = 0; i < count; i++) {
+				if (!routing.add(refs[i], i))
+					logger.warn("PIN[ref:" + refs[i] + "] not used in application");
+			}
+			for (ComponentSlot slot : routing.components) {
+				int n = slot.take();
+				if (n > 0) {
+					for (int j = 0; j < n; j++)
+						slot.integers[j] = values[slot.positions[j]];
+					slot.component.setInteger(slot.refs, n, slot.integers);
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean setBoolean(int[] refs, int count, boolean[] values) {
+		synchronized (exchangeLock) {
+			Routing routing = startExchange();
+			for (int i = 0; i < count; i++) {
+				Pin pin = getPin(refs[i]);
+				if (pin != null)
+					setPinState(pin, values[i]);
+				else if (!routing.add(refs[i], i))
+					logger.warn("PIN[ref:" + refs[i] + "] not used in application");
+			}
+			for (ComponentSlot slot : routing.components) {
+				int n = slot.take();
+				if (n > 0) {
+					for (int j = 0; j < n; j++)
+						slot.booleans[j] = values[slot.positions[j]];
+					slot.component.setBoolean(slot.refs, n, slot.booleans);
 				}
 			}
 		}
@@ -367,17 +613,26 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 	 * @return
 	 */
 	private Pin getPin(Integer ref) {
-		//
+		if (ref < 0 || ref >= REF_TO_PIN.length)
+			return null;
+		return REF_TO_PIN[ref];
+	}
+
+	private static Pin[] buildPinRouting() {
+		int maxRef = -1;
+		for (Pin pin : RaspiPin.allPins())
+			maxRef = Math.max(maxRef, Math.max(pin.getAddress(), getInputReference(pin)));
+		Pin[] routing = new Pin[maxRef + 1];
 		for (Pin pin : RaspiPin.allPins()) {
-			if (ref > RaspiPin.GPIO_20.getAddress()) { // input pin
-				if (ref.equals(RaspiPin.GPIO_20.getAddress() + 1 + pin.getAddress()))
-					return pin;
-			} else { // Output pin
-				if (ref.equals(pin.getAddress()))
-					return pin;
-			}
+			// refs up to GPIO_20 are outputs, above are inputs. First pin
+			// found wins, as the former linear scan did.
+			if (pin.getAddress() >= 0 && pin.getAddress() <= RaspiPin.GPIO_20.getAddress() && routing[pin.getAddress()] == null)
+				routing[pin.getAddress()] = pin;
+			int inputRef = getInputReference(pin);
+			if (inputRef > RaspiPin.GPIO_20.getAddress() && routing[inputRef] == null)
+				routing[inputRef] = pin;
 		}
-		return null;
+		return routing;
 	}
 
 	@Override
@@ -405,6 +660,12 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 				list.addAll(emulationComp.getModelVariables());
 		}
 
+		for (int i = 0; i < pwmPins.length; i++) {
+			String name = pwmPins[i].getName();
+			list.add(createRealOutput(name + " duty cycle", "Ratio of time pin " + name + " was high during last step", getPwmBase() + 2 * i));
+			list.add(createRealOutput(name + " frequency", "Rising edges per second of pin " + name + " during last step", getPwmBase() + 2 * i + 1));
+		}
+
 		return list;
 	}
 
@@ -436,6 +697,18 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 		return sc;
 	}
 
+	private Fmi2ScalarVariable createRealOutput(String name, String descritpion, long ref) {
+		Fmi2ScalarVariable sc = new Fmi2ScalarVariable();
+		org.raspinloop.fmi.modeldescription.Fmi2ScalarVariable.Real scr = new Fmi2ScalarVariable.Real();
+		sc.setReal(scr);
+		sc.setName(name);
+		sc.setValueReference(ref);
+		sc.setDescription(descritpion);
+		sc.setCausality("output");
+		sc.setVariability("continuous");
+		return sc;
+	}
+
 	private Fmi2ScalarVariable createBooleanInput(String name, String descritpion, long ref) {
 		Fmi2ScalarVariable sc = new Fmi2ScalarVariable();
 		org.raspinloop.fmi.modeldescription.Fmi2ScalarVariable.Boolean scb = new Fmi2ScalarVariable.Boolean();
@@ -452,21 +725,156 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 		return pin.getAddress();
 	}
 
-	private static int getInputReference(org.raspinloop.config.Pin pin) {
+	static int getInputReference(org.raspinloop.config.Pin pin) {
 		return RaspiPin.GPIO_20.getAddress() + 1 + pin.getAddress();
 	}
 
 	private HwEmulation getSimulatedCompUsingRef(long ref) {
+		ComponentSlot slot = getRouting().slotFor(ref);
+		return slot == null ? null : slot.component;
+	}
+
+	private Routing getRouting() {
+		Routing current = routing;
+		return current != null ? current : buildRouting();
+	}
+
+	private Routing startExchange() {
+		Routing current = getRouting();
+		// drop refs left queued by an exchange aborted by an exception
+		for (ComponentSlot slot : current.components)
+			slot.take();
+		return current;
+	}
+
+	/**
+	 * Scan once the model variables of every component and index the owner of
+	 * each value reference. Called at exitInitialize, or lazily on first
+	 * lookup when the board is driven without initialization.
+	 */
+	private synchronized Routing buildRouting() {
+		List<ComponentSlot> components = new ArrayList<>();
+		List<List<Fmi2ScalarVariable>> variables = new ArrayList<>();
+		long maxRef = -1;
 		for (HardwareProperties comp : properties.getAllComponents()) {
 			HwEmulation emulationComp = getEmulationInstance(comp);
 			if (emulationComp != null) {
-				for (Fmi2ScalarVariable modelVariable : emulationComp.getModelVariables()) {
-					if (modelVariable.getValueReference() == ref)
-						return emulationComp;
-				}
+				List<Fmi2ScalarVariable> modelVariables = emulationComp.getModelVariables();
+				for (Fmi2ScalarVariable modelVariable : modelVariables)
+					maxRef = Math.max(maxRef, modelVariable.getValueReference());
+				components.add(new ComponentSlot(emulationComp));
+				variables.add(modelVariables);
+			}
+		}
+		ComponentSlot[] byRef = new ComponentSlot[(int) (maxRef + 1)];
+		for (int i = 0; i < components.size(); i++) {
+			for (Fmi2ScalarVariable modelVariable : variables.get(i)) {
+				int ref = (int) modelVariable.getValueReference();
+				if (ref >= 0 && byRef[ref] == null)
+					byRef[ref] = components.get(i);
+			}
+		}
+		ComponentSlot[] slots = components.toArray(new ComponentSlot[components.size()]);
+
+		int maxAddress = -1;
+		for (Pin pin : RaspiPin.allPins())
+			maxAddress = Math.max(maxAddress, pin.getAddress());
+		GpioCompHwEmulation[][] byPinAddress = new GpioCompHwEmulation[maxAddress + 1][];
+		for (Pin pin : RaspiPin.allPins()) {
+			if (pin.getAddress() >= 0 && byPinAddress[pin.getAddress()] == null)
+				byPinAddress[pin.getAddress()] = Routing.scanComponentsUsing(slots, pin);
+		}
+		routing = new Routing(byRef, slots, byPinAddress);
+		return routing;
+	}
+
+	private static class Routing {
+		final ComponentSlot[] byRef;
+		final ComponentSlot[] components;
+		// pin address -> GPIO components using it, in component order
+		final GpioCompHwEmulation[][] byPinAddress;
+
+		Routing(ComponentSlot[] byRef, ComponentSlot[] components, GpioCompHwEmulation[][] byPinAddress) {
+			this.byRef = byRef;
+			this.components = components;
+			this.byPinAddress = byPinAddress;
+		}
+
+		GpioCompHwEmulation[] componentsUsing(Pin pin) {
+			int address = pin.getAddress();
+			if (address >= 0 && address < byPinAddress.length)
+				return byPinAddress[address];
+			// not a Raspberry pin: not indexed
+			return scanComponentsUsing(components, pin);
+		}
+
+		static GpioCompHwEmulation[] scanComponentsUsing(ComponentSlot[] components, Pin pin) {
+			List<GpioCompHwEmulation> users = new ArrayList<>(1);
+			for (ComponentSlot slot : components) {
+				if (slot.component instanceof GpioCompHwEmulation && ((GpioCompHwEmulation) slot.component).usePin(pin))
+					users.add((GpioCompHwEmulation) slot.component);
+			}
+			return users.toArray(new GpioCompHwEmulation[users.size()]);
+		}
+
+		ComponentSlot slotFor(long ref) {
+			if (ref < 0 || ref >= byRef.length)
+				return null;
+			return byRef[(int) ref];
+		}
+
+		/**
+		 * queue ref to the component owning it
+		 * 
+		 * @return false if no component uses ref
+		 */
+		boolean add(int ref, int position) {
+			ComponentSlot slot = slotFor(ref);
+			if (slot == null)
+				return false;
+			slot.add(ref, position);
+			return true;
+		}
+	}
+
+	/**
+	 * A component with the refs queued for it during one primitive exchange,
+	 * their position in the request and reusable value buffers
+	 */
+	private static class ComponentSlot {
+		final HwEmulation component;
+		int count;
+		int[] refs = new int[0];
+		int[] positions = new int[0];
+		double[] reals = new double[0];
+		int[] integers = new int[0];
+		boolean[] booleans = new boolean[0];
+
+		ComponentSlot(HwEmulation component) {
+			this.component = component;
+		}
+
+		void add(int ref, int position) {
+			if (count == refs.length) {
+				int capacity = Math.max(4, count * 2);
+				refs = Arrays.copyOf(refs, capacity);
+				positions = Arrays.copyOf(positions, capacity);
+				reals = Arrays.copyOf(reals, capacity);
+				integers = Arrays.copyOf(integers, capacity);
+				booleans = Arrays.copyOf(booleans, capacity);
 			}
+			refs[count] = ref;
+			positions[count++] = position;
+		}
+
+		/**
+		 * @return number of queued refs, the queue being emptied
+		 */
+		int take() {
+			int n = count;
+			count = 0;
+			return n;
 		}
-		return null;
 	}
 
 	public String getName() {
@@ -534,14 +942,24 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 
 	protected void dispatchPinDigitalStateChangeEvent(Pin pin, PinState state) {
 		// if the pin listeners map contains this pin, then dispatch event
-		if (listeners.containsKey(pin)) {
-			// dispatch this event to all listener handlers
-			for (PinListener listener : listeners.get(pin)) {
-				listener.handlePinEvent(new PinDigitalStateChangeEvent(pin, state));
+		List<PinListener> lsnrs = listeners.get(pin);
+		if (lsnrs != null) {
+			// queue this event for all listener handlers
+			PinListener[] targets;
+			synchronized (listeners) {
+				targets = lsnrs.toArray(new PinListener[lsnrs.size()]);
 			}
+			pinEventDispatcher.dispatch(targets, new PinDigitalStateChangeEvent(pin, state));
 		}
 	}
 
+	/**
+	 * @return dispatcher of pin events, giving queue depth and delivery latency
+	 */
+	public PinEventDispatcher getPinEventDispatcher() {
+		return pinEventDispatcher;
+	}
+
 	/***
 	 * get userspace control over GPIOs
 	 */
@@ -661,6 +1079,7 @@ public class RaspiGpioSimulator implements GpioProviderHwEmulation {
 
 		// remove all listeners
 		removeAllListeners();
+		pinEventDispatcher.close();
 
 		// set shutdown tracking state variable
 		isshutdown = true;
@@ -55,6 +55,10 @@ public class RaspiGpioSimulatorProperties implements BoardHardware {
 	
 	BoardHardwareDelegate boardHardwareDelegate = new BoardHardwareDelegate(GUID);
 	private String componentName = DISPLAY_NAME;
+	// expose duty cycle and frequency of each output pin
+	private boolean pwmCapture = false;
+	// transitions kept per pin between two reads, 0 to disable
+	private int edgeJournalCapacity = 64;
 
 	static Pin[] pins = new Pin[NB_PIN];
 	static {
@@ -85,6 +89,24 @@ public class RaspiGpioSimulatorProperties implements BoardHardware {
 		return TYPE;
 	}
 
+	public boolean isPwmCapture() {
+		return pwmCapture;
+	}
+
+	public RaspiGpioSimulatorProperties setPwmCapture(boolean pwmCapture) {
+		this.pwmCapture = pwmCapture;
+		return this;
+	}
+
+	public int getEdgeJournalCapacity() {
+		return edgeJournalCapacity;
+	}
+
+	public RaspiGpioSimulatorProperties setEdgeJournalCapacity(int edgeJournalCapacity) {
+		this.edgeJournalCapacity = edgeJournalCapacity;
+		return this;
+	}
+
 	@Override
 	public String getImplementationClassName() {		
 		return RaspiGpioSimulator.class.getName();
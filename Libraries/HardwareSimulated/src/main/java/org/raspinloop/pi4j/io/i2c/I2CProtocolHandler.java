@@ -15,8 +15,6 @@
  ******************************************************************************/
 package org.raspinloop.pi4j.io.i2c;
 
-import java.util.BitSet;
-
 public class I2CProtocolHandler {
 
 	private RegisterBank rb;
@@ -41,22 +39,44 @@ public class I2CProtocolHandler {
 	private byte ADDRESS;
 	
 	private boolean setCommand(byte command) {
-		BitSet commandBs = BitSet.valueOf(new byte[] { command });
-		if (commandBs.get(7)) {
-			this.CLEAR = commandBs.get(6);
-			this.WORD = commandBs.get(5);
-			this.BLOCK = commandBs.get(4);
-			this.ADDRESS = commandBs.get(0, 4).toByteArray()[0];
+		// CMD | CLEAR | WORD | BLOCK | ADDRESS (4 bits)
+		if (isCommand(command)) {
+			this.CLEAR = (command & 0x40) != 0;
+			this.WORD = (command & 0x20) != 0;
+			this.BLOCK = (command & 0x10) != 0;
+			this.ADDRESS = registerAddress(command);
 			return true;
 		} else
 			return false;
 	}
 
+	private static boolean isCommand(byte command) {
+		return (command & 0x80) != 0;
+	}
+
+	private static byte registerAddress(byte command) {
+		return (byte) (command & 0x0F);
+	}
+
+	/**
+	 * Reading read-only registers does not update the command register, so
+	 * that such reads may run concurrently.
+	 * 
+	 * @return true if reading size bytes with this command only reads
+	 *         read-only registers
+	 */
+	public boolean isReadOnly(int address, int size) {
+		byte command = (byte) address;
+		return isCommand(command) && rb.isReadOnly(registerAddress(command), size);
+	}
+
 	public boolean write(int address, byte[] buffer) {
+		return write(address, buffer, 0, buffer.length);
+	}
+
+	public boolean write(int address, byte[] buffer, int offset, int size) {
 		if (setCommand((byte) address)) {
-			for (int i = 0; i < buffer.length; i++) {
-				rb.write((byte)(this.ADDRESS+i), buffer[i]);
-			}			
+			rb.write(this.ADDRESS, buffer, offset, size);
 			return true;
 		}
 		return false;
@@ -67,21 +87,42 @@ public class I2CProtocolHandler {
 		return new byte[0];
 	}
 
+	public int read(byte[] buffer, int offset, int size) {
+		// Cannot read from Control register
+		return 0;
+	}
+
 	public byte[] read(int address, int size) {
-		if (setCommand((byte) address)) {
+		if (isCommand((byte) address)) {
 			byte[] result = new byte[size];
-			for (int i = 0; i < size; i++) {
-				result[i] = rb.read((byte)(this.ADDRESS+i));
-			}
+			read(address, result, 0, size);
 			return result;
 		}
 		return new byte[0];
 	}
 
+	/**
+	 * 
+	 * @return number of bytes read into buffer
+	 */
+	public int read(int address, byte[] buffer, int offset, int size) {
+		byte command = (byte) address;
+		if (!isCommand(command))
+			return 0;
+		if (!isReadOnly(address, size))
+			setCommand(command);
+		rb.read(registerAddress(command), buffer, offset, size);
+		return size;
+	}
+
 	public boolean write(byte[] buffer) {
+		return write(buffer, 0, buffer.length);
+	}
+
+	public boolean write(byte[] buffer, int offset, int size) {
 		// this will set only the Command register, so nothing to do...
-		if (buffer.length == 1) {
-			return setCommand(buffer[0]);
+		if (size == 1) {
+			return setCommand(buffer[offset]);
 		}
 		return false;
 	}
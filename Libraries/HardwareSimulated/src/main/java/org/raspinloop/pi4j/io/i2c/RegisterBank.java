@@ -15,23 +15,32 @@
  ******************************************************************************/
 package org.raspinloop.pi4j.io.i2c;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Registers of an I2C device, indexed by their 8 bits address. Missing
+ * registers read as 0 and ignore writes.
+ */
 public class RegisterBank {
 
-	private Map<Byte, IRegister> registers = new HashMap<>();
+	private final IRegister[] registers = new IRegister[256];
+
+	// block transfers move to the next register after each byte
+	private final boolean autoIncrement;
 	
 	RegisterBank() {		
+		this(true);
+	}
+
+	RegisterBank(boolean autoIncrement) {
+		this.autoIncrement = autoIncrement;
 	}
 
 	public RegisterBank add(IRegister register) {
-		registers.put(register.getAddress(), register);
+		registers[register.getAddress() & 0xFF] = register;
 		return this;
 	}
 	
 	public byte read (byte regAddress){
-		IRegister reg = registers.get(regAddress);
+		IRegister reg = registers[regAddress & 0xFF];
 		if (reg != null)
 			return reg.read();
 		else
@@ -39,9 +48,54 @@ public class RegisterBank {
 	}
 	
 	public void write (byte regAddress, byte value){
-		IRegister reg = registers.get(regAddress);
+		IRegister reg = registers[regAddress & 0xFF];
 		if (reg != null)
 			reg.write(value);
 	}
+
+	/**
+	 * Block read starting at regAddress, wrapping after the last register
+	 * when auto increment is on, repeating regAddress otherwise.
+	 */
+	public void read(byte regAddress, byte[] buffer, int offset, int size) {
+		int step = autoIncrement ? 1 : 0;
+		int index = regAddress & 0xFF;
+		for (int i = 0; i < size; i++) {
+			IRegister reg = registers[index];
+			buffer[offset + i] = reg != null ? reg.read() : 0;
+			index = (index + step) & 0xFF;
+		}
+	}
+
+	/**
+	 * 
+	 * @return true if a block read of size bytes at regAddress only reads
+	 *         read-only or missing registers
+	 */
+	public boolean isReadOnly(byte regAddress, int size) {
+		int step = autoIncrement ? 1 : 0;
+		int index = regAddress & 0xFF;
+		for (int i = 0; i < Math.min(size, registers.length); i++) {
+			IRegister reg = registers[index];
+			if (reg != null && !(reg instanceof RoRegister))
+				return false;
+			index = (index + step) & 0xFF;
+		}
+		return true;
+	}
+
+	/**
+	 * Block write starting at regAddress, see {@link #read(byte, byte[], int, int)}.
+	 */
+	public void write(byte regAddress, byte[] buffer, int offset, int size) {
+		int step = autoIncrement ? 1 : 0;
+		int index = regAddress & 0xFF;
+		for (int i = 0; i < size; i++) {
+			IRegister reg = registers[index];
+			if (reg != null)
+				reg.write(buffer[offset + i]);
+			index = (index + step) & 0xFF;
+		}
+	}
 	
 }
@@ -45,8 +45,11 @@ public class TSL256x implements I2CCompHwEmulation {
 	private double lux;
 	protected Gain gain;
 	protected boolean powered;
-	protected int data0;
-	protected int data1;
+	// DATA1 in the high 32 bits, DATA0 in the low ones, published together by
+	// startAquisition. Read without lock by DATA registers, see isLockFreeRead
+	private volatile long channels;
+	// per reading thread: what the DATA registers show during a read transaction
+	private final ThreadLocal<DataLatch> dataLatch = ThreadLocal.withInitial(DataLatch::new);
 
 	static final int NB_VAR = 1;
 
@@ -117,14 +120,14 @@ public class TSL256x implements I2CCompHwEmulation {
 	public void reset() {
 	}
 
-	private void setVar(Integer ref, double value) {
+	private void setVar(int ref, double value) {
 		if (ref - baseref == 0) {
 			lux = value;
 			startAquisition();
 		}
 	}
 
-	private double getVar(Integer ref) {
+	private double getVar(int ref) {
 		if (ref - baseref == 0)
 			return lux;
 		else
@@ -137,7 +140,18 @@ public class TSL256x implements I2CCompHwEmulation {
 		for (Integer ref : refs) {
 			result.add(getVar(ref));
 		}
-		return null;
+		return result;
+	}
+
+	@Override
+	public void getReal(int[] refs, int count, double[] values) {
+		for (int i = 0; i < count; i++)
+			values[i] = getVar(refs[i]);
+	}
+
+	@Override
+	public void collectChanges(BitSet changed) {
+		// only input variables
 	}
 
 	@Override
@@ -159,6 +173,13 @@ public class TSL256x implements I2CCompHwEmulation {
 		return true;
 	}
 
+	@Override
+	public boolean setReal(int[] refs, int count, double[] values) {
+		for (int i = 0; i < count; i++)
+			setVar(refs[i], values[i]);
+		return true;
+	}
+
 	@Override
 	public boolean setInteger(Map<Integer, Integer> ref_values) {
 		// No Integer variable in this component
@@ -193,14 +214,71 @@ public class TSL256x implements I2CCompHwEmulation {
 
 	@Override
 	public byte[] read(int size) {
+		startReadTransaction();
 		return i2cProtoHanlder.read(size);
 	}
 
 	@Override
 	public byte[] read(int address, int size) {
+		startReadTransaction();
 		return i2cProtoHanlder.read(address, size);
 	}
 
+	@Override
+	public boolean isLockFreeRead(int address, int size) {
+		return i2cProtoHanlder.isReadOnly(address, size);
+	}
+
+	@Override
+	public boolean write(byte[] buffer, int offset, int size) {
+		return i2cProtoHanlder.write(buffer, offset, size);
+	}
+
+	@Override
+	public boolean write(int address, byte[] buffer, int offset, int size) {
+		return i2cProtoHanlder.write(address, buffer, offset, size);
+	}
+
+	@Override
+	public int read(byte[] buffer, int offset, int size) {
+		startReadTransaction();
+		return i2cProtoHanlder.read(buffer, offset, size);
+	}
+
+	@Override
+	public int read(int address, byte[] buffer, int offset, int size) {
+		startReadTransaction();
+		return i2cProtoHanlder.read(address, buffer, offset, size);
+	}
+
+	/**
+	 * The ADC channels are sampled once per read transaction, so that a block
+	 * read of DATA0 and DATA1 gives one measurement even if lux changes
+	 * meanwhile.
+	 */
+	private void startReadTransaction() {
+		long sample = channels;
+		DataLatch latch = dataLatch.get();
+		latch.data0 = saturate((int) sample);
+		latch.data1 = saturate((int) (sample >>> 32));
+	}
+
+	private static int saturate(int count) {
+		return count > 0xffff ? 0xffff : count & 0xffff;
+	}
+
+	/**
+	 * As on the part, reading the low byte of a channel latches its high
+	 * byte: reading them in two transactions gives one measurement too.
+	 */
+	private static class DataLatch {
+		int data0;
+		int data1;
+		// high bytes latched by the last low byte read, -1 if none
+		int high0 = -1;
+		int high1 = -1;
+	}
+
 	IRegister controlRegister = new Register("CONTROL", (byte) 0) {
 
 		@Override
@@ -221,22 +299,22 @@ public class TSL256x implements I2CCompHwEmulation {
 	};
 	protected double integrationTimeMs;
 	protected double scale = 1;
-	protected BitSet timmingbs;
+	protected byte timming;
 
 	IRegister timmingRegister = new Register("TIMMING", (byte) 0x01) {
 		@Override
 		public byte read() {
-			return timmingbs.toByteArray()[0];
+			return timming;
 		}
 
 		@Override
 		public void write(byte value) {
-			timmingbs = BitSet.valueOf(new byte[] { value });
-			gain = (timmingbs.get(4)) ? Gain.HIGH : Gain.LOW;
+			timming = value;
+			gain = ((value & 0x10) != 0) ? Gain.HIGH : Gain.LOW;
 			integrationTimeMs = 0.0;
 			scale = 0.0;
-			if (!timmingbs.get(1)) {
-				if (!timmingbs.get(0)) {
+			if ((value & 0x02) == 0) {
+				if ((value & 0x01) == 0) {
 					integrationTimeMs = 13.7;
 					scale = 0.034;
 				} else {
@@ -244,13 +322,13 @@ public class TSL256x implements I2CCompHwEmulation {
 					scale = 0.252;
 				}
 			} else {
-				if (!timmingbs.get(0)) {
+				if ((value & 0x01) == 0) {
 					integrationTimeMs = 402;
 					scale = 1;
 				}
 			}
 			if (scale <= 0 && integrationTimeMs <= 0.0) {
-				if (timmingbs.get(3))
+				if ((value & 0x08) != 0)
 					startIntegration();
 				else
 					stopIntegration();
@@ -268,36 +346,34 @@ public class TSL256x implements I2CCompHwEmulation {
 	IRegister data0LowRegister = new RoRegister("DATA0LOW", (byte) 0x0C) {
 		@Override
 		public byte read() {
-			if (data0 > 0xffff)
-				return (byte) 0xff; // saturation
-			return (byte) (data0 & 0x00ff);
+			DataLatch latch = dataLatch.get();
+			latch.high0 = latch.data0 >> 8;
+			return (byte) (latch.data0 & 0x00ff);
 		}
 	};
 
 	IRegister data0HighRegister = new RoRegister("DATA0HIGH", (byte) 0x0D) {
 		@Override
 		public byte read() {
-			if (data0 > 0xffff)
-				return (byte) 0xff; // saturation
-			return (byte) ((data0 & 0xff00) >> 8);
+			DataLatch latch = dataLatch.get();
+			return (byte) (latch.high0 >= 0 ? latch.high0 : latch.data0 >> 8);
 		}
 	};
 
 	IRegister data1LowRegister = new RoRegister("DATA1LOW", (byte) 0x0E) {
 		@Override
 		public byte read() {
-			if (data1 > 0xffff)
-				return (byte) 0xff; // saturation
-			return (byte) (data1 & 0x00ff);
+			DataLatch latch = dataLatch.get();
+			latch.high1 = latch.data1 >> 8;
+			return (byte) (latch.data1 & 0x00ff);
 		}
 	};
 
 	IRegister data1HighRegister = new RoRegister("DATA1HIGH", (byte) 0x0F) {
 		@Override
 		public byte read() {
-			if (data1 > 0xffff)
-				return (byte) 0xff; // saturation
-			return (byte) ((data1 & 0xff00) >> 8);
+			DataLatch latch = dataLatch.get();
+			return (byte) (latch.high1 >= 0 ? latch.high1 : latch.data1 >> 8);
 		}
 	};
 
@@ -339,8 +415,9 @@ public class TSL256x implements I2CCompHwEmulation {
 		if (gain == Gain.HIGH)
 			chScale = chScale << 4;
 
-		data0 = (int) Math.round((channel0) / chScale * scale) & 0x0ffffffff;
-		data1 = (int) Math.round((channel1) / chScale * scale) & 0x0ffffffff;
+		int data0 = (int) Math.round((channel0) / chScale * scale) & 0x0ffffffff;
+		int data1 = (int) Math.round((channel1) / chScale * scale) & 0x0ffffffff;
+		channels = ((long) data1 << 32) | (data0 & 0xffffffffL);
 
 	}
 
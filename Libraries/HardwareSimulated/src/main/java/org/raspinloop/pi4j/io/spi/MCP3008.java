@@ -15,7 +15,9 @@
  ******************************************************************************/
 package org.raspinloop.pi4j.io.spi;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -111,14 +113,14 @@ public class MCP3008 implements SpiCompHwEmulation {
 
 	}
 
-	private void setVar(Integer ref, double value) {
+	private void setVar(int ref, double value) {
 		if (ref - baseref < ch.length)
 			ch[ref - baseref] = value;
 		else if  (ref - baseref == ch.length && properties.isUseVrefPin())
 			vref = value;
 	}
 
-	private double getVar(Integer ref) {
+	private double getVar(int ref) {
 		if (ref - baseref < ch.length)
 			return ch[ref - baseref];
 		else if (ref - baseref == ch.length && properties.isUseVrefPin())
@@ -133,7 +135,18 @@ public class MCP3008 implements SpiCompHwEmulation {
 		for (Integer ref : refs) {
 			result.add(getVar(ref));
 		}
-		return null;
+		return result;
+	}
+
+	@Override
+	public void getReal(int[] refs, int count, double[] values) {
+		for (int i = 0; i < count; i++)
+			values[i] = getVar(refs[i]);
+	}
+
+	@Override
+	public void collectChanges(BitSet changed) {
+		// only input variables
 	}
 
 	@Override
@@ -160,6 +173,13 @@ public class MCP3008 implements SpiCompHwEmulation {
 		return true;
 	}
 
+	@Override
+	public boolean setReal(int[] refs, int count, double[] values) {
+		for (int i = 0; i < count; i++)
+			setVar(refs[i], values[i]);
+		return true;
+	}
+
 	@Override
 	public boolean setInteger(Map<Integer, Integer> ref_values) {
 		return true;
@@ -175,30 +195,46 @@ public class MCP3008 implements SpiCompHwEmulation {
 		return false;
 	}
 
+	// each transfer is 3 bytes: start bit, mode and channel, don't care
 	@Override
 	public int spiDataRW(short[] buffer) {
-		byte[] bbuffer = new byte[buffer.length];
-		for (int i = 0; i < buffer.length; i++) {
-			bbuffer[i] = (byte) buffer[i];
-		}
-		int nbread = spiDataRW(bbuffer);
-		for (int i = 0; i < nbread; i++) {
-			buffer[i] = bbuffer[i];
-		}
-		return nbread;
+		if (buffer.length < 3 || ((byte) buffer[0] & 0b00000001) == 0)
+			return 0;
+		long value = convert((byte) buffer[1]);
+		buffer[0] = 0;
+		buffer[1] = (byte) ((value & 0x3ff) >> 8);
+		buffer[2] = (byte) (value & 0xff);
+		return buffer.length;
 	}
 
 	@Override
 	public int spiDataRW(byte[] buffer) {
-		if ((buffer[0] & 0b00000001) != 0) {
-			boolean single = (buffer[1] & 0b10000000) != 0;
-			int channel = (buffer[1] & 0b01110000) >> 4;
-			long value = getValue(single, channel);
-			buffer[0] = 0;
-			buffer[1] = (byte) ((value & 0x3ff) >> 8);
-			buffer[2] = (byte) (value & 0xff);
-			return buffer.length;
-		} else return 0;
+		if (buffer.length < 3 || (buffer[0] & 0b00000001) == 0)
+			return 0;
+		long value = convert(buffer[1]);
+		buffer[0] = 0;
+		buffer[1] = (byte) ((value & 0x3ff) >> 8);
+		buffer[2] = (byte) (value & 0xff);
+		return buffer.length;
+	}
+
+	@Override
+	public int spiDataRW(ByteBuffer buffer) {
+		// absolute access: works for direct buffers and leaves position alone
+		int start = buffer.position();
+		if (buffer.remaining() < 3 || (buffer.get(start) & 0b00000001) == 0)
+			return 0;
+		long value = convert(buffer.get(start + 1));
+		buffer.put(start, (byte) 0);
+		buffer.put(start + 1, (byte) ((value & 0x3ff) >> 8));
+		buffer.put(start + 2, (byte) (value & 0xff));
+		return buffer.remaining();
+	}
+
+	private long convert(byte modeAndChannel) {
+		boolean single = (modeAndChannel & 0b10000000) != 0;
+		int channel = (modeAndChannel & 0b01110000) >> 4;
+		return getValue(single, channel);
 	}
 
 	private long getValue(boolean single, int channel) {
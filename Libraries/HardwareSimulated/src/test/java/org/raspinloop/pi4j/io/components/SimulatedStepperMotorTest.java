@@ -64,7 +64,7 @@ public class SimulatedStepperMotorTest {
 		
 		List<Fmi2ScalarVariable> variables = dut.getModelVariables();
 		
-		assertEquals(2,variables.size() );
+		assertEquals(3,variables.size() );
 		
 		Fmi2ScalarVariable outputVar = variables.get(0);
 		
@@ -82,6 +82,13 @@ public class SimulatedStepperMotorTest {
 		assertEquals("continuous",inputVar.getVariability());		
 		
 		assertIsInputVariable(inputVar);
+		
+		Fmi2ScalarVariable speedVar = variables.get(2);
+		
+		assertIsRealVariable(speedVar);
+		assertEquals("simulatedStepperMotor speed",speedVar.getName() );
+		assertEquals("output",speedVar.getCausality() );
+		assertEquals(2,speedVar.getValueReference());
 	}
 
 	
@@ -112,37 +119,37 @@ public class SimulatedStepperMotorTest {
 		dut.setState(pi4jPins[1] , PinState.LOW);
 		dut.setState(pi4jPins[2] , PinState.LOW);
 		dut.setState(pi4jPins[3] , PinState.LOW);
-		dut.onRequestingSleep(2*1000*1000*1000); // simulate sleep of 2ms
+		SimulatedTime.sleep(2);
 		
 		dut.setState(pi4jPins[0] , PinState.HIGH);
 		dut.setState(pi4jPins[1] , PinState.LOW);
 		dut.setState(pi4jPins[2] , PinState.LOW);
 		dut.setState(pi4jPins[3] , PinState.LOW);
-		dut.onRequestingSleep(2*1000*1000*1000); // simulate sleep of 2ms		
+		SimulatedTime.sleep(2);		
 		
 		dut.setState(pi4jPins[0] , PinState.LOW);
 		dut.setState(pi4jPins[1] , PinState.HIGH);
 		dut.setState(pi4jPins[2] , PinState.LOW);
 		dut.setState(pi4jPins[3] , PinState.LOW);
-		dut.onRequestingSleep(2*1000*1000*1000); // simulate sleep of 2ms		
+		SimulatedTime.sleep(2);		
 
 		dut.setState(pi4jPins[0] , PinState.LOW);
 		dut.setState(pi4jPins[1] , PinState.LOW);
 		dut.setState(pi4jPins[2] , PinState.HIGH);
 		dut.setState(pi4jPins[3] , PinState.LOW);
-		dut.onRequestingSleep(2*1000*1000*1000); // simulate sleep of 2ms		
+		SimulatedTime.sleep(2);		
 
 		dut.setState(pi4jPins[0] , PinState.LOW);
 		dut.setState(pi4jPins[1] , PinState.LOW);
 		dut.setState(pi4jPins[2] , PinState.LOW);
 		dut.setState(pi4jPins[3] , PinState.HIGH);
-		dut.onRequestingSleep(2*1000*1000*1000); // simulate sleep of 2ms		
+		SimulatedTime.sleep(2);		
 		
 		dut.setState(pi4jPins[0] , PinState.HIGH);
 		dut.setState(pi4jPins[1] , PinState.LOW);
 		dut.setState(pi4jPins[2] , PinState.LOW);
 		dut.setState(pi4jPins[3] , PinState.LOW);
-		dut.onRequestingSleep(2*1000*1000*1000); // simulate sleep of 2ms
+		SimulatedTime.sleep(2);
 		
 		assertPosition(4*360.0/1024.0, dut);
 	}
@@ -248,6 +255,69 @@ public class SimulatedStepperMotorTest {
 		assertPosition(0.0, dut);
 	}
 	
+	@Test
+	public void testHighStepRate() throws Exception {
+		SimulatedStepperMotor dut = new SimulatedStepperMotor(getBuilderFor(buildProperty().setStepsPerRotation(200)));
+		
+		byte[] half_step_sequence = { 0b0001, 0b0011, 0b0010, 0b0110, 0b0100, 0b1100, 0b1000, 0b1001 };
+		// 200 000 steps at 200 kHz simulated
+		long period = 5000;
+		int nbSteps = 200000;
+		long time = 0;
+		for (int i = 0; i <= nbSteps; i++) {
+			byte state = half_step_sequence[i % half_step_sequence.length];
+			for (int pinIndex = 0; pinIndex < pins.length; pinIndex++)
+				dut.setState(pi4jPins[pinIndex], (state & (1 << pinIndex)) != 0 ? PinState.HIGH : PinState.LOW, time);
+			time += period;
+		}
+		dut.advanceTo(time);
+		
+		double stepAngle = 360.0 / 200;
+		assertEquals("degree per second", stepAngle * 1e9 / period, dut.getSpeed(), 1e-6);
+		assertEquals(0.0, dut.getAcceleration(), 1e-6);
+		assertEquals(0, dut.getLostSteps());
+		assertEquals(nbSteps * stepAngle, dut.getReal(Arrays.asList(0)).get(0), 1e-3);
+	}
+	
+	@Test
+	public void testLostSteps() throws Exception {
+		SimulatedStepperMotorProperties properties = buildProperty().setStepsPerRotation(1024);
+		properties.setMaximumSlewFrequency(100);
+		SimulatedStepperMotor dut = new SimulatedStepperMotor(getBuilderFor(properties));
+		
+		byte[] single_step_sequence = { 0b0001, 0b0010, 0b0100, 0b1000 };
+		long time = 0;
+		for (int i = 0; i <= 4; i++) {
+			for (int pinIndex = 0; pinIndex < pins.length; pinIndex++)
+				dut.setState(pi4jPins[pinIndex], (single_step_sequence[i % 4] & (1 << pinIndex)) != 0 ? PinState.HIGH : PinState.LOW, time);
+			// 1 kHz, faster than the motor can follow
+			time += 1000000;
+		}
+		dut.advanceTo(time);
+		
+		// first step has no rate yet: only it moves the shaft
+		assertPosition(360.0 / 1024.0, dut);
+		assertEquals(3, dut.getLostSteps());
+	}
+	
+	@Test
+	public void testSkippedStep() throws Exception {
+		SimulatedStepperMotor dut = new SimulatedStepperMotor(getBuilderFor(buildProperty().setStepsPerRotation(1024)));
+		
+		// 0b0001 -> 0b0100 skips a state, then 0b0100 -> 0b1000 is a forward step
+		byte[] states = { 0b0001, 0b0100, 0b1000 };
+		long time = 0;
+		for (byte state : states) {
+			for (int pinIndex = 0; pinIndex < pins.length; pinIndex++)
+				dut.setState(pi4jPins[pinIndex], (state & (1 << pinIndex)) != 0 ? PinState.HIGH : PinState.LOW, time);
+			time += 10000000;
+		}
+		dut.advanceTo(time);
+		
+		assertPosition(360.0 / 1024.0, dut);
+		assertEquals(1, dut.getLostSteps());
+	}
+	
 	private void assertPosition(double pos, SimulatedStepperMotor dut) {
 		List<Double> values = dut.getReal(Arrays.asList(0));
 		assertEquals((Double)pos,values.get(0)); // position
@@ -15,6 +15,7 @@
  ******************************************************************************/
 package org.raspinloop.pi4j.io.gpio;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -22,6 +23,9 @@ import static org.raspinloop.fmi.testtools.AssertFMI.assertIsBooleanVariable;
 import static org.raspinloop.fmi.testtools.AssertFMI.assertIsInputVariable;
 import static org.raspinloop.fmi.testtools.AssertFMI.assertIsOutputVariable;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
@@ -35,6 +39,8 @@ import org.raspinloop.fmi.testtools.FMU;
 import org.raspinloop.hwemulation.GpioProvider;
 import org.raspinloop.hwemulation.PinDigitalStateChangeEvent;
 import org.raspinloop.hwemulation.PinListener;
+import org.raspinloop.pi4j.io.components.SimulatedStepperMotorProperties;
+import org.raspinloop.timeemulation.SimulatedTime;
 
 public class RaspiGpioSimulatorTest {
 
@@ -126,13 +132,169 @@ public class RaspiGpioSimulatorTest {
 		PinListener listener = Mockito.mock(PinListener.class);
 		usedByCode.addListener(RaspiPin.GPIO_02, listener);		
 		
+		// events are delivered on the dispatcher thread
 		FMU.setVariable(usedBySimulator, "GPIO 2", true);
-		Mockito.verify(listener).handlePinEvent(Mockito.argThat(ev -> ((PinDigitalStateChangeEvent)ev).getState() == PinState.HIGH ));
+		Mockito.verify(listener, Mockito.timeout(1000)).handlePinEvent(Mockito.argThat(ev -> ((PinDigitalStateChangeEvent)ev).getState() == PinState.HIGH ));
 		
 		FMU.setVariable(usedBySimulator, "GPIO 2", false);
-		Mockito.verify(listener).handlePinEvent(Mockito.argThat(ev -> ((PinDigitalStateChangeEvent)ev).getState() == PinState.LOW ));
+		Mockito.verify(listener, Mockito.timeout(1000)).handlePinEvent(Mockito.argThat(ev -> ((PinDigitalStateChangeEvent)ev).getState() == PinState.LOW ));
+		
+		dut.getPinEventDispatcher().awaitDelivered();
+		assertEquals(2, dut.getPinEventDispatcher().getDeliveredCount());
+		dut.shutdown();
 	
 		
 	}
 	
+	@Test
+	public void changedOutputsTest() throws AlreadyUsedPin {
+		RaspiGpioSimulator dut = new RaspiGpioSimulator(Builder.getBuilderFor(buildProperty()));
+		
+		// every output is reported once at start
+		BitSet changed = new BitSet();
+		dut.collectChanges(changed);
+		assertEquals(2, changed.cardinality());
+		assertTrue(changed.get(RaspiPin.GPIO_01.getAddress()));
+		assertTrue(changed.get(RaspiPin.GPIO_03.getAddress()));
+		
+		changed.clear();
+		dut.collectChanges(changed);
+		assertTrue("nothing changed", changed.isEmpty());
+		
+		dut.setState(RaspiPin.GPIO_03, PinState.HIGH);
+		dut.setState(RaspiPin.GPIO_01, PinState.LOW); // unchanged
+		dut.collectChanges(changed);
+		assertEquals(1, changed.cardinality());
+		assertTrue(changed.get(RaspiPin.GPIO_03.getAddress()));
+	}
+
+	@Test
+	public void edgeJournalTest() throws AlreadyUsedPin {
+		RaspiGpioSimulator dut = new RaspiGpioSimulator(Builder.getBuilderFor(buildProperty().setEdgeJournalCapacity(4)));
+		int ref = RaspiPin.GPIO_01.getAddress();
+		long[] times = new long[8];
+		boolean[] states = new boolean[8];
+		
+		dut.setState(RaspiPin.GPIO_01, PinState.HIGH);
+		dut.setState(RaspiPin.GPIO_01, PinState.HIGH); // not a transition
+		dut.setState(RaspiPin.GPIO_01, PinState.LOW);
+		assertEquals(2, dut.drainTransitions(ref, times, states));
+		assertTrue(states[0]);
+		assertFalse(states[1]);
+		assertTrue(times[0] <= times[1]);
+		assertEquals("drained", 0, dut.drainTransitions(ref, times, states));
+		
+		// only the last 4 transitions are kept
+		for (int i = 0; i < 6; i++)
+			dut.setState(RaspiPin.GPIO_01, i % 2 == 0 ? PinState.HIGH : PinState.LOW);
+		assertEquals(4, dut.drainTransitions(ref, times, states));
+		assertTrue(states[0]);
+		assertFalse(states[3]);
+		
+		assertEquals("input pins are not journaled", 0, dut.drainTransitions(RaspiGpioSimulator.getInputReference(RaspiPin.GPIO_02), times, states));
+	}
+
+	@Test
+	public void pwmCaptureTest() throws AlreadyUsedPin {
+		RaspiGpioSimulator dut = new RaspiGpioSimulator(Builder.getBuilderFor(buildProperty().setPwmCapture(true)));
+		
+		// 3 pin variables, then duty cycle and frequency of each output
+		List<Fmi2ScalarVariable> variables = dut.getModelVariables();
+		assertEquals(7, variables.size());
+		Fmi2ScalarVariable duty = variables.get(3);
+		assertEquals("GPIO 1 duty cycle", duty.getName());
+		assertIsOutputVariable(duty);
+		assertTrue(duty.getReal() != null);
+		assertEquals("GPIO 3 frequency", variables.get(6).getName());
+		assertEquals(duty.getValueReference() + 3, variables.get(6).getValueReference());
+		
+		List<Double> values = dut.getReal(Arrays.asList((int) duty.getValueReference(), (int) duty.getValueReference() + 1));
+		assertEquals(Arrays.asList(0.0, 0.0), values);
+		
+		// 25% duty cycle at 1kHz during 10 ms
+		DutyCycleMeter meter = new DutyCycleMeter();
+		long period = 1000000L;
+		for (long t = 0; t < 10 * period; t += period) {
+			meter.record(true, t);
+			meter.record(false, t + period / 4);
+		}
+		assertTrue(meter.closeWindow(10 * period));
+		assertEquals(0.25, meter.getDutyCycle(), 1e-9);
+		assertEquals(1000.0, meter.getFrequency(), 1e-9);
+		
+		// pin stays low during next step
+		assertTrue(meter.closeWindow(20 * period));
+		assertEquals(0.0, meter.getDutyCycle(), 1e-9);
+		assertFalse(meter.closeWindow(30 * period));
+	}
+
+	@Test
+	public void pwmCaptureStepTest() throws AlreadyUsedPin {
+		RaspiGpioSimulator dut = new RaspiGpioSimulator(Builder.getBuilderFor(buildProperty().setPwmCapture(true)));
+		// far from the clocks other tests may have left on this thread
+		SimulatedTime.INST.setup(1000.0);
+		dut.enterInitialize();
+		dut.exitInitialize();
+		dut.reset();
+		int dutyRef = (int) dut.getModelVariables().get(3).getValueReference();
+		List<Integer> refs = Arrays.asList(dutyRef, dutyRef + 1);
+		BitSet changed = new BitSet();
+		try {
+			// high during the whole first step
+			dut.setState(RaspiPin.GPIO_01, PinState.HIGH);
+			SimulatedTime.INST.doStep(0.01);
+			dut.collectChanges(changed);
+			assertTrue(changed.get(dutyRef));
+			assertEquals(Arrays.asList(1.0, 100.0), dut.getReal(refs));
+			assertEquals("reads do not close the window", Arrays.asList(1.0, 100.0), dut.getReal(refs));
+			
+			// low during the second step
+			dut.setState(RaspiPin.GPIO_01, PinState.LOW);
+			assertEquals("measure of the first step until next step", Arrays.asList(1.0, 100.0), dut.getReal(refs));
+			SimulatedTime.INST.doStep(0.01);
+			assertEquals(Arrays.asList(0.0, 0.0), dut.getReal(refs));
+		} finally {
+			dut.terminate();
+		}
+	}
+	
+	@Test
+	public void componentRoutingTest() throws AlreadyUsedPin {
+		RaspiGpioSimulatorProperties prop = buildProperty();
+		SimulatedStepperMotorProperties motor = new SimulatedStepperMotorProperties();
+		motor.setPins(Arrays.asList(RaspiPin.GPIO_04, RaspiPin.GPIO_05, RaspiPin.GPIO_06, RaspiPin.GPIO_07));
+		prop.addComponent(motor);
+		RaspiGpioSimulator dut = new RaspiGpioSimulator(Builder.getBuilderFor(prop));
+		dut.enterInitialize();
+		dut.exitInitialize();
+		
+		// refs are looked up here rather than through FMU which caches them by name
+		int positionRef = -1;
+		int torqueRef = -1;
+		for (Fmi2ScalarVariable variable : dut.getModelVariables()) {
+			if (variable.getName().equals("simulatedStepperMotor position"))
+				positionRef = (int) variable.getValueReference();
+			if (variable.getName().equals("simulatedStepperMotor torque"))
+				torqueRef = (int) variable.getValueReference();
+		}
+		assertTrue("component refs are above the pin range", positionRef >= RaspiPin.GPIO_20.getAddress() + 20);
+		
+		assertTrue(dut.setReal(Collections.singletonMap(torqueRef, 1.5)));
+		assertEquals(Arrays.asList(0.0, 1.5, 0.0), dut.getReal(Arrays.asList(positionRef, torqueRef, 10000)));
+		
+		double[] values = new double[4];
+		assertTrue(dut.setReal(new int[] { torqueRef }, 1, new double[] { 2.5 }));
+		dut.getReal(new int[] { 10000, torqueRef, positionRef }, 3, values);
+		assertArrayEquals(new double[] { 0.0, 2.5, 0.0, 0.0 }, values, 0.0);
+		
+		FMU.setVariable(dut, "GPIO 2", true);
+		assertEquals(PinState.HIGH, dut.getState(RaspiPin.GPIO_02));
+		
+		// pin writes are dispatched to the component using the pin
+		dut.setState(RaspiPin.GPIO_04, PinState.HIGH);
+		assertEquals(PinState.HIGH, dut.getState(RaspiPin.GPIO_04));
+		dut.setState(RaspiPin.GPIO_04, PinState.LOW);
+		assertEquals(PinState.LOW, dut.getState(RaspiPin.GPIO_04));
+	}
+	
 }
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.pi4j.io.i2c;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.raspinloop.fmi.testtools.Builder.getBuilderFor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.raspinloop.fmi.testtools.FMU;
+import org.raspinloop.fmi.testtools.RaspInLoopHardwareTestRunner;
+import org.raspinloop.hwemulation.I2CBus;
+import org.raspinloop.hwemulation.I2CDevice;
+import org.raspinloop.hwemulation.I2CEmulation;
+
+@RunWith(RaspInLoopHardwareTestRunner.class)
+public class I2CBusConcurrencyTest {
+
+	private static final long RUN_DURATION_MS = 200;
+
+	private static final double[] LUX = { 658.71, 10.0 };
+
+	/**
+	 * Application threads poll DATA0 and DATA1 in one block read (lock-free,
+	 * read-only registers) while one of them keeps writing CONTROL (device
+	 * lock) and the simulation alternates between two lux values. Every read
+	 * must give one of the two measurements, never a mix of them.
+	 */
+	@Test
+	public void testConcurrentPolling() throws Exception {
+		TSL256xProperties props = new TSL256xProperties();
+		props.setIrBroadbandRatio(0.119);
+		TSL256x cut = new TSL256x(getBuilderFor(props));
+		assertTrue(cut.enterInitialize());
+		FMU.setVariable(cut, "TLS2560 lux", 658.71);
+
+		I2CBus bus = I2CEmulation.getInstance(new Object[] { (int) props.getBusId() });
+		I2CDevice device = bus.getDevice(cut.getAddress());
+
+		// DATA0 | DATA1 << 16 of each lux value
+		int[] expected = new int[LUX.length];
+		byte[] buffer = new byte[4];
+		for (int i = 0; i < LUX.length; i++) {
+			FMU.setVariable(cut, "TLS2560 lux", LUX[i]);
+			assertEquals(4, device.read(TSL256xTest.TSL2561_REG_DATA_0, buffer, 0, 4));
+			expected[i] = toInt(buffer);
+		}
+		assertNotEquals(expected[0], expected[1]);
+
+		for (int nbThreads : new int[] { 8, 16, 32 })
+			assertTrue(poll(cut, device, nbThreads, expected) > 0);
+	}
+
+	private static int toInt(byte[] buffer) {
+		return (buffer[0] & 0xFF) | ((buffer[1] & 0xFF) << 8) | ((buffer[2] & 0xFF) << 16) | ((buffer[3] & 0xFF) << 24);
+	}
+
+	private long poll(TSL256x cut, I2CDevice device, int nbThreads, int[] expected) throws InterruptedException {
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong ops = new AtomicLong();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch started = new CountDownLatch(nbThreads);
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < nbThreads; i++) {
+			boolean writer = i == 0;
+			Thread thread = new Thread(() -> {
+				byte[] buffer = new byte[4];
+				long count = 0;
+				started.countDown();
+				try {
+					while (running.get()) {
+						if (writer) {
+							device.write(TSL256xTest.TSL2561_REG_CONTROL, TSL256xTest.TSL2561_POWER_UP);
+							FMU.setVariable(cut, "TLS2560 lux", LUX[(int) (count % LUX.length)]);
+						} else {
+							assertEquals(4, device.read(TSL256xTest.TSL2561_REG_DATA_0, buffer, 0, 4));
+							int value = toInt(buffer);
+							if (value != expected[0] && value != expected[1])
+								throw new AssertionError(String.format("DATA0/DATA1 %08x is neither %08x nor %08x", value, expected[0], expected[1]));
+						}
+						count++;
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+				ops.addAndGet(count);
+			}, "i2c-poller-" + i);
+			threads.add(thread);
+			thread.start();
+		}
+		started.await();
+		Thread.sleep(RUN_DURATION_MS);
+		running.set(false);
+		for (Thread thread : threads)
+			thread.join();
+		if (failure.get() != null)
+			throw new AssertionError("failure with " + nbThreads + " threads", failure.get());
+		return ops.get();
+	}
+}
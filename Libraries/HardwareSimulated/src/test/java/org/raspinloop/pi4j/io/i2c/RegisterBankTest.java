@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.pi4j.io.i2c;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class RegisterBankTest {
+
+	private static class ValueRegister extends Register {
+		private byte value;
+
+		ValueRegister(String name, int address, int value) {
+			super(name, (byte) address);
+			this.value = (byte) value;
+		}
+
+		@Override
+		public byte read() {
+			return value;
+		}
+
+		@Override
+		public void write(byte value) {
+			this.value = value;
+		}
+	}
+
+	@Test
+	public void testBlockRead() {
+		RegisterBank rb = new RegisterBank().add(new ValueRegister("LOW", 0xFE, 1)).add(new ValueRegister("HIGH", 0xFF, 2))
+				.add(new ValueRegister("FIRST", 0x00, 3));
+
+		byte[] buffer = new byte[5];
+		rb.read((byte) 0xFE, buffer, 1, 4);
+		// wraps after the last register, missing registers read as 0
+		assertArrayEquals(new byte[] { 0, 1, 2, 3, 0 }, buffer);
+		assertEquals(2, rb.read((byte) 0xFF));
+		assertEquals(0, rb.read((byte) 0x10));
+	}
+
+	@Test
+	public void testBlockWrite() {
+		RegisterBank rb = new RegisterBank().add(new ValueRegister("A", 0x0C, 0)).add(new ValueRegister("B", 0x0D, 0));
+		rb.write((byte) 0x0C, new byte[] { 9, 5, 6, 7 }, 1, 3);
+		assertEquals(5, rb.read((byte) 0x0C));
+		assertEquals(6, rb.read((byte) 0x0D));
+	}
+
+	@Test
+	public void testWithoutAutoIncrement() {
+		ValueRegister fifo = new ValueRegister("FIFO", 0x20, 0);
+		RegisterBank rb = new RegisterBank(false).add(fifo).add(new ValueRegister("NEXT", 0x21, 42));
+
+		rb.write((byte) 0x20, new byte[] { 1, 2, 3 }, 0, 3);
+		assertEquals("last byte written wins", 3, fifo.read());
+		byte[] buffer = new byte[3];
+		rb.read((byte) 0x20, buffer, 0, 3);
+		assertArrayEquals(new byte[] { 3, 3, 3 }, buffer);
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.pi4j.io.i2c;
+
+import static org.junit.Assert.assertEquals;
+import static org.raspinloop.fmi.testtools.Builder.getBuilderFor;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.raspinloop.fmi.testtools.FMU;
+import org.raspinloop.fmi.testtools.RaspInLoopHardwareTestRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * TSL256x DATA0/DATA1 reads: one 4 byte block read into a caller buffer
+ * against two 2 byte reads returning new arrays, as done before the
+ * register bank had a block path. Both are run in alternate rounds, the
+ * best round of each is kept.
+ * 
+ * Not part of the unit tests, run with:
+ * mvn test -pl Libraries/HardwareSimulated -am -Dtest=TSL256xBenchmark -DfailIfNoTests=false
+ */
+@RunWith(RaspInLoopHardwareTestRunner.class)
+public class TSL256xBenchmark {
+
+	final static Logger logger = LoggerFactory.getLogger(TSL256xBenchmark.class);
+
+	private static final byte TSL2561_REG_DATA_0 = (byte) 0x8C;
+	private static final byte TSL2561_REG_DATA_1 = (byte) 0x8E;
+	private static final int ROUNDS = 10;
+	private static final int READS = 2000000;
+
+	@Test
+	public void compareReads() {
+		TSL256xProperties props = new TSL256xProperties();
+		props.setIrBroadbandRatio(0.119);
+		TSL256x cut = new TSL256x(getBuilderFor(props));
+		cut.enterInitialize();
+		FMU.setVariable(cut, "TLS2560 lux", 658.71);
+		byte[] buffer = new byte[4];
+
+		long block = Long.MAX_VALUE;
+		long separate = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			block = Math.min(block, blockReads(cut, buffer, READS));
+			separate = Math.min(separate, separateReads(cut, READS));
+		}
+		logger.info(String.format("DATA0/DATA1: %.0f ops/s with block reads, %.0f ops/s with separate reads", 
+				READS * 1e9 / block, READS * 1e9 / separate));
+	}
+
+	private static long blockReads(TSL256x cut, byte[] buffer, int reads) {
+		long sum = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < reads; i++) {
+			cut.read(TSL2561_REG_DATA_0, buffer, 0, 4);
+			sum += (buffer[0] & 0x0ff) + (buffer[2] & 0x0ff);
+		}
+		long elapsed = System.nanoTime() - start;
+		assertEquals("DATA0 + DATA1 low bytes", (1516 & 0xff) + 180, sum / reads);
+		return elapsed;
+	}
+
+	private static long separateReads(TSL256x cut, int reads) {
+		long sum = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < reads; i++) {
+			sum += (cut.read(TSL2561_REG_DATA_0, 2)[0] & 0x0ff) + (cut.read(TSL2561_REG_DATA_1, 2)[0] & 0x0ff);
+		}
+		long elapsed = System.nanoTime() - start;
+		assertEquals("DATA0 + DATA1 low bytes", (1516 & 0xff) + 180, sum / reads);
+		return elapsed;
+	}
+}
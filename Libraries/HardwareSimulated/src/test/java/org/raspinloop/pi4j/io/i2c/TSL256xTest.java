@@ -16,6 +16,7 @@
 package org.raspinloop.pi4j.io.i2c;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.raspinloop.fmi.testtools.AssertFMI.assertIsInputVariable;
 import static org.raspinloop.fmi.testtools.AssertFMI.assertIsRealVariable;
 import static org.raspinloop.fmi.testtools.Builder.getBuilderFor;
@@ -102,6 +103,27 @@ public class TSL256xTest {
    
 	}
 	
+	@Test
+	public void testReadIntoBuffer() {
+		TSL256xProperties props = new TSL256xProperties();
+		props.setIrBroadbandRatio(0.119);
+		TSL256x cut = new TSL256x(getBuilderFor(props));
+		cut.enterInitialize();
+		FMU.setVariable(cut, "TLS2560 lux", 658.71);
+		
+		// DATA0 and DATA1 in one transaction, after a 1 byte header
+		byte[] buffer = new byte[5];
+		assertEquals(4, cut.read(TSL2561_REG_DATA_0, buffer, 1, 4));
+		int data0 = ((buffer[1]&0x0ff) + ((buffer[2]&0x0ff) <<8))& 0x0000ffff;
+		int data1 = ((buffer[3]&0x0ff) + ((buffer[4]&0x0ff) <<8))& 0x0000ffff;
+		assertEquals("TSL2561 DATA 0 ", 1516, data0 );
+		assertEquals("TSL2561 DATA 1 ", 180, data1);
+		assertEquals("header untouched", 0, buffer[0]);
+		
+		assertEquals("not a command", 0, cut.read(0x0C, buffer, 0, 2));
+		assertTrue(cut.write(new byte[] { 0, TSL2561_REG_CONTROL, TSL2561_POWER_UP }, 1, 1));
+	}
+	
 	@Test
 	public void testLux() {
 		TSL256xProperties props = new TSL256xProperties();
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.pi4j.io.spi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.raspinloop.fmi.testtools.Builder.getBuilderFor;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.raspinloop.hwemulation.SpiChannel;
+import org.raspinloop.hwemulation.SpiDevice;
+import org.raspinloop.hwemulation.SpiEmulation;
+
+public class MCP3008Test {
+
+	// start bit, single ended CH2, don't care
+	private static final byte[] READ_CH2 = { 0x01, (byte) 0b10100000, 0x00 };
+
+	private MCP3008 buildMCP3008() {
+		MCP3008 cut = new MCP3008(getBuilderFor(new MCP3008Properties()));
+		cut.enterInitialize();
+		// half of Vref (3.3V)
+		cut.setReal(new int[] { 2 }, 1, new double[] { 1.65 });
+		return cut;
+	}
+
+	@Test
+	public void testArrays() {
+		MCP3008 cut = buildMCP3008();
+
+		byte[] bytes = READ_CH2.clone();
+		assertEquals(3, cut.spiDataRW(bytes));
+		assertArrayEquals(new byte[] { 0, 2, 0 }, bytes);
+
+		short[] shorts = { READ_CH2[0], READ_CH2[1], READ_CH2[2] };
+		assertEquals(3, cut.spiDataRW(shorts));
+		assertArrayEquals(new short[] { 0, 2, 0 }, shorts);
+
+		assertEquals("no start bit", 0, cut.spiDataRW(new byte[] { 0, 0, 0 }));
+	}
+
+	@Test
+	public void testDirectBuffer() throws Exception {
+		buildMCP3008();
+		SpiDevice device = SpiEmulation.getInstance(SpiChannel.CS0);
+
+		// transfer after a 1 byte header
+		ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+		buffer.put((byte) 0x7F).put(READ_CH2).position(1);
+		// the same request twice: the source is not overwritten
+		for (int i = 0; i < 2; i++) {
+			ByteBuffer result = device.write(buffer);
+			assertNotSame(buffer, result);
+			assertTrue(result.isDirect());
+			assertEquals(0, result.position());
+			assertEquals(3, result.limit());
+			assertEquals(0, result.get(0));
+			assertEquals(2, result.get(1));
+			assertEquals(0, result.get(2));
+			assertEquals(1, buffer.position());
+			assertEquals(READ_CH2[0], buffer.get(1));
+		}
+
+		assertSame("exchanged in place", buffer, device.exchangeInPlace(buffer));
+		assertEquals(1, buffer.position());
+		assertEquals(0x7F, buffer.get(0));
+		assertEquals(0, buffer.get(1));
+		assertEquals(2, buffer.get(2));
+		assertEquals(0, buffer.get(3));
+	}
+}
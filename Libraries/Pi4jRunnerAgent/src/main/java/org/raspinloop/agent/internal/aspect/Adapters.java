@@ -366,12 +366,22 @@ public class Adapters {
 
 		@Override
 		public byte[] write(byte[] arg0, int arg1, int arg2) throws IOException {
-			return instance.write(arg0);
+			return instance.write(arg0, arg1, arg2);
 		}
 
 		@Override
 		public short[] write(short[] arg0, int arg1, int arg2) throws IOException {
-			return instance.write(arg0);
+			return instance.write(arg0, arg1, arg2);
+		}
+
+		/**
+		 * Not part of the Pi4J contract: write(ByteBuffer) returns a new buffer
+		 * on each transfer, this exchanges the bytes in data without allocating.
+		 * 
+		 * @return data, with position and limit unchanged
+		 */
+		public ByteBuffer exchangeInPlace(ByteBuffer data) throws IOException {
+			return instance.exchangeInPlace(data);
 		}
 	}
 
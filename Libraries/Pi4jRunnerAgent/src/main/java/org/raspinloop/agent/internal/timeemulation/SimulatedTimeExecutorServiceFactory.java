@@ -50,7 +50,6 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicLong;
 
 import com.pi4j.concurrent.ExecutorServiceFactory;
 import com.pi4j.concurrent.ScheduledExecutorServiceWrapper;
@@ -58,7 +57,6 @@ import com.pi4j.concurrent.ShutdownDisabledExecutorWrapper;
 
 public class SimulatedTimeExecutorServiceFactory implements ExecutorServiceFactory {
 
-    public static int MAX_THREADS_IN_POOL = 25;
     private static List<ExecutorService> singleThreadExecutorServices = new ArrayList<>();
 
     private static class ScheduledExecutorServiceHolder {
@@ -66,13 +64,18 @@ public class SimulatedTimeExecutorServiceFactory implements ExecutorServiceFacto
         
         static ScheduledExecutorService get(){
         	if (heldExecutor == null) {
-        		heldExecutor = new SimulatedTimeScheduledThreadPoolExecutor(MAX_THREADS_IN_POOL, getThreadFactory("pi4j-scheduled-executor-%d"));
+        		// tasks are fired by doStep: workers are only used while tasks run
+        		heldExecutor = new SimulatedTimeScheduler(getThreadFactory("pi4j-scheduled-executor-%d"));
         	}
         	return heldExecutor;
         }
         
         static void reset(){
-        	heldExecutor = null;
+        	if (heldExecutor != null) {
+        		// unregisters the scheduler from SimulatedTime and cancels its pending tasks
+        		heldExecutor.shutdown();
+        		heldExecutor = null;
+        	}
         }
     }
       
@@ -87,6 +90,7 @@ public class SimulatedTimeExecutorServiceFactory implements ExecutorServiceFacto
         private static ScheduledExecutorServiceWrapper heldWrapper = null;
 
 		public static void reinit() {
+			// the wrapper does not shut down its executor: the holder does
 			ScheduledExecutorServiceHolder.reset();
 			heldWrapper = null;
 		}
@@ -123,21 +127,10 @@ public class SimulatedTimeExecutorServiceFactory implements ExecutorServiceFacto
     
     /**
      * return an instance to the thread factory used to create new executor services
+     * (platform or virtual threads, see ExecutorThreadMode)
      */
     private static ThreadFactory getThreadFactory(final String nameFormat) {
-        final ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory();
-        return new ThreadFactory() {
-            final AtomicLong count = (nameFormat != null) ? new AtomicLong(0) : null;
-
-            @Override
-            public Thread newThread(Runnable runnable) {
-                Thread thread = defaultThreadFactory.newThread(runnable);
-                if (nameFormat != null) {
-                    thread.setName(String.format(nameFormat, count.getAndIncrement()));
-                }
-                return thread;
-            }
-        };
+        return ExecutorThreadMode.get().newThreadFactory(nameFormat);
     }
 
     /**
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.raspinloop.ipc.IpcSettings;
+
+/**
+ * Runner agent arguments: jsonFileName[,key=value]*
+ * 
+ * The file name ends at the first ",key=" so that it may contain commas.
+ */
+public class AgentArguments {
+
+	/**
+	 * real time (ms) doStep waits for application threads to be idle, 0 (default) to disable.
+	 * Applications busy polling without sleeping reach the timeout at each step: keep it low for them.
+	 */
+	public static final String QUIESCENCE_TIMEOUT = "quiescenceTimeout";
+	public static final long DEFAULT_QUIESCENCE_TIMEOUT = 0;
+
+	/** direct mode: port on which the runner serves the simulation tool itself (no FmiProxy hop), 0 for a free port */
+	public static final String FMI_PORT = "fmiPort";
+
+	/** transport used to serve the launcher: tcp (default) or shm (memory-mapped file) */
+	public static final String IPC_TRANSPORT = "ipcTransport";
+
+	/** port of the launcher to connect to (default 9091) */
+	public static final String LAUNCHER_PORT = "launcherPort";
+
+	/** threads running simulated time executors: platform (default) or virtual (JDK 21+) */
+	public static final String EXECUTOR_THREADS = "executorThreads";
+
+	private static final Pattern OPTION_SEPARATOR = Pattern.compile(",(?=\\s*[A-Za-z][A-Za-z0-9]*=)");
+
+	private final String jsonFileName;
+	private final Map<String, String> options = new HashMap<>();
+
+	private AgentArguments(String jsonFileName) {
+		this.jsonFileName = jsonFileName;
+	}
+
+	public static AgentArguments parse(String agentArgs) {
+		String[] parts = OPTION_SEPARATOR.split(agentArgs);
+		AgentArguments arguments = new AgentArguments(parts[0].trim());
+		for (int i = 1; i < parts.length; i++) {
+			String option = parts[i];
+			int eq = option.indexOf('=');
+			if (eq < 0)
+				arguments.options.put(option.trim(), "true");
+			else
+				arguments.options.put(option.substring(0, eq).trim(), option.substring(eq + 1).trim());
+		}
+		return arguments;
+	}
+
+	public String getJsonFileName() {
+		return jsonFileName;
+	}
+
+	public String getOption(String key, String defaultValue) {
+		String value = options.get(key);
+		return StringUtils.isBlank(value) ? defaultValue : value;
+	}
+
+	/**
+	 * 
+	 * @return protocol and framing given by the launcher (IpcSettings.PROTOCOL_OPTION, IpcSettings.FRAMED_OPTION)
+	 */
+	public IpcSettings getIpcSettings() {
+		return IpcSettings.fromOptions(getOption(IpcSettings.PROTOCOL_OPTION, null), getOption(IpcSettings.FRAMED_OPTION, null));
+	}
+
+	public long getLongOption(String key, long defaultValue) {
+		try {
+			return Long.parseLong(getOption(key, Long.toString(defaultValue)));
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+}
@@ -15,7 +15,10 @@
  ******************************************************************************/
 package org.raspinloop.agent;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +27,12 @@ import org.apache.thrift.TException;
 import org.raspinloop.agent.launcherRunnerIpc.RunnerService.Iface;
 import org.raspinloop.agent.launcherRunnerIpc.Status;
 import org.raspinloop.agent.launcherRunnerIpc.StatusKind;
+import org.raspinloop.fmi.Changes;
+import org.raspinloop.fmi.Edge;
+import org.raspinloop.fmi.HwEmulation;
+import org.raspinloop.fmi.StepRequest;
+import org.raspinloop.fmi.StepResponse;
+import org.raspinloop.fmi.modeldescription.Fmi2ScalarVariable;
 import org.raspinloop.hwemulation.HwEmulationFactory;
 import org.raspinloop.timeemulation.SimulatedTime;
 import org.slf4j.Logger;
@@ -40,11 +49,29 @@ public class CSHandler implements Iface {
 	private HwEmulationFactory hwEmulationFactory;
 
 	private List<ExperimentListener> experimentListenerList = new LinkedList<ExperimentListener>();
+
+	private static final byte REAL = 1;
+	private static final byte INTEGER = 2;
+	private static final byte BOOLEAN = 3;
+
+	// transitions drained per call to drainTransitions
+	private static final int EDGE_BATCH = 256;
+
+	// variable type indexed by ref, built on first getChanges
+	private byte[] variableKinds;
+
+	// changes collected but not answered yet: kept if reading values fails
+	private final BitSet pendingChanges = new BitSet();
+
+	// transitions drained but not answered yet, by ref: kept if a drain fails
+	private final Map<Integer, List<Edge>> pendingEdges = new HashMap<>();
 		
 
 	public void registerHardware(HwEmulationFactory hwEmulationFactory) {
 		this.hwEmulationFactory = hwEmulationFactory;
-
+		this.variableKinds = null;
+		pendingChanges.clear();
+		pendingEdges.clear();
 	}
 
 	public void addExperimentListener(
@@ -88,10 +115,19 @@ public class CSHandler implements Iface {
 		return Status.OK;
 	}
 
+	// Thrift gives boxed collections: they are unboxed once here and the
+	// hardware is accessed through its primitive methods.
+
 	@Override
 	public List<Double> getReal(List<Integer> refs) throws TException {
 		try {
-			return hwEmulationFactory.get().getReal(refs);
+			int[] primitiveRefs = toRefs(refs);
+			double[] values = new double[primitiveRefs.length];
+			hwEmulationFactory.get().getReal(primitiveRefs, primitiveRefs.length, values);
+			List<Double> result = new ArrayList<>(values.length);
+			for (double value : values)
+				result.add(value);
+			return result;
 		} catch (Exception e) {
 			return Collections.emptyList();
 		}
@@ -100,7 +136,13 @@ public class CSHandler implements Iface {
 	@Override
 	public List<Integer> getInteger(List<Integer> refs) throws TException {
 		try {
-			return hwEmulationFactory.get().getInteger(refs);
+			int[] primitiveRefs = toRefs(refs);
+			int[] values = new int[primitiveRefs.length];
+			hwEmulationFactory.get().getInteger(primitiveRefs, primitiveRefs.length, values);
+			List<Integer> result = new ArrayList<>(values.length);
+			for (int value : values)
+				result.add(value);
+			return result;
 		} catch (Exception e) {
 			return Collections.emptyList();
 		}
@@ -109,7 +151,13 @@ public class CSHandler implements Iface {
 	@Override
 	public List<Boolean> getBoolean(List<Integer> refs) throws TException {
 		try {
-			return hwEmulationFactory.get().getBoolean(refs);
+			int[] primitiveRefs = toRefs(refs);
+			boolean[] values = new boolean[primitiveRefs.length];
+			hwEmulationFactory.get().getBoolean(primitiveRefs, primitiveRefs.length, values);
+			List<Boolean> result = new ArrayList<>(values.length);
+			for (boolean value : values)
+				result.add(value);
+			return result;
 		} catch (Exception e) {
 			return Collections.emptyList();
 		}
@@ -117,22 +165,178 @@ public class CSHandler implements Iface {
 
 	@Override
 	public Status setReal(Map<Integer, Double> ref_values) throws TException {
-		return hwEmulationFactory.get().setReal(ref_values) ? Status.OK
+		int[] refs = new int[ref_values.size()];
+		double[] values = new double[refs.length];
+		int i = 0;
+		for (Map.Entry<Integer, Double> ref_value : ref_values.entrySet()) {
+			refs[i] = ref_value.getKey();
+			values[i++] = ref_value.getValue();
+		}
+		return hwEmulationFactory.get().setReal(refs, refs.length, values) ? Status.OK
 				: Status.Error;
 	}
 
 	@Override
 	public Status setInteger(Map<Integer, Integer> ref_values) throws TException {
-		return hwEmulationFactory.get().setInteger(ref_values) ? Status.OK
+		int[] refs = new int[ref_values.size()];
+		int[] values = new int[refs.length];
+		int i = 0;
+		for (Map.Entry<Integer, Integer> ref_value : ref_values.entrySet()) {
+			refs[i] = ref_value.getKey();
+			values[i++] = ref_value.getValue();
+		}
+		return hwEmulationFactory.get().setInteger(refs, refs.length, values) ? Status.OK
 				: Status.Error;
 	}
 
 	@Override
 	public Status setBoolean(Map<Integer, Boolean> ref_values) throws TException {
-		return hwEmulationFactory.get().setBoolean(ref_values) ? Status.OK
+		int[] refs = new int[ref_values.size()];
+		boolean[] values = new boolean[refs.length];
+		int i = 0;
+		for (Map.Entry<Integer, Boolean> ref_value : ref_values.entrySet()) {
+			refs[i] = ref_value.getKey();
+			values[i++] = Boolean.TRUE.equals(ref_value.getValue());
+		}
+		return hwEmulationFactory.get().setBoolean(refs, refs.length, values) ? Status.OK
 				: Status.Error;
 	}
 
+	private static int[] toRefs(List<Integer> refs) {
+		int[] result = new int[refs.size()];
+		int i = 0;
+		for (Integer ref : refs)
+			result[i++] = ref;
+		return result;
+	}
+
+	/**
+	 * Values of the outputs changed since the previous call, by type. On
+	 * failure no change is returned and the changes are answered by the next
+	 * call.
+	 */
+	@Override
+	public Changes getChanges() throws TException {
+		try {
+			HwEmulation hw = hwEmulationFactory.get();
+			BitSet changed = pendingChanges;
+			hw.collectChanges(changed);
+			Changes changes = new Changes(new HashMap<>(), new HashMap<>(), new HashMap<>());
+			if (changed.isEmpty())
+				return changes;
+
+			byte[] kinds = getVariableKinds(hw);
+			int nbChanged = changed.cardinality();
+			int[] realRefs = new int[nbChanged];
+			int[] integerRefs = new int[nbChanged];
+			int[] booleanRefs = new int[nbChanged];
+			int nbReal = 0, nbInteger = 0, nbBoolean = 0;
+			for (int ref = changed.nextSetBit(0); ref >= 0; ref = changed.nextSetBit(ref + 1)) {
+				switch (ref < kinds.length ? kinds[ref] : 0) {
+				case REAL:
+					realRefs[nbReal++] = ref;
+					break;
+				case INTEGER:
+					integerRefs[nbInteger++] = ref;
+					break;
+				case BOOLEAN:
+					booleanRefs[nbBoolean++] = ref;
+					break;
+				default:
+					logger.warn("changed ref:" + ref + " is not a model variable");
+				}
+			}
+			if (nbReal > 0) {
+				double[] values = new double[nbReal];
+				hw.getReal(realRefs, nbReal, values);
+				for (int i = 0; i < nbReal; i++)
+					changes.putToReals(realRefs[i], values[i]);
+			}
+			if (nbInteger > 0) {
+				int[] values = new int[nbInteger];
+				hw.getInteger(integerRefs, nbInteger, values);
+				for (int i = 0; i < nbInteger; i++)
+					changes.putToInts(integerRefs[i], values[i]);
+			}
+			if (nbBoolean > 0) {
+				boolean[] values = new boolean[nbBoolean];
+				hw.getBoolean(booleanRefs, nbBoolean, values);
+				for (int i = 0; i < nbBoolean; i++)
+					changes.putToBools(booleanRefs[i], values[i]);
+			}
+			pendingChanges.clear();
+			return changes;
+		} catch (Exception e) {
+			logger.error("Cannot collect changed outputs: " + e.getMessage());
+			return new Changes(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+		}
+	}
+
+	/**
+	 * Transitions of boolean outputs since the previous call, grouped by ref in
+	 * the order of refs, oldest first for each ref. On failure an empty list
+	 * is returned and the transitions already drained are answered by the
+	 * next call. <br>
+	 * Transitions are stamped with the clock of the application thread, which
+	 * runs ahead of the communication point when sleeps below the waiting
+	 * threshold are not waited for: times are clamped to the current
+	 * communication point, so no edge is reported in the future of the master.
+	 */
+	@Override
+	public List<Edge> getEdges(List<Integer> refs) throws TException {
+		try {
+			HwEmulation hw = hwEmulationFactory.get();
+			long[] timesNano = new long[EDGE_BATCH];
+			boolean[] states = new boolean[EDGE_BATCH];
+			long nowNano = SimulatedTime.INST.getCurrentTimeNano();
+			for (Integer ref : refs) {
+				List<Edge> refEdges = pendingEdges.get(ref);
+				if (refEdges == null)
+					pendingEdges.put(ref, refEdges = new ArrayList<>());
+				int count;
+				do {
+					count = hw.drainTransitions(ref, timesNano, states);
+					for (int i = 0; i < count; i++)
+						refEdges.add(new Edge(ref, Math.min(timesNano[i], nowNano) / 1e9, states[i]));
+				} while (count == EDGE_BATCH);
+			}
+			List<Edge> edges = new ArrayList<>();
+			for (Integer ref : refs) {
+				// a ref requested twice is answered at its first position
+				List<Edge> refEdges = pendingEdges.remove(ref);
+				if (refEdges != null)
+					edges.addAll(refEdges);
+			}
+			return edges;
+		} catch (Exception e) {
+			logger.error("Cannot collect output transitions: " + e.getMessage());
+			return Collections.emptyList();
+		}
+	}
+
+	private byte[] getVariableKinds(HwEmulation hw) {
+		if (variableKinds == null) {
+			List<Fmi2ScalarVariable> variables = hw.getModelVariables();
+			int maxRef = -1;
+			for (Fmi2ScalarVariable variable : variables)
+				maxRef = Math.max(maxRef, (int) variable.getValueReference());
+			byte[] kinds = new byte[maxRef + 1];
+			for (Fmi2ScalarVariable variable : variables) {
+				int ref = (int) variable.getValueReference();
+				if (ref < 0)
+					continue;
+				if (variable.getReal() != null)
+					kinds[ref] = REAL;
+				else if (variable.getInteger() != null)
+					kinds[ref] = INTEGER;
+				else if (variable.getBoolean() != null)
+					kinds[ref] = BOOLEAN;
+			}
+			variableKinds = kinds;
+		}
+		return variableKinds;
+	}
+
 	@Override
 	public Status cancelStep() throws TException {
 		logger.warn("cancelStep(NOT supported) was called ");
@@ -152,6 +356,39 @@ public class CSHandler implements Iface {
 		return Status.OK;
 	}
 
+	/**
+	 * setReal, setInteger, setBoolean, doStep, getReal, getInteger and
+	 * getBoolean in one call. The step is not done if an input is rejected:
+	 * the status of the failing call is returned without values.
+	 */
+	@Override
+	public StepResponse stepAndExchange(StepRequest request) throws TException {
+		Status status = Status.OK;
+		if (request.getRealsSize() > 0)
+			status = setReal(request.getReals());
+		if (status == Status.OK && request.getIntsSize() > 0)
+			status = setInteger(request.getInts());
+		if (status == Status.OK && request.getBoolsSize() > 0)
+			status = setBoolean(request.getBools());
+		if (status == Status.OK)
+			status = doStep(request.getCurrentCommunicationPoint(), request.getCommunicationStepSize(), request.isNoSetFMUStatePriorToCurrentPoint());
+		if (status != Status.OK)
+			return stepResponse(status);
+
+		List<Double> reals = request.getRealOutsSize() == 0 ? Collections.emptyList() : getReal(request.getRealOuts());
+		List<Integer> integers = request.getIntOutsSize() == 0 ? Collections.emptyList() : getInteger(request.getIntOuts());
+		List<Boolean> booleans = request.getBoolOutsSize() == 0 ? Collections.emptyList() : getBoolean(request.getBoolOuts());
+		if (reals.size() != request.getRealOutsSize() || integers.size() != request.getIntOutsSize() || booleans.size() != request.getBoolOutsSize())
+			return stepResponse(Status.Error);
+		return new StepResponse(org.raspinloop.fmi.Status.OK, reals, integers, booleans);
+	}
+
+	private static StepResponse stepResponse(Status status) {
+		// status values are the same in both services
+		return new StepResponse(org.raspinloop.fmi.Status.findByValue(status.getValue()), Collections.emptyList(), Collections.emptyList(),
+				Collections.emptyList());
+	}
+
 	@Override
 	public Status getStatus(StatusKind s) throws TException {
 		return Status.Discard;
@@ -162,6 +399,11 @@ public class CSHandler implements Iface {
 		if (s == StatusKind.LastSuccessfulTime) {
 			return SimulatedTime.INST.getCurrentTimeNano()/1000000000.0;
 		}
+		if (s == StatusKind.NextEventTime) {
+			// negative when no application thread waits for simulated time
+			long next = SimulatedTime.INST.getNextWakeupNano();
+			return next < 0 ? -1.0 : next/1000000000.0;
+		}
 		return 0;
 	}
 
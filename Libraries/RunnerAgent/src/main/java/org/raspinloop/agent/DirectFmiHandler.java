@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.thrift.TException;
+import org.raspinloop.fmi.Changes;
+import org.raspinloop.fmi.CoSimulation.Iface;
+import org.raspinloop.fmi.Edge;
+import org.raspinloop.fmi.Instance;
+import org.raspinloop.fmi.ModelState;
+import org.raspinloop.fmi.Status;
+import org.raspinloop.fmi.StatusKind;
+import org.raspinloop.fmi.StepRequest;
+import org.raspinloop.fmi.StepResponse;
+import org.raspinloop.fmi.Type;
+import org.raspinloop.fmi.modeldescription.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CoSimulation service hosted by the runner itself (direct mode): 
+ * FMI calls from ril_fmi are handled by the CSHandler without going through FmiProxy.
+ * 
+ */
+public class DirectFmiHandler implements Iface {
+
+	final static Logger logger = LoggerFactory.getLogger(DirectFmiHandler.class);
+
+	private final CSHandler handler;
+
+	private boolean terminated = false;
+
+	public DirectFmiHandler(CSHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public String getVersion() throws TException {
+		return Constants.version;
+	}
+
+	@Override
+	public String getTypesPlatform() throws TException {
+		return "default";
+	}
+
+	@Override
+	public Instance instanciate(String instanceName, Type fmuType, String fmuGUID, String fmuResourceLocation, boolean visible, boolean loggingOn)
+			throws TException {
+		logger.trace("DirectFmiHandler.instanciate called");
+		return new Instance(instanceName, 0, fmuGUID, ModelState.modelInstantiated);
+	}
+
+	@Override
+	public Status setupExperiment(Instance c, boolean toleranceDefined, double tolerance, double startTime, boolean stopTimeDefined, double stopTime)
+			throws TException {
+		return convertStatus(handler.setupExperiment(toleranceDefined, tolerance, startTime, stopTimeDefined, stopTime));
+	}
+
+	@Override
+	public Status enterInitializationMode(Instance c) throws TException {
+		return Status.OK;
+	}
+
+	@Override
+	public Status exitInitializationMode(Instance c) throws TException {
+		return Status.OK;
+	}
+
+	@Override
+	public Status terminate(Instance c) throws TException {
+		terminated = true;
+		return convertStatus(handler.terminate());
+	}
+
+	@Override
+	public Status reset(Instance c) throws TException {
+		return Status.Discard;
+	}
+
+	@Override
+	public void freeInstance(Instance c) throws TException {
+		logger.trace("DirectFmiHandler.freeInstance called");
+	}
+
+	@Override
+	public List<Double> getReal(Instance c, List<Integer> refs) throws TException {
+		return handler.getReal(refs);
+	}
+
+	@Override
+	public List<Integer> getInteger(Instance c, List<Integer> refs) throws TException {
+		return handler.getInteger(refs);
+	}
+
+	@Override
+	public List<Boolean> getBoolean(Instance c, List<Integer> refs) throws TException {
+		return handler.getBoolean(refs);
+	}
+
+	@Override
+	public Changes getChanges(Instance c) throws TException {
+		return handler.getChanges();
+	}
+
+	@Override
+	public List<Edge> getEdges(Instance c, List<Integer> refs) throws TException {
+		return handler.getEdges(refs);
+	}
+
+	@Override
+	public StepResponse stepAndExchange(Instance c, StepRequest request) throws TException {
+		return handler.stepAndExchange(request);
+	}
+
+	@Override
+	public List<String> getString(Instance c, List<Integer> refs) throws TException {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Status setReal(Instance c, Map<Integer, Double> ref_values) throws TException {
+		return convertStatus(handler.setReal(ref_values));
+	}
+
+	@Override
+	public Status setInteger(Instance c, Map<Integer, Integer> ref_values) throws TException {
+		return convertStatus(handler.setInteger(ref_values));
+	}
+
+	@Override
+	public Status setBoolean(Instance c, Map<Integer, Boolean> ref_values) throws TException {
+		return convertStatus(handler.setBoolean(ref_values));
+	}
+
+	@Override
+	public Status setString(Instance c, Map<Integer, String> ref_values) throws TException {
+		// not supported
+		return Status.Discard;
+	}
+
+	@Override
+	public Status setRealInputDerivatives(Instance c, Map<Integer, Integer> ref_orders, Map<Integer, Double> ref_values) throws TException {
+		// NOT supported canInterpolateInputs="fmi2False"
+		return Status.Error;
+	}
+
+	@Override
+	public Status setRealOutputDerivatives(Instance c, Map<Integer, Integer> ref_orders, Map<Integer, Double> ref_values) throws TException {
+		// This model cannot compute derivatives of outputs:
+		// MaxOutputDerivativeOrder="0"
+		return Status.Error;
+	}
+
+	@Override
+	public Status cancelStep(Instance c) throws TException {
+		// same answer as FmiProxy: always fmi2CancelStep is invalid, because
+		// model is never in modelStepInProgress state.
+		return Status.Error;
+	}
+
+	@Override
+	public Status doStep(Instance c, double currentCommunicationPoint, double communicationStepSize, boolean noSetFMUStatePriorToCurrentPoint)
+			throws TException {
+		return convertStatus(handler.doStep(currentCommunicationPoint, communicationStepSize, noSetFMUStatePriorToCurrentPoint));
+	}
+
+	@Override
+	public Status getStatus(Instance c, StatusKind s) throws TException {
+		return Status.Discard;
+	}
+
+	@Override
+	public int getIntegerStatus(Instance c, StatusKind s) throws TException {
+		return 0;
+	}
+
+	@Override
+	public double getRealStatus(Instance c, StatusKind s) throws TException {
+		if (s == StatusKind.LastSuccessfulTime)
+			return handler.getRealStatus(org.raspinloop.agent.launcherRunnerIpc.StatusKind.LastSuccessfulTime);
+		return 0.0;
+	}
+
+	@Override
+	public boolean getBooleanStatus(Instance c, StatusKind s) throws TException {
+		if (s == StatusKind.Terminated) {
+			return terminated;
+		}
+		return false;
+	}
+
+	@Override
+	public String getStringStatus(Instance c, StatusKind s) throws TException {
+		return "";
+	}
+
+	private Status convertStatus(org.raspinloop.agent.launcherRunnerIpc.Status status) {
+		switch (status) {
+		case OK:
+			return Status.OK;
+		case Discard:
+			return Status.Discard;
+		case Error:
+			return Status.Error;
+		case Fatal:
+			return Status.Fatal;
+		case Pending:
+			return Status.Pending;
+		case Warning:
+			return Status.Warning;
+		default:
+			return Status.Error;
+		}
+	}
+}
@@ -20,7 +20,10 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 
 import org.apache.commons.lang3.StringUtils;
+import org.raspinloop.agent.fmiIpc.FmiConnector;
+import org.raspinloop.agent.internal.timeemulation.ExecutorThreadMode;
 import org.raspinloop.agent.launcherRunnerIpc.IpcConnector;
+import org.raspinloop.timeemulation.SimulatedTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,14 +39,27 @@ public class PreMain {
 		}
 		logger.debug("org.raspinloop.agent.PreMain " + agentArgs);
 
-		String hdDescriptionJsonFilename = agentArgs;
+		AgentArguments arguments = AgentArguments.parse(agentArgs);
+		String hdDescriptionJsonFilename = arguments.getJsonFileName();
+		long quiescenceTimeout = arguments.getLongOption(AgentArguments.QUIESCENCE_TIMEOUT, AgentArguments.DEFAULT_QUIESCENCE_TIMEOUT);
+		SimulatedTime.INST.setQuiescenceTimeout(quiescenceTimeout);
+		if (quiescenceTimeout > 0) {
+			// premain runs on the application main thread
+			SimulatedTime.INST.trackThread(Thread.currentThread());
+		}
+		ExecutorThreadMode.set(ExecutorThreadMode.parse(arguments.getOption(AgentArguments.EXECUTOR_THREADS, "platform")));
 
 		try {
 			byte[] encoded = Files.readAllBytes(Paths.get(hdDescriptionJsonFilename));
 			String jsonConfig = new String(encoded, "UTF-8");
 
 			Handler handler = Handler.build(jsonConfig);
-			handler.start(new IpcConnector());
+			long fmiPort = arguments.getLongOption(AgentArguments.FMI_PORT, -1);
+			if (fmiPort >= 0)
+				handler.start(new FmiConnector((int) fmiPort, arguments.getIpcSettings()));
+			else
+				handler.start(new IpcConnector(arguments.getOption(AgentArguments.IPC_TRANSPORT, IpcConnector.TCP),
+						(int) arguments.getLongOption(AgentArguments.LAUNCHER_PORT, IpcConnector.LAUNCHER_SERVER_PORT), arguments.getIpcSettings()));
 			while (!handler.isReadyForMain()) {
 				Thread.sleep(10);
 			}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent.fmiIpc;
+
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.server.TSimpleServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.raspinloop.agent.DirectFmiHandler;
+import org.raspinloop.agent.Handler;
+import org.raspinloop.agent.HandlerRunner;
+import org.raspinloop.fmi.CoSimulation.Iface;
+import org.raspinloop.fmi.CoSimulation.Processor;
+import org.raspinloop.ipc.IpcSettings;
+import org.raspinloop.timeemulation.SimulatedTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Direct mode: the runner listens itself for the simulation tool (ril_fmi).
+ * FmiProxy is then only used to launch the application (no more proxified calls).
+ * 
+ */
+public class FmiConnector implements HandlerRunner {
+
+	final static Logger logger = LoggerFactory.getLogger(FmiConnector.class);
+
+	private final int port;
+
+	private final IpcSettings ipcSettings;
+
+	private Processor<Iface> processor;
+
+	/**
+	 * @param ipcSettings: protocol and framing expected by the simulation tool (ril_fmi: IpcSettings.DEFAULT)
+	 */
+	public FmiConnector(int port, IpcSettings ipcSettings) {
+		this.port = port;
+		this.ipcSettings = ipcSettings;
+	}
+
+	@Override
+	public void run() {
+		TServerSocket serverTransport;
+		try {
+			serverTransport = new TServerSocket(port);
+		} catch (TTransportException e) {
+			System.err.println("runner error:" + e.getMessage());
+			System.err.println("Is there any other FMI server listening on port " + port);
+			System.exit(1);
+			return;
+		}
+		TServer server = new TSimpleServer(new TSimpleServer.Args(serverTransport).processor(processor)
+				.protocolFactory(ipcSettings.protocolFactory()).transportFactory(ipcSettings.transportFactory()));
+		server.setServerEventHandler(new FmiServerEventHandler(server));
+		logger.info("runner waiting for simulation tool on port " + serverTransport.getServerSocket().getLocalPort());
+		server.serve();
+	}
+
+	@Override
+	public void setHandle(Handler handler) {
+		processor = new Processor<Iface>(new DirectFmiHandler(handler.getCsHandler()));
+	}
+
+	class FmiServerEventHandler implements TServerEventHandler {
+
+		private final TServer server;
+
+		public FmiServerEventHandler(TServer server) {
+			this.server = server;
+		}
+
+		@Override
+		public void preServe() {
+		}
+
+		@Override
+		public ServerContext createContext(TProtocol input, TProtocol output) {
+			return null;
+		}
+
+		@Override
+		public void deleteContext(ServerContext serverContext, TProtocol input, TProtocol output) {
+			// simulation tool disconnected: only one simulation per runner
+			server.stop();
+			SimulatedTime.INST.stop();
+		}
+
+		@Override
+		public void processContext(ServerContext serverContext, TTransport inputTransport, TTransport outputTransport) {
+		}
+	}
+}
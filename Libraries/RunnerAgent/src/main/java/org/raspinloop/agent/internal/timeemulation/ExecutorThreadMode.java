@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent.internal.timeemulation;
+
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.raspinloop.timeemulation.SimulatedTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Kind of threads created by the simulated time executors (scheduled tasks,
+ * GPIO events).
+ * 
+ * VIRTUAL requires a JDK providing virtual threads (21+): it is resolved at
+ * runtime so that the agent still runs on Java 8, where it falls back to
+ * PLATFORM.
+ */
+public enum ExecutorThreadMode {
+	PLATFORM, VIRTUAL;
+
+	final static Logger logger = LoggerFactory.getLogger(ExecutorThreadMode.class);
+
+	private static volatile ExecutorThreadMode current = PLATFORM;
+
+	public static ExecutorThreadMode get() {
+		return current;
+	}
+
+	public static void set(ExecutorThreadMode mode) {
+		if (mode == VIRTUAL && VirtualThreadFactoryHolder.factory == null) {
+			logger.warn("Virtual threads are not available on this JVM, executors use platform threads");
+			mode = PLATFORM;
+		}
+		current = mode;
+	}
+
+	/**
+	 * 
+	 * @return the mode named by value (case insensitive), PLATFORM if unknown
+	 */
+	public static ExecutorThreadMode parse(String value) {
+		try {
+			return valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException | NullPointerException e) {
+			return PLATFORM;
+		}
+	}
+
+	/**
+	 * 
+	 * @param nameFormat:
+	 *            thread name, %d is replaced by a sequence number
+	 */
+	public ThreadFactory newThreadFactory(final String nameFormat) {
+		final ThreadFactory delegate = this == VIRTUAL && VirtualThreadFactoryHolder.factory != null
+				? VirtualThreadFactoryHolder.factory : Executors.defaultThreadFactory();
+		final AtomicLong count = new AtomicLong(0);
+		return runnable -> {
+			Thread thread = delegate.newThread(runnable);
+			thread.setName(String.format(nameFormat, count.getAndIncrement()));
+			SimulatedTime.INST.trackThread(thread);
+			return thread;
+		};
+	}
+
+	// Thread.ofVirtual().factory(), looked up once
+	private static class VirtualThreadFactoryHolder {
+		static final ThreadFactory factory = lookup();
+
+		private static ThreadFactory lookup() {
+			try {
+				Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+				return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return null;
+			}
+		}
+	}
+}
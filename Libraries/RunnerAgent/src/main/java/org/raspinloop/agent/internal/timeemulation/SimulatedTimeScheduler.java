@@ -0,0 +1,357 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent.internal.timeemulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.raspinloop.timeemulation.SimulatedTime;
+import org.raspinloop.timeemulation.SimulatedTimeEventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Discrete-event ScheduledExecutorService: delayed and periodic tasks are
+ * queued by simulated deadline and handed to worker threads by
+ * SimulatedTime.doStep when their deadline is reached. No thread waits for
+ * simulated time. doStep returns once the due tasks are done or their
+ * worker waits (i.e. for simulated time), so that a task runs at the instant
+ * of its deadline. Tasks sharing a deadline are dispatched in submission
+ * order but run concurrently.
+ * 
+ * Shutdown cancels the tasks still waiting for their deadline.
+ */
+public class SimulatedTimeScheduler extends AbstractExecutorService implements ScheduledExecutorService, SimulatedTimeEventSource {
+
+	final static Logger logger = LoggerFactory.getLogger(SimulatedTimeScheduler.class);
+
+	// real time a step waits for a running task before going on without it
+	private static final long DISPATCH_TIMEOUT_NANO = TimeUnit.SECONDS.toNanos(1);
+
+	private final ExecutorService workers;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final PriorityQueue<ScheduledTask<?>> queue = new PriorityQueue<>();
+	// dispatch order of tasks sharing a deadline
+	private final AtomicLong sequencer = new AtomicLong();
+	// tasks handed to workers and not finished yet
+	private final Set<Dispatch> inFlight = ConcurrentHashMap.newKeySet();
+	private volatile boolean shutdown = false;
+
+	public SimulatedTimeScheduler(ThreadFactory threadFactory) {
+		this.workers = Executors.newCachedThreadPool(threadFactory);
+		SimulatedTime.INST.addEventSource(this);
+	}
+
+	@Override
+	public long getNextDeadlineNano() {
+		lock.lock();
+		try {
+			return queue.isEmpty() ? Long.MAX_VALUE : queue.peek().deadlineNano;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void fireDue(long timeNano) {
+		List<ScheduledTask<?>> due = new ArrayList<>();
+		lock.lock();
+		try {
+			while (!queue.isEmpty() && queue.peek().deadlineNano <= timeNano) {
+				due.add(queue.poll());
+			}
+		} finally {
+			lock.unlock();
+		}
+		for (ScheduledTask<?> task : due) {
+			dispatch(task);
+		}
+		awaitDispatched();
+	}
+
+	/**
+	 * Wait until every dispatched task is done or waits. Idle must be seen
+	 * twice in a row: a task may just have signalled another one.
+	 */
+	private void awaitDispatched() {
+		long deadline = System.nanoTime() + DISPATCH_TIMEOUT_NANO;
+		boolean idleOnce = false;
+		while (!shutdown) {
+			if (isDispatchIdle()) {
+				if (idleOnce)
+					return;
+				idleOnce = true;
+			} else
+				idleOnce = false;
+			if (System.nanoTime() - deadline >= 0) {
+				logger.warn("Scheduled tasks still running after " + TimeUnit.NANOSECONDS.toMillis(DISPATCH_TIMEOUT_NANO) + " ms, step goes on without them");
+				return;
+			}
+			LockSupport.parkNanos(10000);
+		}
+	}
+
+	private boolean isDispatchIdle() {
+		for (Dispatch dispatch : inFlight) {
+			Thread runner = dispatch.runner;
+			// not started yet, or running
+			if (runner == null || !SimulatedTime.isIdle(runner))
+				return false;
+		}
+		return true;
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+		return delayedExecute(new ScheduledTask<Void>(command, null, triggerTime(delay, unit), 0));
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+		return delayedExecute(new ScheduledTask<V>(callable, triggerTime(delay, unit)));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+		if (period <= 0)
+			throw new IllegalArgumentException();
+		return delayedExecute(new ScheduledTask<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+		if (delay <= 0)
+			throw new IllegalArgumentException();
+		return delayedExecute(new ScheduledTask<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		schedule(command, 0, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void shutdown() {
+		shutdown = true;
+		SimulatedTime.INST.removeEventSource(this);
+		for (ScheduledTask<?> task : drainQueue())
+			task.cancel(false);
+		workers.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		shutdown = true;
+		SimulatedTime.INST.removeEventSource(this);
+		List<Runnable> pending = new ArrayList<>(drainQueue());
+		for (Runnable notStarted : workers.shutdownNow()) {
+			inFlight.remove(notStarted);
+			pending.add(((Dispatch) notStarted).task);
+		}
+		return pending;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return shutdown && workers.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return workers.awaitTermination(timeout, unit);
+	}
+
+	/**
+	 * 
+	 * @return number of tasks waiting for their deadline
+	 */
+	public int getQueueSize() {
+		lock.lock();
+		try {
+			return queue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// deadlines are relative to the time seen by the scheduling thread
+	private long triggerTime(long delay, TimeUnit unit) {
+		return SimulatedTime.threadNanotime() + unit.toNanos(delay < 0 ? 0 : delay);
+	}
+
+	private <V> ScheduledTask<V> delayedExecute(ScheduledTask<V> task) {
+		if (shutdown)
+			throw new RejectedExecutionException("Simulated time scheduler is shut down");
+		enqueue(task);
+		return task;
+	}
+
+	/**
+	 * queue the task until doStep reaches its deadline, or dispatch it now if
+	 * already due. Time is checked under the queue lock: a step either finds
+	 * the task queued or has already advanced the time seen here.
+	 */
+	private void enqueue(ScheduledTask<?> task) {
+		lock.lock();
+		try {
+			if (task.deadlineNano > SimulatedTime.nanotime()) {
+				queue.add(task);
+				return;
+			}
+		} finally {
+			lock.unlock();
+		}
+		dispatch(task);
+	}
+
+	private void dispatch(ScheduledTask<?> task) {
+		Dispatch dispatch = new Dispatch(task);
+		inFlight.add(dispatch);
+		try {
+			workers.execute(dispatch);
+		} catch (RejectedExecutionException e) {
+			inFlight.remove(dispatch);
+			task.cancel(false);
+		}
+	}
+
+	/**
+	 * One run of a task by a worker. A periodic task dispatches its next run
+	 * before this one is removed from inFlight, so a step waiting for it
+	 * never sees a gap.
+	 */
+	private class Dispatch implements Runnable {
+		final ScheduledTask<?> task;
+		volatile Thread runner;
+
+		Dispatch(ScheduledTask<?> task) {
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+			runner = Thread.currentThread();
+			try {
+				task.run();
+			} finally {
+				inFlight.remove(this);
+			}
+		}
+	}
+
+	private List<ScheduledTask<?>> drainQueue() {
+		lock.lock();
+		try {
+			List<ScheduledTask<?>> pending = new ArrayList<>(queue);
+			queue.clear();
+			return pending;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean remove(ScheduledTask<?> task) {
+		lock.lock();
+		try {
+			return queue.remove(task);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private class ScheduledTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+		private final long sequenceNumber = sequencer.getAndIncrement();
+		private volatile long deadlineNano;
+		// 0: one shot, > 0: fixed rate, < 0: fixed delay
+		private final long period;
+
+		ScheduledTask(Runnable runnable, V result, long deadlineNano, long period) {
+			super(runnable, result);
+			this.deadlineNano = deadlineNano;
+			this.period = period;
+		}
+
+		ScheduledTask(Callable<V> callable, long deadlineNano) {
+			super(callable);
+			this.deadlineNano = deadlineNano;
+			this.period = 0;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(deadlineNano - SimulatedTime.nanotime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			if (other == this)
+				return 0;
+			if (other instanceof ScheduledTask) {
+				ScheduledTask<?> task = (ScheduledTask<?>) other;
+				int byDeadline = Long.compare(deadlineNano, task.deadlineNano);
+				return byDeadline != 0 ? byDeadline : Long.compare(sequenceNumber, task.sequenceNumber);
+			}
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+		@Override
+		public boolean isPeriodic() {
+			return period != 0;
+		}
+
+		@Override
+		public void run() {
+			if (!isPeriodic()) {
+				super.run();
+			} else if (runAndReset() && !shutdown) {
+				deadlineNano = period > 0 ? deadlineNano + period : SimulatedTime.threadNanotime() - period;
+				enqueue(this);
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if (cancelled)
+				remove(this);
+			return cancelled;
+		}
+	}
+}
@@ -16,8 +16,10 @@
 package org.raspinloop.agent.launcherRunnerIpc;
 
 
+import java.io.IOException;
+import java.nio.file.Files;
+
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.server.ServerContext;
 import org.apache.thrift.server.TServer;
@@ -33,6 +35,9 @@ import org.raspinloop.agent.HandlerRunner;
 import org.raspinloop.agent.launcherRunnerIpc.LauncherService.Client;
 import org.raspinloop.agent.launcherRunnerIpc.RunnerService.Iface;
 import org.raspinloop.agent.launcherRunnerIpc.RunnerService.Processor;
+import org.raspinloop.ipc.IpcSettings;
+import org.raspinloop.ipc.SharedMemoryServerTransport;
+import org.raspinloop.ipc.SharedMemoryTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,16 +45,18 @@ import org.slf4j.LoggerFactory;
  * Two way communication between launcher and runner. This is the runner part.
  * 
  * Runner must first connect its client socket to the launcher server. Then it
- * receives the port to listen for its server part.
+ * listens on a free port chosen by the system and sends it to the launcher (ReadyToStart).
  * 
  * @author Motte
  *
  */
 public class IpcConnector implements HandlerRunner {
 
-	private static final int RUNNER_SERVER_START_PORT = 9092;
+	public static final int LAUNCHER_SERVER_PORT = 9091;
+
+	public static final String TCP = "tcp";
 
-	private static final int LAUNCHER_SERVER_PORT = 9091;
+	public static final String SHARED_MEMORY = "shm";
 
 	final static Logger logger = LoggerFactory.getLogger(IpcConnector.class);
 
@@ -57,6 +64,12 @@ public class IpcConnector implements HandlerRunner {
 
 	private Client client;
 
+	private String transport = TCP;
+
+	private int launcherPort = LAUNCHER_SERVER_PORT;
+
+	private IpcSettings ipcSettings = IpcSettings.DEFAULT;
+
 	public IpcConnector(CSHandler handler) {
 		processor = new Processor<Iface>(handler);
 	}
@@ -64,40 +77,61 @@ public class IpcConnector implements HandlerRunner {
 	public IpcConnector() {
 	}
 
+	/**
+	 * @param transport: TCP or SHARED_MEMORY. With shared memory, the TCP port is still 
+	 * reserved: it identifies the ring file (see SharedMemoryTransport.fileFor) 
+	 * @param ipcSettings: protocol and framing, must match the launcher ones
+	 */
+	public IpcConnector(String transport, int launcherPort, IpcSettings ipcSettings) {
+		this.transport = transport;
+		this.launcherPort = launcherPort;
+		this.ipcSettings = ipcSettings;
+	}
+
 	@Override
 	public void run() {
 		try {
-			TSocket transport = new TSocket("localhost", LAUNCHER_SERVER_PORT, 1000, 500);
+			TSocket transport = new TSocket("localhost", launcherPort, 1000, 500);
 			transport.open();
-			TProtocol protocol = new TBinaryProtocol(transport);
+			TProtocol protocol = ipcSettings.clientProtocol(transport);
 			client = new Client(protocol);
 		} catch (Exception e) {
 			System.err.println("runner error:" + e.getMessage());
-			System.err.println("Is there any launcher listening on port "+LAUNCHER_SERVER_PORT);
+			System.err.println("Is there any launcher listening on port "+launcherPort);
 			System.exit(1);
 		}
 
-		// try to find an available port
-		int runnerServerPort = RUNNER_SERVER_START_PORT;
-		TServerTransport serverTransport = null;
-		int tryNb = 0;
-		while (serverTransport == null) {
-			try {
-				serverTransport = new TServerSocket(runnerServerPort);
-			} catch (Exception e) {
-				tryNb++;
-				runnerServerPort += tryNb;
-				if (tryNb > 20) {
-					logger.error("runner error:" + e.getMessage());
-					return;
-				}
-			}
+		// let the system choose a free port: no collision between simulations on one host
+		int runnerServerPort;
+		TServerTransport serverTransport;
+		try {
+			TServerSocket serverSocket = new TServerSocket(0);
+			runnerServerPort = serverSocket.getServerSocket().getLocalPort();
+			serverTransport = serverSocket;
+		} catch (Exception e) {
+			logger.error("runner error:" + e.getMessage());
+			return;
+		}
+		try {
+			// launcher chooses shared memory when the ring file exists: remove stale one
+			Files.deleteIfExists(SharedMemoryTransport.fileFor(runnerServerPort));
+		} catch (IOException e) {
+			logger.warn("cannot remove stale ring file: " + e.getMessage());
+		}
+		// with shared memory, the port stays bound while serving: it identifies the ring file
+		TServerTransport portReservation = null;
+		if (SHARED_MEMORY.equalsIgnoreCase(transport)) {
+			portReservation = serverTransport;
+			serverTransport = new SharedMemoryServerTransport(SharedMemoryTransport.fileFor(runnerServerPort));
 		}
-		TServer server = new TSimpleServer(new TSimpleServer.Args(serverTransport).processor(processor));
+		TServer server = new TSimpleServer(new TSimpleServer.Args(serverTransport).processor(processor)
+				.protocolFactory(ipcSettings.protocolFactory()).transportFactory(ipcSettings.transportFactory()));
 
 		server.setServerEventHandler(new IpcServerEventHandler(runnerServerPort));
 
 		server.serve();
+		if (portReservation != null)
+			portReservation.close();
 
 	}
 
@@ -23,7 +23,7 @@ package org.raspinloop.agent.launcherRunnerIpc;
 
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.10.0)", date = "2017-02-28")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.10.0)", date = "2026-10-17")
 public class RunnerService {
 
   public interface Iface {
@@ -32,8 +32,14 @@ public class RunnerService {
 
     public Status terminate() throws org.apache.thrift.TException;
 
+    public org.raspinloop.fmi.Changes getChanges() throws org.apache.thrift.TException;
+
     public java.util.List<java.lang.Double> getReal(java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException;
 
+    public java.util.List<org.raspinloop.fmi.Edge> getEdges(java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException;
+
+    public org.raspinloop.fmi.StepResponse stepAndExchange(org.raspinloop.fmi.StepRequest request) throws org.apache.thrift.TException;
+
     public java.util.List<java.lang.Integer> getInteger(java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException;
 
     public java.util.List<java.lang.Boolean> getBoolean(java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException;
@@ -62,8 +68,14 @@ public class RunnerService {
 
     public void terminate(org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException;
 
+    public void getChanges(org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.Changes> resultHandler) throws org.apache.thrift.TException;
+
     public void getReal(java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>> resultHandler) throws org.apache.thrift.TException;
 
+    public void getEdges(java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.raspinloop.fmi.Edge>> resultHandler) throws org.apache.thrift.TException;
+
+    public void stepAndExchange(org.raspinloop.fmi.StepRequest request, org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.StepResponse> resultHandler) throws org.apache.thrift.TException;
+
     public void getInteger(java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> resultHandler) throws org.apache.thrift.TException;
 
     public void getBoolean(java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> resultHandler) throws org.apache.thrift.TException;
@@ -155,6 +167,28 @@ public class RunnerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "terminate failed: unknown result");
     }
 
+    public org.raspinloop.fmi.Changes getChanges() throws org.apache.thrift.TException
+    {
+      send_getChanges();
+      return recv_getChanges();
+    }
+
+    public void send_getChanges() throws org.apache.thrift.TException
+    {
+      getChanges_args args = new getChanges_args();
+      sendBase("getChanges", args);
+    }
+
+    public org.raspinloop.fmi.Changes recv_getChanges() throws org.apache.thrift.TException
+    {
+      getChanges_result result = new getChanges_result();
+      receiveBase(result, "getChanges");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getChanges failed: unknown result");
+    }
+
     public java.util.List<java.lang.Double> getReal(java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException
     {
       send_getReal(refs);
@@ -178,6 +212,52 @@ public class RunnerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getReal failed: unknown result");
     }
 
+    public java.util.List<org.raspinloop.fmi.Edge> getEdges(java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException
+    {
+      send_getEdges(refs);
+      return recv_getEdges();
+    }
+
+    public void send_getEdges(java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException
+    {
+      getEdges_args args = new getEdges_args();
+      args.setRefs(refs);
+      sendBase("getEdges", args);
+    }
+
+    public java.util.List<org.raspinloop.fmi.Edge> recv_getEdges() throws org.apache.thrift.TException
+    {
+      getEdges_result result = new getEdges_result();
+      receiveBase(result, "getEdges");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getEdges failed: unknown result");
+    }
+
+    public org.raspinloop.fmi.StepResponse stepAndExchange(org.raspinloop.fmi.StepRequest request) throws org.apache.thrift.TException
+    {
+      send_stepAndExchange(request);
+      return recv_stepAndExchange();
+    }
+
+    public void send_stepAndExchange(org.raspinloop.fmi.StepRequest request) throws org.apache.thrift.TException
+    {
+      stepAndExchange_args args = new stepAndExchange_args();
+      args.setRequest(request);
+      sendBase("stepAndExchange", args);
+    }
+
+    public org.raspinloop.fmi.StepResponse recv_stepAndExchange() throws org.apache.thrift.TException
+    {
+      stepAndExchange_result result = new stepAndExchange_result();
+      receiveBase(result, "stepAndExchange");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "stepAndExchange failed: unknown result");
+    }
+
     public java.util.List<java.lang.Integer> getInteger(java.util.List<java.lang.Integer> refs) throws org.apache.thrift.TException
     {
       send_getInteger(refs);
@@ -500,6 +580,35 @@ public class RunnerService {
       }
     }
 
+    public void getChanges(org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.Changes> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getChanges_call method_call = new getChanges_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getChanges_call extends org.apache.thrift.async.TAsyncMethodCall<org.raspinloop.fmi.Changes> {
+      public getChanges_call(org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.Changes> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getChanges", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getChanges_args args = new getChanges_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public org.raspinloop.fmi.Changes getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getChanges();
+      }
+    }
+
     public void getReal(java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getReal_call method_call = new getReal_call(refs, resultHandler, this, ___protocolFactory, ___transport);
@@ -532,6 +641,70 @@ public class RunnerService {
       }
     }
 
+    public void getEdges(java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.raspinloop.fmi.Edge>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getEdges_call method_call = new getEdges_call(refs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getEdges_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<org.raspinloop.fmi.Edge>> {
+      private java.util.List<java.lang.Integer> refs;
+      public getEdges_call(java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.raspinloop.fmi.Edge>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.refs = refs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getEdges", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getEdges_args args = new getEdges_args();
+        args.setRefs(refs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<org.raspinloop.fmi.Edge> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getEdges();
+      }
+    }
+
+    public void stepAndExchange(org.raspinloop.fmi.StepRequest request, org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.StepResponse> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      stepAndExchange_call method_call = new stepAndExchange_call(request, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class stepAndExchange_call extends org.apache.thrift.async.TAsyncMethodCall<org.raspinloop.fmi.StepResponse> {
+      private org.raspinloop.fmi.StepRequest request;
+      public stepAndExchange_call(org.raspinloop.fmi.StepRequest request, org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.StepResponse> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.request = request;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("stepAndExchange", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        stepAndExchange_args args = new stepAndExchange_args();
+        args.setRequest(request);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public org.raspinloop.fmi.StepResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_stepAndExchange();
+      }
+    }
+
     public void getInteger(java.util.List<java.lang.Integer> refs, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getInteger_call method_call = new getInteger_call(refs, resultHandler, this, ___protocolFactory, ___transport);
@@ -870,7 +1043,10 @@ public class RunnerService {
     private static <I extends Iface> java.util.Map<java.lang.String,  org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("setupExperiment", new setupExperiment());
       processMap.put("terminate", new terminate());
+      processMap.put("getChanges", new getChanges());
       processMap.put("getReal", new getReal());
+      processMap.put("getEdges", new getEdges());
+      processMap.put("stepAndExchange", new stepAndExchange());
       processMap.put("getInteger", new getInteger());
       processMap.put("getBoolean", new getBoolean());
       processMap.put("setReal", new setReal());
@@ -924,6 +1100,26 @@ public class RunnerService {
       }
     }
 
+    public static class getChanges<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getChanges_args> {
+      public getChanges() {
+        super("getChanges");
+      }
+
+      public getChanges_args getEmptyArgsInstance() {
+        return new getChanges_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getChanges_result getResult(I iface, getChanges_args args) throws org.apache.thrift.TException {
+        getChanges_result result = new getChanges_result();
+        result.success = iface.getChanges();
+        return result;
+      }
+    }
+
     public static class getReal<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getReal_args> {
       public getReal() {
         super("getReal");
@@ -944,6 +1140,46 @@ public class RunnerService {
       }
     }
 
+    public static class getEdges<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getEdges_args> {
+      public getEdges() {
+        super("getEdges");
+      }
+
+      public getEdges_args getEmptyArgsInstance() {
+        return new getEdges_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getEdges_result getResult(I iface, getEdges_args args) throws org.apache.thrift.TException {
+        getEdges_result result = new getEdges_result();
+        result.success = iface.getEdges(args.refs);
+        return result;
+      }
+    }
+
+    public static class stepAndExchange<I extends Iface> extends org.apache.thrift.ProcessFunction<I, stepAndExchange_args> {
+      public stepAndExchange() {
+        super("stepAndExchange");
+      }
+
+      public stepAndExchange_args getEmptyArgsInstance() {
+        return new stepAndExchange_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public stepAndExchange_result getResult(I iface, stepAndExchange_args args) throws org.apache.thrift.TException {
+        stepAndExchange_result result = new stepAndExchange_result();
+        result.success = iface.stepAndExchange(args.request);
+        return result;
+      }
+    }
+
     public static class getInteger<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getInteger_args> {
       public getInteger() {
         super("getInteger");
@@ -1161,7 +1397,10 @@ public class RunnerService {
     private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("setupExperiment", new setupExperiment());
       processMap.put("terminate", new terminate());
+      processMap.put("getChanges", new getChanges());
       processMap.put("getReal", new getReal());
+      processMap.put("getEdges", new getEdges());
+      processMap.put("stepAndExchange", new stepAndExchange());
       processMap.put("getInteger", new getInteger());
       processMap.put("getBoolean", new getBoolean());
       processMap.put("setReal", new setReal());
@@ -1297,20 +1536,20 @@ public class RunnerService {
       }
     }
 
-    public static class getReal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getReal_args, java.util.List<java.lang.Double>> {
-      public getReal() {
-        super("getReal");
+    public static class getChanges<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getChanges_args, org.raspinloop.fmi.Changes> {
+      public getChanges() {
+        super("getChanges");
       }
 
-      public getReal_args getEmptyArgsInstance() {
-        return new getReal_args();
+      public getChanges_args getEmptyArgsInstance() {
+        return new getChanges_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.Changes> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>>() { 
-          public void onComplete(java.util.List<java.lang.Double> o) {
-            getReal_result result = new getReal_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.Changes>() { 
+          public void onComplete(org.raspinloop.fmi.Changes o) {
+            getChanges_result result = new getChanges_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1325,7 +1564,7 @@ public class RunnerService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getReal_result result = new getReal_result();
+            getChanges_result result = new getChanges_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -1353,25 +1592,25 @@ public class RunnerService {
         return false;
       }
 
-      public void start(I iface, getReal_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>> resultHandler) throws org.apache.thrift.TException {
-        iface.getReal(args.refs,resultHandler);
+      public void start(I iface, getChanges_args args, org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.Changes> resultHandler) throws org.apache.thrift.TException {
+        iface.getChanges(resultHandler);
       }
     }
 
-    public static class getInteger<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getInteger_args, java.util.List<java.lang.Integer>> {
-      public getInteger() {
-        super("getInteger");
+    public static class getReal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getReal_args, java.util.List<java.lang.Double>> {
+      public getReal() {
+        super("getReal");
       }
 
-      public getInteger_args getEmptyArgsInstance() {
-        return new getInteger_args();
+      public getReal_args getEmptyArgsInstance() {
+        return new getReal_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>>() { 
-          public void onComplete(java.util.List<java.lang.Integer> o) {
-            getInteger_result result = new getInteger_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>>() { 
+          public void onComplete(java.util.List<java.lang.Double> o) {
+            getReal_result result = new getReal_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1386,7 +1625,7 @@ public class RunnerService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getInteger_result result = new getInteger_result();
+            getReal_result result = new getReal_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -1414,25 +1653,25 @@ public class RunnerService {
         return false;
       }
 
-      public void start(I iface, getInteger_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> resultHandler) throws org.apache.thrift.TException {
-        iface.getInteger(args.refs,resultHandler);
+      public void start(I iface, getReal_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Double>> resultHandler) throws org.apache.thrift.TException {
+        iface.getReal(args.refs,resultHandler);
       }
     }
 
-    public static class getBoolean<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBoolean_args, java.util.List<java.lang.Boolean>> {
-      public getBoolean() {
-        super("getBoolean");
+    public static class getEdges<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEdges_args, java.util.List<org.raspinloop.fmi.Edge>> {
+      public getEdges() {
+        super("getEdges");
       }
 
-      public getBoolean_args getEmptyArgsInstance() {
-        return new getBoolean_args();
+      public getEdges_args getEmptyArgsInstance() {
+        return new getEdges_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.raspinloop.fmi.Edge>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>>() { 
-          public void onComplete(java.util.List<java.lang.Boolean> o) {
-            getBoolean_result result = new getBoolean_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.raspinloop.fmi.Edge>>() { 
+          public void onComplete(java.util.List<org.raspinloop.fmi.Edge> o) {
+            getEdges_result result = new getEdges_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1447,7 +1686,7 @@ public class RunnerService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getBoolean_result result = new getBoolean_result();
+            getEdges_result result = new getEdges_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -1475,25 +1714,25 @@ public class RunnerService {
         return false;
       }
 
-      public void start(I iface, getBoolean_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> resultHandler) throws org.apache.thrift.TException {
-        iface.getBoolean(args.refs,resultHandler);
+      public void start(I iface, getEdges_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.raspinloop.fmi.Edge>> resultHandler) throws org.apache.thrift.TException {
+        iface.getEdges(args.refs,resultHandler);
       }
     }
 
-    public static class setReal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setReal_args, Status> {
-      public setReal() {
-        super("setReal");
+    public static class stepAndExchange<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, stepAndExchange_args, org.raspinloop.fmi.StepResponse> {
+      public stepAndExchange() {
+        super("stepAndExchange");
       }
 
-      public setReal_args getEmptyArgsInstance() {
-        return new setReal_args();
+      public stepAndExchange_args getEmptyArgsInstance() {
+        return new stepAndExchange_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Status> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.StepResponse> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Status>() { 
-          public void onComplete(Status o) {
-            setReal_result result = new setReal_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.StepResponse>() { 
+          public void onComplete(org.raspinloop.fmi.StepResponse o) {
+            stepAndExchange_result result = new stepAndExchange_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1508,7 +1747,7 @@ public class RunnerService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            setReal_result result = new setReal_result();
+            stepAndExchange_result result = new stepAndExchange_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -1536,25 +1775,25 @@ public class RunnerService {
         return false;
       }
 
-      public void start(I iface, setReal_args args, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException {
-        iface.setReal(args.ref_values,resultHandler);
+      public void start(I iface, stepAndExchange_args args, org.apache.thrift.async.AsyncMethodCallback<org.raspinloop.fmi.StepResponse> resultHandler) throws org.apache.thrift.TException {
+        iface.stepAndExchange(args.request,resultHandler);
       }
     }
 
-    public static class setInteger<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setInteger_args, Status> {
-      public setInteger() {
-        super("setInteger");
+    public static class getInteger<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getInteger_args, java.util.List<java.lang.Integer>> {
+      public getInteger() {
+        super("getInteger");
       }
 
-      public setInteger_args getEmptyArgsInstance() {
-        return new setInteger_args();
+      public getInteger_args getEmptyArgsInstance() {
+        return new getInteger_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Status> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Status>() { 
-          public void onComplete(Status o) {
-            setInteger_result result = new setInteger_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>>() { 
+          public void onComplete(java.util.List<java.lang.Integer> o) {
+            getInteger_result result = new getInteger_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1569,7 +1808,7 @@ public class RunnerService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            setInteger_result result = new setInteger_result();
+            getInteger_result result = new getInteger_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -1597,25 +1836,25 @@ public class RunnerService {
         return false;
       }
 
-      public void start(I iface, setInteger_args args, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException {
-        iface.setInteger(args.ref_values,resultHandler);
+      public void start(I iface, getInteger_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Integer>> resultHandler) throws org.apache.thrift.TException {
+        iface.getInteger(args.refs,resultHandler);
       }
     }
 
-    public static class setBoolean<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setBoolean_args, Status> {
-      public setBoolean() {
-        super("setBoolean");
+    public static class getBoolean<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getBoolean_args, java.util.List<java.lang.Boolean>> {
+      public getBoolean() {
+        super("getBoolean");
       }
 
-      public setBoolean_args getEmptyArgsInstance() {
-        return new setBoolean_args();
+      public getBoolean_args getEmptyArgsInstance() {
+        return new getBoolean_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Status> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Status>() { 
-          public void onComplete(Status o) {
-            setBoolean_result result = new setBoolean_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>>() { 
+          public void onComplete(java.util.List<java.lang.Boolean> o) {
+            getBoolean_result result = new getBoolean_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1630,7 +1869,7 @@ public class RunnerService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            setBoolean_result result = new setBoolean_result();
+            getBoolean_result result = new getBoolean_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -1658,14 +1897,197 @@ public class RunnerService {
         return false;
       }
 
-      public void start(I iface, setBoolean_args args, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException {
-        iface.setBoolean(args.ref_values,resultHandler);
+      public void start(I iface, getBoolean_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Boolean>> resultHandler) throws org.apache.thrift.TException {
+        iface.getBoolean(args.refs,resultHandler);
       }
     }
 
-    public static class cancelStep<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cancelStep_args, Status> {
-      public cancelStep() {
-        super("cancelStep");
+    public static class setReal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setReal_args, Status> {
+      public setReal() {
+        super("setReal");
+      }
+
+      public setReal_args getEmptyArgsInstance() {
+        return new setReal_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Status> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Status>() { 
+          public void onComplete(Status o) {
+            setReal_result result = new setReal_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            setReal_result result = new setReal_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, setReal_args args, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException {
+        iface.setReal(args.ref_values,resultHandler);
+      }
+    }
+
+    public static class setInteger<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setInteger_args, Status> {
+      public setInteger() {
+        super("setInteger");
+      }
+
+      public setInteger_args getEmptyArgsInstance() {
+        return new setInteger_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Status> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Status>() { 
+          public void onComplete(Status o) {
+            setInteger_result result = new setInteger_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            setInteger_result result = new setInteger_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, setInteger_args args, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException {
+        iface.setInteger(args.ref_values,resultHandler);
+      }
+    }
+
+    public static class setBoolean<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setBoolean_args, Status> {
+      public setBoolean() {
+        super("setBoolean");
+      }
+
+      public setBoolean_args getEmptyArgsInstance() {
+        return new setBoolean_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Status> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Status>() { 
+          public void onComplete(Status o) {
+            setBoolean_result result = new setBoolean_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            setBoolean_result result = new setBoolean_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, setBoolean_args args, org.apache.thrift.async.AsyncMethodCallback<Status> resultHandler) throws org.apache.thrift.TException {
+        iface.setBoolean(args.ref_values,resultHandler);
+      }
+    }
+
+    public static class cancelStep<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cancelStep_args, Status> {
+      public cancelStep() {
+        super("cancelStep");
       }
 
       public cancelStep_args getEmptyArgsInstance() {
@@ -3342,27 +3764,17 @@ public class RunnerService {
     }
   }
 
-  public static class terminate_result implements org.apache.thrift.TBase<terminate_result, terminate_result._Fields>, java.io.Serializable, Cloneable, Comparable<terminate_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("terminate_result");
+  public static class getChanges_args implements org.apache.thrift.TBase<getChanges_args, getChanges_args._Fields>, java.io.Serializable, Cloneable, Comparable<getChanges_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChanges_args");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new terminate_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new terminate_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChanges_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChanges_argsTupleSchemeFactory();
 
-    /**
-     * 
-     * @see Status
-     */
-    public Status success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      /**
-       * 
-       * @see Status
-       */
-      SUCCESS((short)0, "success");
+;
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3377,8 +3789,6 @@ public class RunnerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -3417,67 +3827,2264 @@ public class RunnerService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Status.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(terminate_result.class, metaDataMap);
-    }
-
-    public terminate_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChanges_args.class, metaDataMap);
     }
 
-    public terminate_result(
-      Status success)
-    {
-      this();
-      this.success = success;
+    public getChanges_args() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public terminate_result(terminate_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public getChanges_args(getChanges_args other) {
     }
 
-    public terminate_result deepCopy() {
-      return new terminate_result(this);
+    public getChanges_args deepCopy() {
+      return new getChanges_args(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
     }
 
-    /**
-     * 
-     * @see Status
-     */
-    public Status getSuccess() {
-      return this.success;
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      }
     }
 
-    /**
-     * 
-     * @see Status
-     */
-    public terminate_result setSuccess(Status success) {
-      this.success = success;
-      return this;
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getChanges_args)
+        return this.equals((getChanges_args)that);
+      return false;
+    }
+
+    public boolean equals(getChanges_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getChanges_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChanges_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getChanges_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChanges_argsStandardScheme getScheme() {
+        return new getChanges_argsStandardScheme();
+      }
+    }
+
+    private static class getChanges_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChanges_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChanges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChanges_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getChanges_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChanges_argsTupleScheme getScheme() {
+        return new getChanges_argsTupleScheme();
+      }
+    }
+
+    private static class getChanges_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChanges_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChanges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChanges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class terminate_result implements org.apache.thrift.TBase<terminate_result, terminate_result._Fields>, java.io.Serializable, Cloneable, Comparable<terminate_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("terminate_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new terminate_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new terminate_resultTupleSchemeFactory();
+
+    /**
+     * 
+     * @see Status
+     */
+    public Status success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * 
+       * @see Status
+       */
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Status.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(terminate_result.class, metaDataMap);
+    }
+
+    public terminate_result() {
+    }
+
+    public terminate_result(
+      Status success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public terminate_result(terminate_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+    }
+
+    public terminate_result deepCopy() {
+      return new terminate_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    /**
+     * 
+     * @see Status
+     */
+    public Status getSuccess() {
+      return this.success;
+    }
+
+    /**
+     * 
+     * @see Status
+     */
+    public terminate_result setSuccess(Status success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Status)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof terminate_result)
+        return this.equals((terminate_result)that);
+      return false;
+    }
+
+    public boolean equals(terminate_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.getValue();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(terminate_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("terminate_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class terminate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public terminate_resultStandardScheme getScheme() {
+        return new terminate_resultStandardScheme();
+      }
+    }
+
+    private static class terminate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<terminate_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, terminate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = org.raspinloop.agent.launcherRunnerIpc.Status.findByValue(iprot.readI32());
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, terminate_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI32(struct.success.getValue());
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class terminate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public terminate_resultTupleScheme getScheme() {
+        return new terminate_resultTupleScheme();
+      }
+    }
+
+    private static class terminate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<terminate_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, terminate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success.getValue());
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, terminate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = org.raspinloop.agent.launcherRunnerIpc.Status.findByValue(iprot.readI32());
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getChanges_result implements org.apache.thrift.TBase<getChanges_result, getChanges_result._Fields>, java.io.Serializable, Cloneable, Comparable<getChanges_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getChanges_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getChanges_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getChanges_resultTupleSchemeFactory();
+
+    public org.raspinloop.fmi.Changes success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.raspinloop.fmi.Changes.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getChanges_result.class, metaDataMap);
+    }
+
+    public getChanges_result() {
+    }
+
+    public getChanges_result(
+      org.raspinloop.fmi.Changes success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getChanges_result(getChanges_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new org.raspinloop.fmi.Changes(other.success);
+      }
+    }
+
+    public getChanges_result deepCopy() {
+      return new getChanges_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public org.raspinloop.fmi.Changes getSuccess() {
+      return this.success;
+    }
+
+    public getChanges_result setSuccess(org.raspinloop.fmi.Changes success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((org.raspinloop.fmi.Changes)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getChanges_result)
+        return this.equals((getChanges_result)that);
+      return false;
+    }
+
+    public boolean equals(getChanges_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getChanges_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getChanges_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getChanges_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChanges_resultStandardScheme getScheme() {
+        return new getChanges_resultStandardScheme();
+      }
+    }
+
+    private static class getChanges_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getChanges_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getChanges_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new org.raspinloop.fmi.Changes();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getChanges_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getChanges_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getChanges_resultTupleScheme getScheme() {
+        return new getChanges_resultTupleScheme();
+      }
+    }
+
+    private static class getChanges_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getChanges_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getChanges_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getChanges_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new org.raspinloop.fmi.Changes();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getReal_args implements org.apache.thrift.TBase<getReal_args, getReal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getReal_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getReal_args");
+
+    private static final org.apache.thrift.protocol.TField REFS_FIELD_DESC = new org.apache.thrift.protocol.TField("refs", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getReal_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getReal_argsTupleSchemeFactory();
+
+    public java.util.List<java.lang.Integer> refs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REFS((short)1, "refs");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REFS
+            return REFS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REFS, new org.apache.thrift.meta_data.FieldMetaData("refs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getReal_args.class, metaDataMap);
+    }
+
+    public getReal_args() {
+    }
+
+    public getReal_args(
+      java.util.List<java.lang.Integer> refs)
+    {
+      this();
+      this.refs = refs;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getReal_args(getReal_args other) {
+      if (other.isSetRefs()) {
+        java.util.List<java.lang.Integer> __this__refs = new java.util.ArrayList<java.lang.Integer>(other.refs);
+        this.refs = __this__refs;
+      }
+    }
+
+    public getReal_args deepCopy() {
+      return new getReal_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.refs = null;
+    }
+
+    public int getRefsSize() {
+      return (this.refs == null) ? 0 : this.refs.size();
+    }
+
+    public java.util.Iterator<java.lang.Integer> getRefsIterator() {
+      return (this.refs == null) ? null : this.refs.iterator();
+    }
+
+    public void addToRefs(int elem) {
+      if (this.refs == null) {
+        this.refs = new java.util.ArrayList<java.lang.Integer>();
+      }
+      this.refs.add(elem);
+    }
+
+    public java.util.List<java.lang.Integer> getRefs() {
+      return this.refs;
+    }
+
+    public getReal_args setRefs(java.util.List<java.lang.Integer> refs) {
+      this.refs = refs;
+      return this;
+    }
+
+    public void unsetRefs() {
+      this.refs = null;
+    }
+
+    /** Returns true if field refs is set (has been assigned a value) and false otherwise */
+    public boolean isSetRefs() {
+      return this.refs != null;
+    }
+
+    public void setRefsIsSet(boolean value) {
+      if (!value) {
+        this.refs = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case REFS:
+        if (value == null) {
+          unsetRefs();
+        } else {
+          setRefs((java.util.List<java.lang.Integer>)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REFS:
+        return getRefs();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REFS:
+        return isSetRefs();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getReal_args)
+        return this.equals((getReal_args)that);
+      return false;
+    }
+
+    public boolean equals(getReal_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_refs = true && this.isSetRefs();
+      boolean that_present_refs = true && that.isSetRefs();
+      if (this_present_refs || that_present_refs) {
+        if (!(this_present_refs && that_present_refs))
+          return false;
+        if (!this.refs.equals(that.refs))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetRefs()) ? 131071 : 524287);
+      if (isSetRefs())
+        hashCode = hashCode * 8191 + refs.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getReal_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetRefs()).compareTo(other.isSetRefs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRefs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.refs, other.refs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getReal_args(");
+      boolean first = true;
+
+      sb.append("refs:");
+      if (this.refs == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.refs);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getReal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getReal_argsStandardScheme getScheme() {
+        return new getReal_argsStandardScheme();
+      }
+    }
+
+    private static class getReal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getReal_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getReal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REFS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.refs = new java.util.ArrayList<java.lang.Integer>(_list0.size);
+                  int _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = iprot.readI32();
+                    struct.refs.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRefsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getReal_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.refs != null) {
+          oprot.writeFieldBegin(REFS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.refs.size()));
+            for (int _iter3 : struct.refs)
+            {
+              oprot.writeI32(_iter3);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getReal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getReal_argsTupleScheme getScheme() {
+        return new getReal_argsTupleScheme();
+      }
+    }
+
+    private static class getReal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getReal_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getReal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetRefs()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRefs()) {
+          {
+            oprot.writeI32(struct.refs.size());
+            for (int _iter4 : struct.refs)
+            {
+              oprot.writeI32(_iter4);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getReal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.refs = new java.util.ArrayList<java.lang.Integer>(_list5.size);
+            int _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = iprot.readI32();
+              struct.refs.add(_elem6);
+            }
+          }
+          struct.setRefsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getEdges_args implements org.apache.thrift.TBase<getEdges_args, getEdges_args._Fields>, java.io.Serializable, Cloneable, Comparable<getEdges_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEdges_args");
+
+    private static final org.apache.thrift.protocol.TField REFS_FIELD_DESC = new org.apache.thrift.protocol.TField("refs", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getEdges_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getEdges_argsTupleSchemeFactory();
+
+    public java.util.List<java.lang.Integer> refs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REFS((short)1, "refs");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REFS
+            return REFS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REFS, new org.apache.thrift.meta_data.FieldMetaData("refs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEdges_args.class, metaDataMap);
+    }
+
+    public getEdges_args() {
+    }
+
+    public getEdges_args(
+      java.util.List<java.lang.Integer> refs)
+    {
+      this();
+      this.refs = refs;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getEdges_args(getEdges_args other) {
+      if (other.isSetRefs()) {
+        java.util.List<java.lang.Integer> __this__refs = new java.util.ArrayList<java.lang.Integer>(other.refs);
+        this.refs = __this__refs;
+      }
+    }
+
+    public getEdges_args deepCopy() {
+      return new getEdges_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.refs = null;
+    }
+
+    public int getRefsSize() {
+      return (this.refs == null) ? 0 : this.refs.size();
+    }
+
+    public java.util.Iterator<java.lang.Integer> getRefsIterator() {
+      return (this.refs == null) ? null : this.refs.iterator();
+    }
+
+    public void addToRefs(int elem) {
+      if (this.refs == null) {
+        this.refs = new java.util.ArrayList<java.lang.Integer>();
+      }
+      this.refs.add(elem);
+    }
+
+    public java.util.List<java.lang.Integer> getRefs() {
+      return this.refs;
+    }
+
+    public getEdges_args setRefs(java.util.List<java.lang.Integer> refs) {
+      this.refs = refs;
+      return this;
+    }
+
+    public void unsetRefs() {
+      this.refs = null;
+    }
+
+    /** Returns true if field refs is set (has been assigned a value) and false otherwise */
+    public boolean isSetRefs() {
+      return this.refs != null;
+    }
+
+    public void setRefsIsSet(boolean value) {
+      if (!value) {
+        this.refs = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case REFS:
+        if (value == null) {
+          unsetRefs();
+        } else {
+          setRefs((java.util.List<java.lang.Integer>)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REFS:
+        return getRefs();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REFS:
+        return isSetRefs();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getEdges_args)
+        return this.equals((getEdges_args)that);
+      return false;
+    }
+
+    public boolean equals(getEdges_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_refs = true && this.isSetRefs();
+      boolean that_present_refs = true && that.isSetRefs();
+      if (this_present_refs || that_present_refs) {
+        if (!(this_present_refs && that_present_refs))
+          return false;
+        if (!this.refs.equals(that.refs))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetRefs()) ? 131071 : 524287);
+      if (isSetRefs())
+        hashCode = hashCode * 8191 + refs.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getEdges_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetRefs()).compareTo(other.isSetRefs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRefs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.refs, other.refs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getEdges_args(");
+      boolean first = true;
+
+      sb.append("refs:");
+      if (this.refs == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.refs);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getEdges_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEdges_argsStandardScheme getScheme() {
+        return new getEdges_argsStandardScheme();
+      }
+    }
+
+    private static class getEdges_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getEdges_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEdges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REFS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.refs = new java.util.ArrayList<java.lang.Integer>(_list0.size);
+                  int _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = iprot.readI32();
+                    struct.refs.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRefsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEdges_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.refs != null) {
+          oprot.writeFieldBegin(REFS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.refs.size()));
+            for (int _iter3 : struct.refs)
+            {
+              oprot.writeI32(_iter3);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getEdges_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEdges_argsTupleScheme getScheme() {
+        return new getEdges_argsTupleScheme();
+      }
+    }
+
+    private static class getEdges_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getEdges_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEdges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetRefs()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRefs()) {
+          {
+            oprot.writeI32(struct.refs.size());
+            for (int _iter4 : struct.refs)
+            {
+              oprot.writeI32(_iter4);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEdges_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.refs = new java.util.ArrayList<java.lang.Integer>(_list5.size);
+            int _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = iprot.readI32();
+              struct.refs.add(_elem6);
+            }
+          }
+          struct.setRefsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class stepAndExchange_args implements org.apache.thrift.TBase<stepAndExchange_args, stepAndExchange_args._Fields>, java.io.Serializable, Cloneable, Comparable<stepAndExchange_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("stepAndExchange_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new stepAndExchange_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new stepAndExchange_argsTupleSchemeFactory();
+
+    public org.raspinloop.fmi.StepRequest request; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST((short)1, "request");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST
+            return REQUEST;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.raspinloop.fmi.StepRequest.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(stepAndExchange_args.class, metaDataMap);
+    }
+
+    public stepAndExchange_args() {
+    }
+
+    public stepAndExchange_args(
+      org.raspinloop.fmi.StepRequest request)
+    {
+      this();
+      this.request = request;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public stepAndExchange_args(stepAndExchange_args other) {
+      if (other.isSetRequest()) {
+        this.request = new org.raspinloop.fmi.StepRequest(other.request);
+      }
+    }
+
+    public stepAndExchange_args deepCopy() {
+      return new stepAndExchange_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.request = null;
+    }
+
+    public org.raspinloop.fmi.StepRequest getRequest() {
+      return this.request;
+    }
+
+    public stepAndExchange_args setRequest(org.raspinloop.fmi.StepRequest request) {
+      this.request = request;
+      return this;
+    }
+
+    public void unsetRequest() {
+      this.request = null;
+    }
+
+    /** Returns true if field request is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequest() {
+      return this.request != null;
+    }
+
+    public void setRequestIsSet(boolean value) {
+      if (!value) {
+        this.request = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case REQUEST:
+        if (value == null) {
+          unsetRequest();
+        } else {
+          setRequest((org.raspinloop.fmi.StepRequest)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST:
+        return getRequest();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST:
+        return isSetRequest();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof stepAndExchange_args)
+        return this.equals((stepAndExchange_args)that);
+      return false;
+    }
+
+    public boolean equals(stepAndExchange_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_request = true && this.isSetRequest();
+      boolean that_present_request = true && that.isSetRequest();
+      if (this_present_request || that_present_request) {
+        if (!(this_present_request && that_present_request))
+          return false;
+        if (!this.request.equals(that.request))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetRequest()) ? 131071 : 524287);
+      if (isSetRequest())
+        hashCode = hashCode * 8191 + request.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(stepAndExchange_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetRequest()).compareTo(other.isSetRequest());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequest()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.request, other.request);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("stepAndExchange_args(");
+      boolean first = true;
+
+      sb.append("request:");
+      if (this.request == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.request);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (request != null) {
+        request.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class stepAndExchange_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public stepAndExchange_argsStandardScheme getScheme() {
+        return new stepAndExchange_argsStandardScheme();
+      }
+    }
+
+    private static class stepAndExchange_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<stepAndExchange_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, stepAndExchange_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.request = new org.raspinloop.fmi.StepRequest();
+                struct.request.read(iprot);
+                struct.setRequestIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, stepAndExchange_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.request != null) {
+          oprot.writeFieldBegin(REQUEST_FIELD_DESC);
+          struct.request.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class stepAndExchange_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public stepAndExchange_argsTupleScheme getScheme() {
+        return new stepAndExchange_argsTupleScheme();
+      }
+    }
+
+    private static class stepAndExchange_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<stepAndExchange_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, stepAndExchange_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetRequest()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRequest()) {
+          struct.request.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, stepAndExchange_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.request = new org.raspinloop.fmi.StepRequest();
+          struct.request.read(iprot);
+          struct.setRequestIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getReal_result implements org.apache.thrift.TBase<getReal_result, getReal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getReal_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getReal_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getReal_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getReal_resultTupleSchemeFactory();
+
+    public java.util.List<java.lang.Double> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getReal_result.class, metaDataMap);
+    }
+
+    public getReal_result() {
+    }
+
+    public getReal_result(
+      java.util.List<java.lang.Double> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getReal_result(getReal_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.Double> __this__success = new java.util.ArrayList<java.lang.Double>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public getReal_result deepCopy() {
+      return new getReal_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<java.lang.Double> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(double elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.Double>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<java.lang.Double> getSuccess() {
+      return this.success;
+    }
+
+    public getReal_result setSuccess(java.util.List<java.lang.Double> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
       return this.success != null;
     }
@@ -3494,7 +6101,7 @@ public class RunnerService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Status)value);
+          setSuccess((java.util.List<java.lang.Double>)value);
         }
         break;
 
@@ -3527,12 +6134,12 @@ public class RunnerService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof terminate_result)
-        return this.equals((terminate_result)that);
+      if (that instanceof getReal_result)
+        return this.equals((getReal_result)that);
       return false;
     }
 
-    public boolean equals(terminate_result that) {
+    public boolean equals(getReal_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -3556,13 +6163,13 @@ public class RunnerService {
 
       hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
       if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.getValue();
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(terminate_result other) {
+    public int compareTo(getReal_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3596,7 +6203,7 @@ public class RunnerService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("terminate_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getReal_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3631,15 +6238,15 @@ public class RunnerService {
       }
     }
 
-    private static class terminate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public terminate_resultStandardScheme getScheme() {
-        return new terminate_resultStandardScheme();
+    private static class getReal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getReal_resultStandardScheme getScheme() {
+        return new getReal_resultStandardScheme();
       }
     }
 
-    private static class terminate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<terminate_result> {
+    private static class getReal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getReal_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, terminate_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getReal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3650,8 +6257,18 @@ public class RunnerService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = org.raspinloop.agent.launcherRunnerIpc.Status.findByValue(iprot.readI32());
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.Double>(_list8.size);
+                  double _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = iprot.readDouble();
+                    struct.success.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -3668,13 +6285,20 @@ public class RunnerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, terminate_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getReal_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success.getValue());
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.DOUBLE, struct.success.size()));
+            for (double _iter11 : struct.success)
+            {
+              oprot.writeDouble(_iter11);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3683,16 +6307,16 @@ public class RunnerService {
 
     }
 
-    private static class terminate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public terminate_resultTupleScheme getScheme() {
-        return new terminate_resultTupleScheme();
+    private static class getReal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getReal_resultTupleScheme getScheme() {
+        return new getReal_resultTupleScheme();
       }
     }
 
-    private static class terminate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<terminate_result> {
+    private static class getReal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getReal_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, terminate_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getReal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -3700,16 +6324,31 @@ public class RunnerService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success.getValue());
+          {
+            oprot.writeI32(struct.success.size());
+            for (double _iter12 : struct.success)
+            {
+              oprot.writeDouble(_iter12);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, terminate_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getReal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = org.raspinloop.agent.launcherRunnerIpc.Status.findByValue(iprot.readI32());
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.Double>(_list13.size);
+            double _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = iprot.readDouble();
+              struct.success.add(_elem14);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -3720,19 +6359,19 @@ public class RunnerService {
     }
   }
 
-  public static class getReal_args implements org.apache.thrift.TBase<getReal_args, getReal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getReal_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getReal_args");
+  public static class getEdges_result implements org.apache.thrift.TBase<getEdges_result, getEdges_result._Fields>, java.io.Serializable, Cloneable, Comparable<getEdges_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEdges_result");
 
-    private static final org.apache.thrift.protocol.TField REFS_FIELD_DESC = new org.apache.thrift.protocol.TField("refs", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getReal_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getReal_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getEdges_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getEdges_resultTupleSchemeFactory();
 
-    public java.util.List<java.lang.Integer> refs; // required
+    public java.util.List<org.raspinloop.fmi.Edge> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      REFS((short)1, "refs");
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3747,8 +6386,8 @@ public class RunnerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // REFS
-            return REFS;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -3792,88 +6431,91 @@ public class RunnerService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.REFS, new org.apache.thrift.meta_data.FieldMetaData("refs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.raspinloop.fmi.Edge.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getReal_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEdges_result.class, metaDataMap);
     }
 
-    public getReal_args() {
+    public getEdges_result() {
     }
 
-    public getReal_args(
-      java.util.List<java.lang.Integer> refs)
+    public getEdges_result(
+      java.util.List<org.raspinloop.fmi.Edge> success)
     {
       this();
-      this.refs = refs;
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getReal_args(getReal_args other) {
-      if (other.isSetRefs()) {
-        java.util.List<java.lang.Integer> __this__refs = new java.util.ArrayList<java.lang.Integer>(other.refs);
-        this.refs = __this__refs;
+    public getEdges_result(getEdges_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<org.raspinloop.fmi.Edge> __this__success = new java.util.ArrayList<org.raspinloop.fmi.Edge>(other.success.size());
+        for (org.raspinloop.fmi.Edge other_element : other.success) {
+          __this__success.add(new org.raspinloop.fmi.Edge(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getReal_args deepCopy() {
-      return new getReal_args(this);
+    public getEdges_result deepCopy() {
+      return new getEdges_result(this);
     }
 
     @Override
     public void clear() {
-      this.refs = null;
+      this.success = null;
     }
 
-    public int getRefsSize() {
-      return (this.refs == null) ? 0 : this.refs.size();
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<java.lang.Integer> getRefsIterator() {
-      return (this.refs == null) ? null : this.refs.iterator();
+    public java.util.Iterator<org.raspinloop.fmi.Edge> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToRefs(int elem) {
-      if (this.refs == null) {
-        this.refs = new java.util.ArrayList<java.lang.Integer>();
+    public void addToSuccess(org.raspinloop.fmi.Edge elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<org.raspinloop.fmi.Edge>();
       }
-      this.refs.add(elem);
+      this.success.add(elem);
     }
 
-    public java.util.List<java.lang.Integer> getRefs() {
-      return this.refs;
+    public java.util.List<org.raspinloop.fmi.Edge> getSuccess() {
+      return this.success;
     }
 
-    public getReal_args setRefs(java.util.List<java.lang.Integer> refs) {
-      this.refs = refs;
+    public getEdges_result setSuccess(java.util.List<org.raspinloop.fmi.Edge> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetRefs() {
-      this.refs = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field refs is set (has been assigned a value) and false otherwise */
-    public boolean isSetRefs() {
-      return this.refs != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setRefsIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.refs = null;
+        this.success = null;
       }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case REFS:
+      case SUCCESS:
         if (value == null) {
-          unsetRefs();
+          unsetSuccess();
         } else {
-          setRefs((java.util.List<java.lang.Integer>)value);
+          setSuccess((java.util.List<org.raspinloop.fmi.Edge>)value);
         }
         break;
 
@@ -3882,8 +6524,8 @@ public class RunnerService {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case REFS:
-        return getRefs();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -3896,8 +6538,8 @@ public class RunnerService {
       }
 
       switch (field) {
-      case REFS:
-        return isSetRefs();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -3906,23 +6548,23 @@ public class RunnerService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getReal_args)
-        return this.equals((getReal_args)that);
+      if (that instanceof getEdges_result)
+        return this.equals((getEdges_result)that);
       return false;
     }
 
-    public boolean equals(getReal_args that) {
+    public boolean equals(getEdges_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_refs = true && this.isSetRefs();
-      boolean that_present_refs = true && that.isSetRefs();
-      if (this_present_refs || that_present_refs) {
-        if (!(this_present_refs && that_present_refs))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.refs.equals(that.refs))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -3933,27 +6575,27 @@ public class RunnerService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetRefs()) ? 131071 : 524287);
-      if (isSetRefs())
-        hashCode = hashCode * 8191 + refs.hashCode();
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getReal_args other) {
+    public int compareTo(getEdges_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetRefs()).compareTo(other.isSetRefs());
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRefs()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.refs, other.refs);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3971,18 +6613,18 @@ public class RunnerService {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       scheme(oprot).write(oprot, this);
-    }
+      }
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getReal_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getEdges_result(");
       boolean first = true;
 
-      sb.append("refs:");
-      if (this.refs == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.refs);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -4010,15 +6652,15 @@ public class RunnerService {
       }
     }
 
-    private static class getReal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getReal_argsStandardScheme getScheme() {
-        return new getReal_argsStandardScheme();
+    private static class getEdges_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEdges_resultStandardScheme getScheme() {
+        return new getEdges_resultStandardScheme();
       }
     }
 
-    private static class getReal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getReal_args> {
+    private static class getEdges_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getEdges_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getReal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEdges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4028,20 +6670,21 @@ public class RunnerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // REFS
+            case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.refs = new java.util.ArrayList<java.lang.Integer>(_list0.size);
-                  int _elem1;
-                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  org.apache.thrift.protocol.TList _list78 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<org.raspinloop.fmi.Edge>(_list78.size);
+                  org.raspinloop.fmi.Edge _elem79;
+                  for (int _i80 = 0; _i80 < _list78.size; ++_i80)
                   {
-                    _elem1 = iprot.readI32();
-                    struct.refs.add(_elem1);
+                    _elem79 = new org.raspinloop.fmi.Edge();
+                    _elem79.read(iprot);
+                    struct.success.add(_elem79);
                   }
                   iprot.readListEnd();
                 }
-                struct.setRefsIsSet(true);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4057,17 +6700,17 @@ public class RunnerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getReal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEdges_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.refs != null) {
-          oprot.writeFieldBegin(REFS_FIELD_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.refs.size()));
-            for (int _iter3 : struct.refs)
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (org.raspinloop.fmi.Edge _iter81 : struct.success)
             {
-              oprot.writeI32(_iter3);
+              _iter81.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -4079,49 +6722,50 @@ public class RunnerService {
 
     }
 
-    private static class getReal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getReal_argsTupleScheme getScheme() {
-        return new getReal_argsTupleScheme();
+    private static class getEdges_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEdges_resultTupleScheme getScheme() {
+        return new getEdges_resultTupleScheme();
       }
     }
 
-    private static class getReal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getReal_args> {
+    private static class getEdges_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getEdges_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getReal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEdges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetRefs()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetRefs()) {
+        if (struct.isSetSuccess()) {
           {
-            oprot.writeI32(struct.refs.size());
-            for (int _iter4 : struct.refs)
+            oprot.writeI32(struct.success.size());
+            for (org.raspinloop.fmi.Edge _iter82 : struct.success)
             {
-              oprot.writeI32(_iter4);
+              _iter82.write(oprot);
             }
           }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getReal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEdges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
-            struct.refs = new java.util.ArrayList<java.lang.Integer>(_list5.size);
-            int _elem6;
-            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            org.apache.thrift.protocol.TList _list83 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<org.raspinloop.fmi.Edge>(_list83.size);
+            org.raspinloop.fmi.Edge _elem84;
+            for (int _i85 = 0; _i85 < _list83.size; ++_i85)
             {
-              _elem6 = iprot.readI32();
-              struct.refs.add(_elem6);
+              _elem84 = new org.raspinloop.fmi.Edge();
+              _elem84.read(iprot);
+              struct.success.add(_elem84);
             }
           }
-          struct.setRefsIsSet(true);
+          struct.setSuccessIsSet(true);
         }
       }
     }
@@ -4131,15 +6775,15 @@ public class RunnerService {
     }
   }
 
-  public static class getReal_result implements org.apache.thrift.TBase<getReal_result, getReal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getReal_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getReal_result");
+  public static class stepAndExchange_result implements org.apache.thrift.TBase<stepAndExchange_result, stepAndExchange_result._Fields>, java.io.Serializable, Cloneable, Comparable<stepAndExchange_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("stepAndExchange_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getReal_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getReal_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new stepAndExchange_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new stepAndExchange_resultTupleSchemeFactory();
 
-    public java.util.List<java.lang.Double> success; // required
+    public org.raspinloop.fmi.StepResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -4204,17 +6848,16 @@ public class RunnerService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE))));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.raspinloop.fmi.StepResponse.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getReal_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(stepAndExchange_result.class, metaDataMap);
     }
 
-    public getReal_result() {
+    public stepAndExchange_result() {
     }
 
-    public getReal_result(
-      java.util.List<java.lang.Double> success)
+    public stepAndExchange_result(
+      org.raspinloop.fmi.StepResponse success)
     {
       this();
       this.success = success;
@@ -4223,15 +6866,14 @@ public class RunnerService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getReal_result(getReal_result other) {
+    public stepAndExchange_result(stepAndExchange_result other) {
       if (other.isSetSuccess()) {
-        java.util.List<java.lang.Double> __this__success = new java.util.ArrayList<java.lang.Double>(other.success);
-        this.success = __this__success;
+        this.success = new org.raspinloop.fmi.StepResponse(other.success);
       }
     }
 
-    public getReal_result deepCopy() {
-      return new getReal_result(this);
+    public stepAndExchange_result deepCopy() {
+      return new stepAndExchange_result(this);
     }
 
     @Override
@@ -4239,26 +6881,11 @@ public class RunnerService {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<java.lang.Double> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(double elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<java.lang.Double>();
-      }
-      this.success.add(elem);
-    }
-
-    public java.util.List<java.lang.Double> getSuccess() {
+    public org.raspinloop.fmi.StepResponse getSuccess() {
       return this.success;
     }
 
-    public getReal_result setSuccess(java.util.List<java.lang.Double> success) {
+    public stepAndExchange_result setSuccess(org.raspinloop.fmi.StepResponse success) {
       this.success = success;
       return this;
     }
@@ -4284,7 +6911,7 @@ public class RunnerService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.util.List<java.lang.Double>)value);
+          setSuccess((org.raspinloop.fmi.StepResponse)value);
         }
         break;
 
@@ -4317,12 +6944,12 @@ public class RunnerService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getReal_result)
-        return this.equals((getReal_result)that);
+      if (that instanceof stepAndExchange_result)
+        return this.equals((stepAndExchange_result)that);
       return false;
     }
 
-    public boolean equals(getReal_result that) {
+    public boolean equals(stepAndExchange_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -4352,7 +6979,7 @@ public class RunnerService {
     }
 
     @Override
-    public int compareTo(getReal_result other) {
+    public int compareTo(stepAndExchange_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4386,7 +7013,7 @@ public class RunnerService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getReal_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("stepAndExchange_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -4403,6 +7030,9 @@ public class RunnerService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4421,15 +7051,15 @@ public class RunnerService {
       }
     }
 
-    private static class getReal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getReal_resultStandardScheme getScheme() {
-        return new getReal_resultStandardScheme();
+    private static class stepAndExchange_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public stepAndExchange_resultStandardScheme getScheme() {
+        return new stepAndExchange_resultStandardScheme();
       }
     }
 
-    private static class getReal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getReal_result> {
+    private static class stepAndExchange_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<stepAndExchange_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getReal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, stepAndExchange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4440,18 +7070,9 @@ public class RunnerService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<java.lang.Double>(_list8.size);
-                  double _elem9;
-                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
-                  {
-                    _elem9 = iprot.readDouble();
-                    struct.success.add(_elem9);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new org.raspinloop.fmi.StepResponse();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -4468,20 +7089,13 @@ public class RunnerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getReal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, stepAndExchange_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.DOUBLE, struct.success.size()));
-            for (double _iter11 : struct.success)
-            {
-              oprot.writeDouble(_iter11);
-            }
-            oprot.writeListEnd();
-          }
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4490,16 +7104,16 @@ public class RunnerService {
 
     }
 
-    private static class getReal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getReal_resultTupleScheme getScheme() {
-        return new getReal_resultTupleScheme();
+    private static class stepAndExchange_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public stepAndExchange_resultTupleScheme getScheme() {
+        return new stepAndExchange_resultTupleScheme();
       }
     }
 
-    private static class getReal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getReal_result> {
+    private static class stepAndExchange_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<stepAndExchange_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getReal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, stepAndExchange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -4507,31 +7121,17 @@ public class RunnerService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (double _iter12 : struct.success)
-            {
-              oprot.writeDouble(_iter12);
-            }
-          }
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getReal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, stepAndExchange_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.DOUBLE, iprot.readI32());
-            struct.success = new java.util.ArrayList<java.lang.Double>(_list13.size);
-            double _elem14;
-            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
-            {
-              _elem14 = iprot.readDouble();
-              struct.success.add(_elem14);
-            }
-          }
+          struct.success = new org.raspinloop.fmi.StepResponse();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class AgentArgumentsTest {
+
+	@Test
+	public void testFileNameWithComma() {
+		AgentArguments arguments = AgentArguments.parse("/tmp/board,v2.json,quiescenceTimeout=20,launcherPort=9095");
+		assertEquals("/tmp/board,v2.json", arguments.getJsonFileName());
+		assertEquals(20, arguments.getLongOption(AgentArguments.QUIESCENCE_TIMEOUT, 0));
+		assertEquals(9095, arguments.getLongOption(AgentArguments.LAUNCHER_PORT, 0));
+	}
+
+	@Test
+	public void testDefaults() {
+		AgentArguments arguments = AgentArguments.parse("board.json");
+		assertEquals("board.json", arguments.getJsonFileName());
+		assertEquals(AgentArguments.DEFAULT_QUIESCENCE_TIMEOUT,
+				arguments.getLongOption(AgentArguments.QUIESCENCE_TIMEOUT, AgentArguments.DEFAULT_QUIESCENCE_TIMEOUT));
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TSimpleServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TSocket;
+import org.junit.Test;
+import org.raspinloop.agent.launcherRunnerIpc.RunnerService;
+import org.raspinloop.agent.launcherRunnerIpc.Status;
+import org.raspinloop.fmi.StepRequest;
+import org.raspinloop.fmi.StepResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Latency of one master cycle (setReal, setBoolean, doStep, getReal,
+ * getBoolean) over a loopback socket: separate calls against one
+ * stepAndExchange call. The runner side only answers, so that the
+ * round trips are measured.
+ * 
+ * Not part of the unit tests, run with:
+ * mvn test -pl Libraries/RunnerAgent -am -Dtest=StepExchangeBenchmark -DfailIfNoTests=false
+ */
+public class StepExchangeBenchmark {
+
+	final static Logger logger = LoggerFactory.getLogger(StepExchangeBenchmark.class);
+
+	private static final int WARMUP = 2000;
+	private static final int CYCLES = 10000;
+	private static final List<Integer> OUTPUTS = Arrays.asList(10, 11, 12, 13);
+
+	@Test
+	public void compareCycles() throws Exception {
+		TServerSocket serverSocket = new TServerSocket(0);
+		int port = serverSocket.getServerSocket().getLocalPort();
+		TServer server = new TSimpleServer(new TServer.Args(serverSocket).processor(new RunnerService.Processor<>(answeringRunner())));
+		Thread serverThread = new Thread(server::serve, "benchmark runner");
+		serverThread.setDaemon(true);
+		serverThread.start();
+
+		TSocket socket = new TSocket("localhost", port);
+		socket.open();
+		try {
+			RunnerService.Client client = new RunnerService.Client(new TBinaryProtocol(socket));
+			Map<Integer, Double> reals = new HashMap<>();
+			reals.put(1, 0.5);
+			Map<Integer, Boolean> booleans = new HashMap<>();
+			booleans.put(2, true);
+
+			separateCalls(client, reals, booleans, WARMUP);
+			long separate = separateCalls(client, reals, booleans, CYCLES);
+			exchangeCalls(client, reals, booleans, WARMUP);
+			long exchange = exchangeCalls(client, reals, booleans, CYCLES);
+			logger.info(String.format("master cycle: %.1f us with separate calls, %.1f us with stepAndExchange", 
+					separate / 1000.0 / CYCLES, exchange / 1000.0 / CYCLES));
+		} finally {
+			socket.close();
+			server.stop();
+		}
+	}
+
+	private static long separateCalls(RunnerService.Client client, Map<Integer, Double> reals, Map<Integer, Boolean> booleans, int cycles) throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < cycles; i++) {
+			client.setReal(reals);
+			client.setBoolean(booleans);
+			client.doStep(i * 0.001, 0.001, false);
+			assertEquals(OUTPUTS.size(), client.getReal(OUTPUTS).size());
+			assertEquals(OUTPUTS.size(), client.getBoolean(OUTPUTS).size());
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static long exchangeCalls(RunnerService.Client client, Map<Integer, Double> reals, Map<Integer, Boolean> booleans, int cycles) throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < cycles; i++) {
+			StepRequest request = new StepRequest().setCurrentCommunicationPoint(i * 0.001).setCommunicationStepSize(0.001)
+					.setNoSetFMUStatePriorToCurrentPoint(false).setReals(reals).setBools(booleans).setRealOuts(OUTPUTS).setBoolOuts(OUTPUTS);
+			StepResponse response = client.stepAndExchange(request);
+			assertEquals(org.raspinloop.fmi.Status.OK, response.getStatus());
+			assertEquals(OUTPUTS.size(), response.getBoolsSize());
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static RunnerService.Iface answeringRunner() {
+		return (RunnerService.Iface) Proxy.newProxyInstance(RunnerService.Iface.class.getClassLoader(), new Class<?>[] { RunnerService.Iface.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getReal":
+						return new ArrayList<>(Collections.nCopies(((List<?>) args[0]).size(), 0.0));
+					case "getBoolean":
+						return new ArrayList<>(Collections.nCopies(((List<?>) args[0]).size(), false));
+					case "stepAndExchange": {
+						StepRequest request = (StepRequest) args[0];
+						return new StepResponse(org.raspinloop.fmi.Status.OK, Collections.nCopies(request.getRealOutsSize(), 0.0),
+								Collections.<Integer> emptyList(), Collections.nCopies(request.getBoolOutsSize(), false));
+					}
+					default:
+						return Status.OK;
+					}
+				});
+	}
+}
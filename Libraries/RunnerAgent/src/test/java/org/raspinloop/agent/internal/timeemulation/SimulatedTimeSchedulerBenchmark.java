@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent.internal.timeemulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.raspinloop.timeemulation.SimulatedTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CPU used to fire periodic timers: by the scheduler, and by threads waiting
+ * for simulated time through SimulatedTime.awaitNanos.
+ * 
+ * Not part of the unit tests, run with:
+ * mvn test -pl Libraries/RunnerAgent -am -Dtest=SimulatedTimeSchedulerBenchmark -DfailIfNoTests=false
+ */
+public class SimulatedTimeSchedulerBenchmark {
+
+	final static Logger logger = LoggerFactory.getLogger(SimulatedTimeSchedulerBenchmark.class);
+
+	private static final double STEP = 0.001; // 1ms
+	private static final long STEP_NANO = 1000000L;
+
+	private SimulatedTimeScheduler cut;
+
+	@Before
+	public void setUp() throws InterruptedException {
+		SimulatedTime.INST.setup(0);
+		SimulatedTime.sleep(0); // application started
+		cut = new SimulatedTimeScheduler(ExecutorThreadMode.PLATFORM.newThreadFactory("benchmark-scheduler-%d"));
+	}
+
+	@After
+	public void tearDown() {
+		cut.shutdownNow();
+		SimulatedTime.INST.setQuiescenceTimeout(0);
+	}
+
+	/**
+	 * NB_TIMERS periodic timers during NB_STEPS steps.
+	 */
+	@Test
+	public void compareWithPolling() throws Exception {
+		final int NB_TIMERS = 32;
+		final int NB_STEPS = 1000;
+		final int PERIOD_STEPS = 10;
+		int expected = NB_TIMERS * NB_STEPS / PERIOD_STEPS;
+
+		AtomicInteger fired = new AtomicInteger();
+		long cpu = processCpuTime();
+		long start = System.nanoTime();
+		for (int i = 0; i < NB_TIMERS; i++)
+			cut.scheduleAtFixedRate(fired::incrementAndGet, PERIOD_STEPS, PERIOD_STEPS, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < NB_STEPS; i++)
+			SimulatedTime.INST.doStep(STEP);
+		// doStep returns once the due timers have run
+		report("scheduler", fired.get(), processCpuTime() - cpu, System.nanoTime() - start);
+		assertEquals(expected, fired.get());
+		cut.shutdownNow();
+
+		// doStep waits for woken pollers
+		SimulatedTime.INST.setQuiescenceTimeout(100);
+		AtomicInteger polled = new AtomicInteger();
+		List<Thread> pollers = new ArrayList<>();
+		cpu = processCpuTime();
+		start = System.nanoTime();
+		for (int i = 0; i < NB_TIMERS; i++) {
+			Thread poller = new Thread(() -> {
+				ReentrantLock lock = new ReentrantLock();
+				Condition available = lock.newCondition();
+				try {
+					while (true) {
+						lock.lock();
+						try {
+							SimulatedTime.awaitNanos(PERIOD_STEPS * STEP_NANO, lock, available);
+						} finally {
+							lock.unlock();
+						}
+						polled.incrementAndGet();
+					}
+				} catch (InterruptedException e) {
+					// end of benchmark
+				}
+			}, "poller-" + i);
+			pollers.add(poller);
+			poller.start();
+		}
+		Thread.sleep(100); // let pollers wait for simulated time
+		for (int i = 0; i < NB_STEPS; i++)
+			SimulatedTime.INST.doStep(STEP);
+		report("polling", polled.get(), processCpuTime() - cpu, System.nanoTime() - start);
+		for (Thread poller : pollers)
+			poller.interrupt();
+		for (Thread poller : pollers)
+			poller.join(1000);
+		assertTrue(polled.get() > 0);
+	}
+
+	private static long processCpuTime() {
+		OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+		if (os instanceof com.sun.management.OperatingSystemMXBean)
+			return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+		return -1;
+	}
+
+	private static void report(String name, int fired, long cpuNano, long realNano) {
+		logger.info(String.format("%s: %d timers fired, cpu %d ms, real %d ms", name, fired, cpuNano / 1000000, realNano / 1000000));
+	}
+}
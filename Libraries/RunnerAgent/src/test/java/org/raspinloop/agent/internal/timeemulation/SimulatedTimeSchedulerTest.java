@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2018 RaspInLoop
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ ******************************************************************************/
+package org.raspinloop.agent.internal.timeemulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.raspinloop.timeemulation.SimulatedTime;
+
+public class SimulatedTimeSchedulerTest {
+
+	private static final double STEP = 0.001; // 1ms
+	private static final long STEP_NANO = 1000000L;
+
+	private SimulatedTimeScheduler cut;
+
+	@Before
+	public void setUp() throws InterruptedException {
+		SimulatedTime.INST.setup(0);
+		SimulatedTime.sleep(0); // application started
+		cut = new SimulatedTimeScheduler(ExecutorThreadMode.PLATFORM.newThreadFactory("test-scheduler-%d"));
+	}
+
+	@After
+	public void tearDown() {
+		cut.shutdownNow();
+		SimulatedTime.INST.setQuiescenceTimeout(0);
+	}
+
+	@Test
+	public void testFiredAtDeadline() throws Exception {
+		ScheduledFuture<String> future = cut.schedule(() -> "done", 5, TimeUnit.MILLISECONDS);
+		assertEquals(5 * STEP_NANO, SimulatedTime.INST.getNextWakeupNano());
+		for (int i = 0; i < 4; i++)
+			SimulatedTime.INST.doStep(STEP);
+		assertFalse(future.isDone());
+		assertEquals(1, cut.getQueueSize());
+		SimulatedTime.INST.doStep(STEP);
+		assertTrue("run by doStep", future.isDone());
+		assertEquals("done", future.get());
+		assertEquals(0, cut.getQueueSize());
+	}
+
+	@Test
+	public void testCancel() {
+		ScheduledFuture<?> future = cut.schedule(() -> {}, 5, TimeUnit.MILLISECONDS);
+		assertTrue(future.cancel(false));
+		assertEquals(0, cut.getQueueSize());
+		assertEquals(-1, SimulatedTime.INST.getNextWakeupNano());
+	}
+
+	@Test
+	public void testFixedRate() throws Exception {
+		AtomicInteger fired = new AtomicInteger();
+		cut.scheduleAtFixedRate(fired::incrementAndGet, 10, 10, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < 100; i++) {
+			SimulatedTime.INST.doStep(STEP);
+			assertEquals((i + 1) / 10, fired.get());
+		}
+		assertEquals(110 * STEP_NANO, SimulatedTime.INST.getNextWakeupNano());
+	}
+
+	@Test
+	public void testTaskWaitingForSimulatedTime() throws Exception {
+		AtomicInteger progress = new AtomicInteger();
+		cut.schedule(() -> {
+			progress.incrementAndGet();
+			try {
+				SimulatedTime.sleep(5);
+			} catch (InterruptedException e) {
+				return;
+			}
+			progress.incrementAndGet();
+		}, 1, TimeUnit.MILLISECONDS);
+		// the step returns once the task waits
+		SimulatedTime.INST.doStep(STEP);
+		assertEquals(1, progress.get());
+		for (int i = 0; i < 4; i++)
+			SimulatedTime.INST.doStep(STEP);
+		assertEquals(1, progress.get());
+		// woken as any sleeper: without quiescence timeout, the step does not wait for it
+		SimulatedTime.INST.doStep(STEP);
+		long deadline = System.currentTimeMillis() + 5000;
+		while (progress.get() < 2 && System.currentTimeMillis() < deadline)
+			Thread.sleep(1);
+		assertEquals(2, progress.get());
+	}
+}
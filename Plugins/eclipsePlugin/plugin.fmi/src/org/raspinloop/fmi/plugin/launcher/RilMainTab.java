@@ -90,6 +90,7 @@ public abstract class RilMainTab extends SharedJavaMainTab {
 	public static final String ATTR_STANDALONE_TIME_RATIO = IJavaDebugUIConstants.PLUGIN_ID + ".STANDALONE_TIME_RATIO"; //$NON-NLS-1$
 	public static final String ATTR_STANDALONE_END_TIME = IJavaDebugUIConstants.PLUGIN_ID + ".ATTR_STANDALONE_END_TIME"; //$NON-NLS-1$
 	public static final String ATTR_STANDALONE_END_TIME_UNIT = IJavaDebugUIConstants.PLUGIN_ID + ".ATTR_STANDALONE_END_TIME_UNIT"; //$NON-NLS-1$
+	public static final String ATTR_STANDALONE_SKIP_AHEAD = IJavaDebugUIConstants.PLUGIN_ID + ".ATTR_STANDALONE_SKIP_AHEAD"; //$NON-NLS-1$
 
 	// UI widgets
 	private Button fSearchExternalJarsCheckButton;
@@ -25,6 +25,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.ModifyEvent;
 import org.eclipse.swt.events.ModifyListener;
 import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Label;
@@ -42,6 +43,7 @@ public class MainTab extends RilMainTab {
 	protected Spinner fStandAloneTimeIncrement;
 	protected Spinner fStandAloneTimeRatio;
 	protected Spinner fStandAloneEndTime;
+	protected Button fStandAloneSkipAhead;
 	protected Label lStandAloneTimeIncrement;
 	protected Label lStandAloneTimeRatio;
 	protected Label lStandAloneEndTime;
@@ -59,6 +61,7 @@ public class MainTab extends RilMainTab {
 		fStandAloneEndTime.setVisible(true);
 		lStandAloneEndTime.setVisible(true);
 		fStandAloneEndTimeCombo.getCombo().setVisible(true);
+		fStandAloneSkipAhead.setVisible(true);
 
 	}
 
@@ -84,6 +87,7 @@ public class MainTab extends RilMainTab {
 		}
 				
 		config.setAttribute(ATTR_STANDALONE_TIME_RATIO,new Double(fStandAloneTimeRatio.getSelection()/1000.0).toString());
+		config.setAttribute(ATTR_STANDALONE_SKIP_AHEAD, fStandAloneSkipAhead.getSelection());
 
 	}
 	
@@ -115,6 +119,8 @@ public class MainTab extends RilMainTab {
 		TimeUnit standAloneEndTimeUnit = TimeUnit.valueOf(config.getAttribute(ATTR_STANDALONE_END_TIME_UNIT, TimeUnit.SECONDS.toString()));
 		final ISelection standAloneEndTimeUnitSelection = new StructuredSelection(standAloneEndTimeUnit);
 		fStandAloneEndTimeCombo.setSelection(standAloneEndTimeUnitSelection);
+
+		fStandAloneSkipAhead.setSelection(config.getAttribute(ATTR_STANDALONE_SKIP_AHEAD, false));
 		} catch (CoreException e) {
 			Activator.getDefault().log("Cannot set stand alone parameters: ", e);
 		}
@@ -186,6 +192,10 @@ public class MainTab extends RilMainTab {
 					updateLaunchConfigurationDialog();
 				}
 			});
+
+			// one more round trip per step: off by default
+			fStandAloneSkipAhead = SWTFactory.createCheckButton(group, "Skip idle steps (up to the next application wakeup)", null, false, 3);
+			fStandAloneSkipAhead.addSelectionListener(getDefaultListener());
 		}
 	}
 }
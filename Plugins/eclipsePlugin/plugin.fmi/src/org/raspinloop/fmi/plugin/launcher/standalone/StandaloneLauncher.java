@@ -105,6 +105,7 @@ public class StandaloneLauncher extends Launcher {
 			}};
 			
 			TimeSequencerProxy proxy = new TimeSequencerProxy(guid, stepIncrement, timeRatio, duration, proxyMonitor);
+			proxy.setSkipAhead(isSkipAhead(configuration));
 			@SuppressWarnings("unused")
 			StandaloneProxyRunnerJob standaloneProxyRunnerFMIJob = new StandaloneProxyRunnerJob(proxy, vmRunner);
 			Job job = Job.create("Standalone FMI", new ICoreRunnable() {
@@ -164,4 +165,8 @@ public class StandaloneLauncher extends Launcher {
 		return Double.parseDouble(configuration.getAttribute(RilMainTab.ATTR_STANDALONE_TIME_RATIO, "1"));
 	}
 
+	private boolean isSkipAhead(ILaunchConfiguration configuration) throws CoreException {
+		return configuration.getAttribute(RilMainTab.ATTR_STANDALONE_SKIP_AHEAD, false);
+	}
+
 }